@@ -0,0 +1,8 @@
+@echo off
+echo Running example plugin benchmarks...
+call ./gradlew.bat jmh %*
+if %ERRORLEVEL% EQU 0 (
+    echo Benchmarks complete! Results located at: build\results\jmh\
+) else (
+    echo Benchmarks failed!
+)
@@ -0,0 +1,87 @@
+package hytale.examples.benchmarks;
+
+import com.hypixel.hytale.server.core.Message;
+import com.hypixel.hytale.server.core.universe.PlayerRef;
+import hytale.examples.commands.Broadcast;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code /announce}: one chat message to every player, sent one {@code sendMessage} at a
+ * time against {@link Broadcast}. Read {@code gc.alloc.rate.norm} as bytes allocated per
+ * broadcast; with {@link Broadcast} it should stay flat as {@code recipients} grows, except
+ * for the per-player placeholder case.
+ *
+ * <p>The gap between {@link #sendEach()} and {@link #broadcast()} rests on an assumption
+ * built into the stubs: the stub {@code PlayerRef.sendMessage} encodes a new packet on every
+ * call, while {@code CachedPacket} encodes once. That is how the server is understood to
+ * behave, but this benchmark does not measure the server; it shows what {@link Broadcast}
+ * costs on top of one encoding (splitting the template, resolving placeholders, grouping
+ * recipients), and how that grows with {@code recipients}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BroadcastBenchmark {
+
+    private static final String TEXT = "[Announcement] Server restarts in 5 minutes - finish what you are building";
+    private static final String COLOR = "#FFD700";
+
+    @Param({"10", "100", "1000"})
+    public int recipients;
+
+    private List<PlayerRef> players;
+
+    @Setup
+    public void setup() {
+        players = new ArrayList<>(recipients);
+        for (int i = 0; i < recipients; i++) {
+            players.add(new PlayerRef(new UUID(0, i), "Player" + i));
+        }
+    }
+
+    /**
+     * What commands do today: each recipient converts and encodes the message again.
+     */
+    @Benchmark
+    public int sendEach() {
+        Message message = Message.raw(TEXT).color(COLOR);
+        for (PlayerRef player : players) {
+            player.sendMessage(message);
+        }
+        return players.size();
+    }
+
+    @Benchmark
+    public int broadcast() {
+        return Broadcast.send(Message.raw(TEXT).color(COLOR), players).recipients();
+    }
+
+    /**
+     * A template without per-player placeholders still encodes once.
+     */
+    @Benchmark
+    public int broadcastTemplate() {
+        return Broadcast.send(TEXT, text -> Message.raw(text).color(COLOR), players).encodings();
+    }
+
+    /**
+     * {@code {player}} resolves differently for everyone, so this should match {@link #sendEach()}.
+     */
+    @Benchmark
+    public int broadcastPerPlayer() {
+        return Broadcast.send("Restarting in 5 minutes, " + Broadcast.PLAYER + "!",
+            text -> Message.raw(text).color(COLOR), players).encodings();
+    }
+}
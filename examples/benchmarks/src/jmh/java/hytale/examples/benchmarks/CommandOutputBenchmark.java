@@ -0,0 +1,106 @@
+package hytale.examples.benchmarks;
+
+import com.hypixel.hytale.server.core.Message;
+import com.hypixel.hytale.server.core.universe.PlayerRef;
+import hytale.examples.shared.CommandOutput;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Command replies built by concatenation and {@code String.format}, one message per line,
+ * against the same replies built with {@link CommandOutput} and sent as one message. Read
+ * {@code gc.alloc.rate.norm} as bytes allocated per reply, including encoding the chat
+ * packets.
+ *
+ * <p>Setup fails the run if {@link CommandOutput} formats a value differently from the
+ * code it replaced.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CommandOutputBenchmark {
+
+    private PlayerRef player;
+    private int tick;
+
+    @Setup
+    public void setup() {
+        player = new PlayerRef(UUID.randomUUID(), "bench");
+        verifyFormatting();
+    }
+
+    /**
+     * {@code /inspect} before: six lines, six messages.
+     */
+    @Benchmark
+    public long inspectConcatenated() {
+        int hotbar = 10 + (tick++ & 31);
+        player.sendMessage(Message.raw("Held item: " + "Weapon_Sword_Iron" + " x" + 1));
+        player.sendMessage(Message.raw("Active hotbar slot: " + (tick & 7)));
+        player.sendMessage(Message.raw("Hotbar: " + 7 + "/" + 9 + " slots, " + hotbar + " total items"));
+        player.sendMessage(Message.raw("Storage: " + 21 + "/" + 36 + " slots, " + 640 + " total items"));
+        player.sendMessage(Message.raw("Armor: " + 3 + "/" + 4 + " slots equipped"));
+        player.sendMessage(Message.raw("Total items (hotbar + storage): " + (hotbar + 640)));
+        return player.getPacketHandler().getWrittenBytes();
+    }
+
+    /**
+     * {@code /inspect} after: the same six lines in one message.
+     */
+    @Benchmark
+    public long inspectCommandOutput() {
+        int hotbar = 10 + (tick++ & 31);
+        CommandOutput.start()
+            .line("Held item: ").append("Weapon_Sword_Iron").append(" x").append(1)
+            .line("Active hotbar slot: ").append(tick & 7)
+            .line("Hotbar: ").append(7).append('/').append(9).append(" slots, ").append(hotbar).append(" total items")
+            .line("Storage: ").append(21).append('/').append(36).append(" slots, ").append(640).append(" total items")
+            .line("Armor: ").append(3).append('/').append(4).append(" slots equipped")
+            .line("Total items (hotbar + storage): ").append(hotbar + 640)
+            .send(player);
+        return player.getPacketHandler().getWrittenBytes();
+    }
+
+    /**
+     * {@code /tp} before: the position through {@code String.format}.
+     */
+    @Benchmark
+    public long teleportFormat() {
+        double x = 100.25 + (tick++ & 63);
+        player.sendMessage(Message.raw("Teleported to " + String.format("%.1f, %.1f, %.1f", x, 64.0, -200.75)));
+        return player.getPacketHandler().getWrittenBytes();
+    }
+
+    @Benchmark
+    public long teleportCommandOutput() {
+        double x = 100.25 + (tick++ & 63);
+        CommandOutput.start().append("Teleported to ")
+            .append(x, 1).append(", ").append(64.0, 1).append(", ").append(-200.75, 1)
+            .send(player);
+        return player.getPacketHandler().getWrittenBytes();
+    }
+
+    private static void verifyFormatting() {
+        // Negative values rounding to zero are left out: CommandOutput drops the sign
+        double[] values = {0, 0.05, 1.25, -200.75, -3.5, 123456.789, 99.96, 1e-9};
+        for (double value : values) {
+            for (int decimals = 0; decimals <= 3; decimals++) {
+                String expected = String.format(Locale.ROOT, "%." + decimals + "f", value);
+                String actual = CommandOutput.start().append(value, decimals).toString();
+                if (!expected.equals(actual)) {
+                    throw new IllegalStateException(value + " at " + decimals + " decimals: expected "
+                        + expected + ", got " + actual);
+                }
+            }
+        }
+    }
+}
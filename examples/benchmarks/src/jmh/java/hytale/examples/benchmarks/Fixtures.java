@@ -0,0 +1,69 @@
+package hytale.examples.benchmarks;
+
+import com.hypixel.hytale.server.core.asset.type.item.config.Item;
+import com.hypixel.hytale.server.core.inventory.Inventory;
+import com.hypixel.hytale.server.core.inventory.ItemStack;
+import com.hypixel.hytale.server.core.inventory.container.ItemContainer;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Shared test data: a registry of stub items and inventories filled from it.
+ */
+final class Fixtures {
+
+    /** Registered item ids, in registration order. */
+    static final String[] ITEM_IDS;
+
+    static {
+        Item.Category[] categories = Item.Category.values();
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < 512; i++) {
+            Item.Category category = categories[i % categories.length];
+            int maxStack = category == Item.Category.WEAPON || category == Item.Category.TOOL
+                || category == Item.Category.ARMOR ? 1 : 100;
+            String id = category.name().charAt(0) + category.name().substring(1).toLowerCase() + "_" + i;
+            Item.register(new Item(id, maxStack, i % 6, category));
+            ids.add(id);
+        }
+        ITEM_IDS = ids.toArray(String[]::new);
+    }
+
+    private Fixtures() {
+    }
+
+    /**
+     * Fills every slot of the hotbar, storage and backpack with partial stacks drawn from
+     * {@code distinctItems} item ids, so sorting has stacks to merge.
+     */
+    static Inventory filledInventory(long seed, int distinctItems) {
+        Inventory inventory = new Inventory();
+        Random random = new Random(seed);
+        fill(inventory.getHotbar(), random, distinctItems);
+        fill(inventory.getStorage(), random, distinctItems);
+        fill(inventory.getBackpack(), random, distinctItems);
+        return inventory;
+    }
+
+    /**
+     * Shuffles the occupied slots of a container in place.
+     */
+    static void shuffle(ItemContainer container, Random random) {
+        List<ItemStack> stacks = container.removeAllItemStacks();
+        Collections.shuffle(stacks, random);
+        for (short slot = 0; slot < stacks.size(); slot++) {
+            container.setItemStackForSlot(slot, stacks.get(slot));
+        }
+    }
+
+    private static void fill(ItemContainer container, Random random, int distinctItems) {
+        for (short slot = 0; slot < container.getCapacity(); slot++) {
+            String id = ITEM_IDS[random.nextInt(distinctItems)];
+            int maxStack = Item.getAssetMap().getAsset(id).getMaxStack();
+            container.setItemStackForSlot(slot, new ItemStack(id, 1 + random.nextInt(maxStack)));
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package hytale.examples.benchmarks;
+
+import com.hypixel.hytale.server.core.inventory.Inventory;
+import com.hypixel.hytale.server.core.inventory.ItemStack;
+import com.hypixel.hytale.server.core.inventory.container.ItemContainer;
+import hytale.examples.inventory.InventoryArchive;
+import hytale.examples.inventory.InventorySnapshot;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code /inv-export} and {@code /inv-import}: writing and reading a whole server's worth
+ * of inventories through {@link InventoryArchive}.
+ *
+ * <p>Players cycle through a pool of distinct snapshots, so 100k players do not need 100k
+ * inventories in memory; the archive encodes each record independently either way.
+ * Setup checks that every pooled snapshot survives a round trip unchanged and that an
+ * unfinished file is rejected, and fails the run otherwise. That check fits in one mapped
+ * window; {@code InventoryArchiveTest} covers files spanning several.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class InventoryArchiveBenchmark {
+
+    private static final int POOL_SIZE = 256;
+
+    @Param({"10000", "100000"})
+    public int players;
+
+    private InventorySnapshot[] pool;
+    private Path directory;
+    private Path exportFile;
+    private Path importFile;
+
+    @Setup
+    public void setup() throws IOException {
+        Random random = new Random(42);
+        pool = new InventorySnapshot[POOL_SIZE];
+        for (int i = 0; i < POOL_SIZE; i++) {
+            Inventory inventory = Fixtures.filledInventory(i, 64);
+            damage(inventory.getHotbar(), random);
+            pool[i] = InventorySnapshot.capture(new UUID(random.nextLong(), random.nextLong()), "Player" + i, inventory);
+        }
+
+        directory = Files.createTempDirectory("inventory-archive");
+        exportFile = directory.resolve("export" + InventoryArchive.FILE_SUFFIX);
+        importFile = directory.resolve("import" + InventoryArchive.FILE_SUFFIX);
+        write(importFile, players);
+        verifyRoundTrip();
+        verifyUnfinishedRejected();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(exportFile);
+        Files.deleteIfExists(importFile);
+        Files.deleteIfExists(directory);
+    }
+
+    @Benchmark
+    public long export() throws IOException {
+        return write(exportFile, players);
+    }
+
+    @Benchmark
+    public int importAll(Blackhole blackhole) throws IOException {
+        int count = 0;
+        try (InventoryArchive.Reader reader = new InventoryArchive.Reader(importFile)) {
+            InventorySnapshot snapshot;
+            while ((snapshot = reader.next()) != null) {
+                blackhole.consume(snapshot);
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private long write(Path file, int count) throws IOException {
+        try (InventoryArchive.Writer writer = new InventoryArchive.Writer(file)) {
+            for (int i = 0; i < count; i++) {
+                writer.write(pool[i % POOL_SIZE]);
+            }
+            return writer.getStackCount();
+        }
+    }
+
+    private void verifyRoundTrip() throws IOException {
+        Path file = directory.resolve("verify" + InventoryArchive.FILE_SUFFIX);
+        write(file, POOL_SIZE);
+        try (InventoryArchive.Reader reader = new InventoryArchive.Reader(file)) {
+            if (reader.getPlayerCount() != POOL_SIZE) {
+                throw new IllegalStateException("Archive reports " + reader.getPlayerCount() + " players, wrote " + POOL_SIZE);
+            }
+            for (int i = 0; i < POOL_SIZE; i++) {
+                InventorySnapshot read = reader.next();
+                if (!pool[i].equals(read)) {
+                    throw new IllegalStateException("Player " + i + " did not survive the round trip");
+                }
+            }
+            if (reader.next() != null) {
+                throw new IllegalStateException("Archive has more players than were written");
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private void verifyUnfinishedRejected() throws IOException {
+        Path file = directory.resolve("unfinished" + InventoryArchive.FILE_SUFFIX);
+        InventoryArchive.Writer writer = new InventoryArchive.Writer(file);
+        writer.write(pool[0]);
+        try {
+            new InventoryArchive.Reader(file).close();
+            throw new IllegalStateException("Unfinished archive was accepted");
+        } catch (IOException expected) {
+            // Header has no end offset until close()
+        } finally {
+            writer.close();
+            Files.deleteIfExists(file);
+        }
+    }
+
+    /**
+     * Wears down every third stack, so durability goes through the archive too.
+     */
+    private static void damage(ItemContainer container, Random random) {
+        for (short slot = 0; slot < container.getCapacity(); slot += 3) {
+            ItemStack stack = container.getItemStack(slot);
+            if (!ItemStack.isEmpty(stack)) {
+                container.setItemStackForSlot(slot, stack.withDurability(random.nextInt(100) + 0.5));
+            }
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package hytale.examples.benchmarks;
+
+import com.hypixel.hytale.server.core.inventory.Inventory;
+import com.hypixel.hytale.server.core.inventory.ItemStack;
+import hytale.examples.inventory.InventorySection;
+import hytale.examples.inventory.InventorySummary;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code /inv-inspect} and item-count queries: the incremental {@link InventorySummary}
+ * against the full scan it replaced, plus the cost of keeping the summary current.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class InventorySummaryBenchmark {
+
+    private Inventory inventory;
+    private InventorySummary summary;
+    private String itemId;
+    private int slot;
+
+    @Setup
+    public void setup() {
+        inventory = Fixtures.filledInventory(42, 32);
+        summary = InventorySummary.track(inventory);
+        itemId = inventory.getStorage().getItemStack((short) 0).getItemId();
+    }
+
+    @Benchmark
+    public int countByScan() {
+        int[] total = new int[1];
+        for (InventorySection section : InventorySection.values()) {
+            section.getContainer(inventory).forEach((s, stack) -> {
+                if (!ItemStack.isEmpty(stack) && itemId.equals(stack.getItemId())) {
+                    total[0] += stack.getQuantity();
+                }
+            });
+        }
+        return total[0];
+    }
+
+    @Benchmark
+    public int countBySummary() {
+        return summary.getCount(itemId);
+    }
+
+    @Benchmark
+    public int inspectByScan() {
+        int occupied = 0;
+        for (InventorySection section : InventorySection.values()) {
+            int[] counts = new int[1];
+            section.getContainer(inventory).forEach((s, stack) -> {
+                if (!ItemStack.isEmpty(stack)) {
+                    counts[0]++;
+                }
+            });
+            occupied += counts[0];
+        }
+        return occupied;
+    }
+
+    @Benchmark
+    public int inspectBySummary() {
+        int occupied = 0;
+        for (InventorySection section : InventorySection.values()) {
+            occupied += summary.getOccupiedSlots(section);
+        }
+        return occupied;
+    }
+
+    /**
+     * One slot change, which fires the change listener and re-diffs the storage section.
+     */
+    @Benchmark
+    public int refreshOnSlotChange() {
+        short target = (short) (slot++ % inventory.getStorage().getCapacity());
+        ItemStack stack = inventory.getStorage().getItemStack(target);
+        inventory.getStorage().setItemStackForSlot(target, stack.withQuantity(stack.getQuantity() % 2 + 1));
+        return summary.getTotalQuantity(InventorySection.STORAGE);
+    }
+}
@@ -0,0 +1,71 @@
+package hytale.examples.benchmarks;
+
+import com.hypixel.hytale.server.core.inventory.Inventory;
+import com.hypixel.hytale.server.core.inventory.ItemStack;
+import hytale.examples.inventory.ItemCache;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The {@code /give} hot path: validating the item id, then building the stack and adding
+ * it to the inventory.
+ *
+ * <p>Cache misses and stack building go through the stub item registry, a plain hash map,
+ * so there is no baseline here for the server's own lookup; the scores are the cost of
+ * {@link ItemCache} and the add path, not a speedup over validating with a throwaway stack.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ItemLookupBenchmark {
+
+    private final ItemCache itemCache = new ItemCache();
+    private Inventory inventory;
+    private int next;
+
+    @Setup(Level.Iteration)
+    public void setup() {
+        itemCache.clear();
+        inventory = new Inventory();
+    }
+
+    @Benchmark
+    public boolean validateByCache() {
+        return itemCache.isValid(nextId());
+    }
+
+    @Benchmark
+    public boolean validateUnknownByCache() {
+        return itemCache.isValid("Not_An_Item");
+    }
+
+    /**
+     * Validate, build and add, clearing the inventory whenever it fills up.
+     */
+    @Benchmark
+    public ItemStack give() {
+        String itemId = nextId();
+        if (!itemCache.isValid(itemId)) {
+            return null;
+        }
+        ItemStack remainder = inventory.getCombinedHotbarFirst()
+            .addItemStack(new ItemStack(itemId, 1))
+            .getRemainder();
+        if (remainder != null) {
+            inventory.clear();
+        }
+        return remainder;
+    }
+
+    private String nextId() {
+        return Fixtures.ITEM_IDS[next++ & 63];
+    }
+}
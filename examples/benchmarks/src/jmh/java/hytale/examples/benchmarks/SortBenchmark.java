@@ -0,0 +1,60 @@
+package hytale.examples.benchmarks;
+
+import com.hypixel.hytale.server.core.inventory.Inventory;
+import com.hypixel.hytale.server.core.inventory.container.SortType;
+import hytale.examples.inventory.InventorySection;
+import hytale.examples.inventory.InventorySorter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code /sort}: {@link InventorySorter} on the storage section and on every sortable
+ * section. Each invocation starts from a freshly shuffled storage section, so the shuffle
+ * is included in the scores.
+ *
+ * <p>There is no {@code Inventory.sortStorage()} baseline: the stub's version is a stand-in,
+ * so comparing against it would measure stub code. {@code /sort-bench} compares the two on
+ * a live server.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class SortBenchmark {
+
+    @Param({"NAME", "TYPE", "RARITY"})
+    public SortType sortType;
+
+    /** Distinct items in the inventory; fewer means more stacks to merge. */
+    @Param({"8", "64"})
+    public int distinctItems;
+
+    private final Random random = new Random(7);
+    private Inventory inventory;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        inventory = Fixtures.filledInventory(42, distinctItems);
+    }
+
+    @Benchmark
+    public InventorySorter.Result sorterStorage() {
+        Fixtures.shuffle(inventory.getStorage(), random);
+        return InventorySorter.forCurrentThread().sort(inventory, sortType, InventorySection.STORAGE);
+    }
+
+    @Benchmark
+    public InventorySorter.Result sorterAllSections() {
+        Fixtures.shuffle(inventory.getStorage(), random);
+        return InventorySorter.forCurrentThread().sort(inventory, sortType, InventorySorter.SORTABLE);
+    }
+}
@@ -0,0 +1,56 @@
+package hytale.examples.benchmarks;
+
+import com.hypixel.hytale.server.core.universe.PlayerRef;
+import hytale.examples.ui.StatusHud;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link StatusHud#updateStats(int, int)} with values that change every call against values
+ * that never change, which should be suppressed without allocating.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class StatusHudBenchmark {
+
+    private StatusHud hud;
+    private int tick;
+
+    @Setup
+    public void setup() {
+        hud = new StatusHud(new PlayerRef(UUID.randomUUID(), "bench"));
+        hud.show();
+    }
+
+    @Benchmark
+    public long changingValues() {
+        tick++;
+        hud.updateStats(tick & 127, 100 - (tick & 63));
+        return hud.getSentUpdates();
+    }
+
+    @Benchmark
+    public long unchangedValues() {
+        hud.updateStats(80, 40);
+        return hud.getSentUpdates();
+    }
+
+    /**
+     * Health out of the pre-built label range, so each update concatenates a new label.
+     */
+    @Benchmark
+    public long uncachedLabels() {
+        tick++;
+        hud.updateStats(5000 + (tick & 127), 40);
+        return hud.getSentUpdates();
+    }
+}
@@ -0,0 +1,99 @@
+package hytale.examples.benchmarks;
+
+import com.hypixel.hytale.server.core.Message;
+import com.hypixel.hytale.server.core.universe.PlayerRef;
+import hytale.examples.shared.Translations;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Properties;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The {@code /give} reply built by concatenation, by looking the translation up and
+ * substituting its placeholders on every call, and through {@link Translations}, which
+ * parses each translation once per locale. Read {@code gc.alloc.rate.norm} as bytes
+ * allocated per reply, including encoding the chat packet.
+ *
+ * <p>Setup fails the run if the German reply does not come from {@code de-DE.lang}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TranslationsBenchmark {
+
+    private static final String LANG_ROOT = "hytale/examples/inventory/lang/";
+
+    private static final Translations.Key ADDED = new Translations.Key("inventory.give.added",
+        Translations.Param.number("count"), Translations.Param.text("item"));
+
+    private Translations translations;
+    private Properties english;
+    private PlayerRef player;
+    private PlayerRef germanPlayer;
+    private int tick;
+
+    @Setup
+    public void setup() throws Exception {
+        ClassLoader loader = TranslationsBenchmark.class.getClassLoader();
+        translations = new Translations(loader, LANG_ROOT,
+            Translations.DEFAULT_MAX_LOCALES, Translations.DEFAULT_IDLE_NANOS);
+        english = new Properties();
+        try (var in = loader.getResourceAsStream(LANG_ROOT + "en-US.lang")) {
+            english.load(in);
+        }
+        player = new PlayerRef(UUID.randomUUID(), "bench");
+        germanPlayer = new PlayerRef(UUID.randomUUID(), "bank", "de-DE");
+
+        String german = translations.format(germanPlayer, ADDED).arg(3).arg("Weapon_Sword_Iron").toText();
+        if (!german.equals("3x Weapon_Sword_Iron hinzugef\u00fcgt")) {
+            throw new IllegalStateException("Unexpected de-DE text: " + german);
+        }
+    }
+
+    /**
+     * What {@code /give} did before: English only.
+     */
+    @Benchmark
+    public long concatenated() {
+        int count = 1 + (tick++ & 63);
+        player.sendMessage(Message.raw("Added " + count + "x " + "Weapon_Sword_Iron"));
+        return player.getPacketHandler().getWrittenBytes();
+    }
+
+    /**
+     * Localized the simple way: look the text up and replace placeholders on every call.
+     */
+    @Benchmark
+    public long lookupAndReplace() {
+        int count = 1 + (tick++ & 63);
+        String text = english.getProperty(ADDED.getId())
+            .replace("{count}", Integer.toString(count))
+            .replace("{item}", "Weapon_Sword_Iron");
+        player.sendMessage(Message.raw(text));
+        return player.getPacketHandler().getWrittenBytes();
+    }
+
+    @Benchmark
+    public long translations() {
+        int count = 1 + (tick++ & 63);
+        translations.format(player, ADDED).arg(count).arg("Weapon_Sword_Iron").send(player);
+        return player.getPacketHandler().getWrittenBytes();
+    }
+
+    /**
+     * A non-default locale: same cost once its file is loaded.
+     */
+    @Benchmark
+    public long translationsGerman() {
+        int count = 1 + (tick++ & 63);
+        translations.format(germanPlayer, ADDED).arg(count).arg("Weapon_Sword_Iron").send(germanPlayer);
+        return germanPlayer.getPacketHandler().getWrittenBytes();
+    }
+}
@@ -0,0 +1,24 @@
+package com.hypixel.hytale.assetstore;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Benchmark stand-in for the server's {@code AssetMap}: a plain hash map of assets by key.
+ */
+public class AssetMap<K, T> {
+
+    private final Map<K, T> assets = new HashMap<>();
+
+    public T getAsset(K key) {
+        return assets.get(key);
+    }
+
+    public Map<K, T> getAssetMap() {
+        return assets;
+    }
+
+    public void put(K key, T asset) {
+        assets.put(key, asset);
+    }
+}
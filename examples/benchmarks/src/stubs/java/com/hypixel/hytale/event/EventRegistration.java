@@ -0,0 +1,25 @@
+package com.hypixel.hytale.event;
+
+/**
+ * Benchmark stand-in for the server's {@code EventRegistration}.
+ */
+public class EventRegistration<K, E> {
+
+    private final Runnable unregister;
+    private boolean registered = true;
+
+    public EventRegistration(Runnable unregister) {
+        this.unregister = unregister;
+    }
+
+    public boolean isRegistered() {
+        return registered;
+    }
+
+    public void unregister() {
+        if (registered) {
+            registered = false;
+            unregister.run();
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.hypixel.hytale.function.consumer;
+
+/**
+ * Benchmark stand-in for the server's {@code ShortObjectConsumer}.
+ */
+@FunctionalInterface
+public interface ShortObjectConsumer<T> {
+    void accept(short value, T object);
+}
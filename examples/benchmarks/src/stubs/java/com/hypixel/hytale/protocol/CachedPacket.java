@@ -0,0 +1,23 @@
+package com.hypixel.hytale.protocol;
+
+/**
+ * Benchmark stand-in for the server's {@code CachedPacket}: serializes the wrapped packet
+ * once and hands out the same bytes on every write.
+ */
+public final class CachedPacket<T extends Packet> implements Packet {
+
+    private final byte[] bytes;
+
+    private CachedPacket(byte[] bytes) {
+        this.bytes = bytes;
+    }
+
+    public static <T extends Packet> CachedPacket<T> cache(T packet) {
+        return new CachedPacket<>(packet.serialize());
+    }
+
+    @Override
+    public byte[] serialize() {
+        return bytes;
+    }
+}
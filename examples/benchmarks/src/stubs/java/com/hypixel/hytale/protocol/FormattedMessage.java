@@ -0,0 +1,15 @@
+package com.hypixel.hytale.protocol;
+
+/**
+ * Benchmark stand-in for the server's {@code FormattedMessage}: raw text and color only.
+ */
+public class FormattedMessage {
+
+    public String rawText;
+    public String color;
+
+    public FormattedMessage(String rawText, String color) {
+        this.rawText = rawText;
+        this.color = color;
+    }
+}
@@ -0,0 +1,10 @@
+package com.hypixel.hytale.protocol;
+
+/**
+ * Benchmark stand-in for the server's {@code Packet}.
+ */
+public interface Packet {
+
+    /** Stub only: the packet's wire bytes, in place of serializing into a Netty buffer. */
+    byte[] serialize();
+}
@@ -0,0 +1,8 @@
+package com.hypixel.hytale.protocol.packets.interface_;
+
+/**
+ * Benchmark stand-in for the server's {@code ChatType}.
+ */
+public enum ChatType {
+    Chat
+}
@@ -0,0 +1,42 @@
+package com.hypixel.hytale.protocol.packets.interface_;
+
+import com.hypixel.hytale.protocol.FormattedMessage;
+import com.hypixel.hytale.protocol.Packet;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Benchmark stand-in for the server's chat packet. {@link #serialize()} encodes the type,
+ * text and color as length-prefixed UTF-8 into a new array, as each write of an uncached
+ * packet does.
+ */
+public class ServerMessage implements Packet {
+
+    public ChatType type;
+    public FormattedMessage message;
+
+    public ServerMessage(ChatType type, FormattedMessage message) {
+        this.type = type;
+        this.message = message;
+    }
+
+    @Override
+    public byte[] serialize() {
+        byte[] text = message.rawText.getBytes(StandardCharsets.UTF_8);
+        byte[] color = message.color == null ? new byte[0] : message.color.getBytes(StandardCharsets.UTF_8);
+        byte[] bytes = new byte[1 + 4 + text.length + 4 + color.length];
+        bytes[0] = (byte) type.ordinal();
+        putInt(bytes, 1, text.length);
+        System.arraycopy(text, 0, bytes, 5, text.length);
+        putInt(bytes, 5 + text.length, color.length);
+        System.arraycopy(color, 0, bytes, 9 + text.length, color.length);
+        return bytes;
+    }
+
+    private static void putInt(byte[] bytes, int offset, int value) {
+        bytes[offset] = (byte) (value >>> 24);
+        bytes[offset + 1] = (byte) (value >>> 16);
+        bytes[offset + 2] = (byte) (value >>> 8);
+        bytes[offset + 3] = (byte) value;
+    }
+}
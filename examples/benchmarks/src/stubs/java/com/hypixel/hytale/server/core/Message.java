@@ -0,0 +1,34 @@
+package com.hypixel.hytale.server.core;
+
+import com.hypixel.hytale.protocol.FormattedMessage;
+
+/**
+ * Benchmark stand-in for the server's {@code Message}: plain text and a color, converted
+ * to a new {@link FormattedMessage} on every {@link #getFormattedMessage()} call.
+ */
+public class Message {
+
+    private final String rawText;
+    private String color;
+
+    private Message(String rawText) {
+        this.rawText = rawText;
+    }
+
+    public static Message raw(String text) {
+        return new Message(text);
+    }
+
+    public Message color(String hexColor) {
+        color = hexColor;
+        return this;
+    }
+
+    public String getRawText() {
+        return rawText;
+    }
+
+    public FormattedMessage getFormattedMessage() {
+        return new FormattedMessage(rawText, color);
+    }
+}
@@ -0,0 +1,82 @@
+package com.hypixel.hytale.server.core.asset.type.item.config;
+
+import com.hypixel.hytale.assetstore.AssetMap;
+
+/**
+ * Benchmark stand-in for the server's {@code Item} asset. Only the properties the example
+ * plugins read are modelled; register items with {@link #register(Item)}.
+ */
+public class Item {
+
+    private static final AssetMap<String, Item> ASSETS = new AssetMap<>();
+
+    public static final Item UNKNOWN = new Item("Unknown", 1, 0, Category.OTHER);
+
+    /** Which equipment getter returns non-null, mirroring the real item's sub-configs. */
+    public enum Category { WEAPON, TOOL, ARMOR, UTILITY, CONSUMABLE, BLOCK, OTHER }
+
+    private final String id;
+    private final int maxStack;
+    private final int qualityIndex;
+    private final Category category;
+
+    public Item(String id, int maxStack, int qualityIndex, Category category) {
+        this.id = id;
+        this.maxStack = maxStack;
+        this.qualityIndex = qualityIndex;
+        this.category = category;
+    }
+
+    public static AssetMap<String, Item> getAssetMap() {
+        return ASSETS;
+    }
+
+    public static Item register(Item item) {
+        ASSETS.put(item.id, item);
+        return item;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public int getMaxStack() {
+        return maxStack;
+    }
+
+    public int getQualityIndex() {
+        return qualityIndex;
+    }
+
+    public double getMaxDurability() {
+        return category == Category.WEAPON || category == Category.TOOL ? 100 : 0;
+    }
+
+    public Object getWeapon() {
+        return category == Category.WEAPON ? category : null;
+    }
+
+    public Object getTool() {
+        return category == Category.TOOL ? category : null;
+    }
+
+    public Object getArmor() {
+        return category == Category.ARMOR ? category : null;
+    }
+
+    public Object getUtility() {
+        return category == Category.UTILITY ? category : null;
+    }
+
+    public Object getGlider() {
+        return null;
+    }
+
+    public boolean isConsumable() {
+        return category == Category.CONSUMABLE;
+    }
+
+    public boolean hasBlockType() {
+        return category == Category.BLOCK;
+    }
+}
@@ -0,0 +1,39 @@
+package com.hypixel.hytale.server.core.entity.entities.player.hud;
+
+import com.hypixel.hytale.server.core.ui.builder.UICommandBuilder;
+import com.hypixel.hytale.server.core.universe.PlayerRef;
+
+/**
+ * Benchmark stand-in for the server's {@code CustomUIHud}. {@link #update} counts the
+ * commands that would have been sent instead of sending a packet.
+ */
+public abstract class CustomUIHud {
+
+    private final PlayerRef playerRef;
+    private long sentCommands;
+
+    protected CustomUIHud(PlayerRef playerRef) {
+        this.playerRef = playerRef;
+    }
+
+    protected abstract void build(UICommandBuilder cmd);
+
+    public void show() {
+        UICommandBuilder cmd = new UICommandBuilder();
+        build(cmd);
+        sentCommands += cmd.size();
+    }
+
+    public void update(boolean clear, UICommandBuilder cmd) {
+        sentCommands += cmd.size();
+    }
+
+    public PlayerRef getPlayerRef() {
+        return playerRef;
+    }
+
+    /** Stub only: total UI commands passed to build/update, so results cannot be optimized away. */
+    public long getSentCommands() {
+        return sentCommands;
+    }
+}
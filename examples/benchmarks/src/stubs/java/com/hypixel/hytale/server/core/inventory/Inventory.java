@@ -0,0 +1,56 @@
+package com.hypixel.hytale.server.core.inventory;
+
+import com.hypixel.hytale.server.core.inventory.container.CombinedItemContainer;
+import com.hypixel.hytale.server.core.inventory.container.ItemContainer;
+
+/**
+ * Benchmark stand-in for the server's player {@code Inventory}, with the default
+ * section sizes.
+ */
+public class Inventory {
+
+    private final ItemContainer hotbar = new ItemContainer((short) 9);
+    private final ItemContainer storage = new ItemContainer((short) 36);
+    private final ItemContainer armor = new ItemContainer((short) 4);
+    private final ItemContainer utility = new ItemContainer((short) 4);
+    private final ItemContainer tools = new ItemContainer((short) 4);
+    private final ItemContainer backpack = new ItemContainer((short) 18);
+    private final CombinedItemContainer hotbarFirst = new CombinedItemContainer(hotbar, storage);
+
+    public ItemContainer getHotbar() {
+        return hotbar;
+    }
+
+    public ItemContainer getStorage() {
+        return storage;
+    }
+
+    public ItemContainer getArmor() {
+        return armor;
+    }
+
+    public ItemContainer getUtility() {
+        return utility;
+    }
+
+    public ItemContainer getTools() {
+        return tools;
+    }
+
+    public ItemContainer getBackpack() {
+        return backpack;
+    }
+
+    public CombinedItemContainer getCombinedHotbarFirst() {
+        return hotbarFirst;
+    }
+
+    public void clear() {
+        hotbar.clear();
+        storage.clear();
+        armor.clear();
+        utility.clear();
+        tools.clear();
+        backpack.clear();
+    }
+}
@@ -0,0 +1,79 @@
+package com.hypixel.hytale.server.core.inventory;
+
+import com.hypixel.hytale.server.core.asset.type.item.config.Item;
+
+import java.util.Objects;
+
+/**
+ * Benchmark stand-in for the server's immutable {@code ItemStack}. Like the real class,
+ * the constructor looks the item up in the asset map.
+ */
+public class ItemStack {
+
+    private final String itemId;
+    private final int quantity;
+    private final double durability;
+    private final Item item;
+
+    public ItemStack(String itemId, int quantity) {
+        this(itemId, quantity, -1);
+    }
+
+    private ItemStack(String itemId, int quantity, double durability) {
+        this.itemId = itemId;
+        this.quantity = quantity;
+        Item found = Item.getAssetMap().getAsset(itemId);
+        this.item = found != null ? found : Item.UNKNOWN;
+        this.durability = durability >= 0 ? durability : item.getMaxDurability();
+    }
+
+    public String getItemId() {
+        return itemId;
+    }
+
+    public int getQuantity() {
+        return quantity;
+    }
+
+    public Item getItem() {
+        return item;
+    }
+
+    public double getDurability() {
+        return durability;
+    }
+
+    public double getMaxDurability() {
+        return item.getMaxDurability();
+    }
+
+    public boolean isEmpty() {
+        return quantity <= 0;
+    }
+
+    public static boolean isEmpty(ItemStack stack) {
+        return stack == null || stack.isEmpty();
+    }
+
+    public ItemStack withQuantity(int quantity) {
+        return new ItemStack(itemId, quantity, durability);
+    }
+
+    public ItemStack withDurability(double durability) {
+        return new ItemStack(itemId, quantity, durability);
+    }
+
+    public boolean isStackableWith(ItemStack other) {
+        return other != null && itemId.equals(other.itemId) && durability == other.durability;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof ItemStack other && quantity == other.quantity && isStackableWith(other);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(itemId, quantity, durability);
+    }
+}
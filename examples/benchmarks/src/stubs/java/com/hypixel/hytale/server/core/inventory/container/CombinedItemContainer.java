@@ -0,0 +1,53 @@
+package com.hypixel.hytale.server.core.inventory.container;
+
+import com.hypixel.hytale.server.core.inventory.ItemStack;
+import com.hypixel.hytale.server.core.inventory.transaction.ItemStackTransaction;
+
+import java.util.List;
+
+/**
+ * Benchmark stand-in for the server's {@code CombinedItemContainer}: fills its containers
+ * in order.
+ */
+public class CombinedItemContainer extends ItemContainer {
+
+    private final ItemContainer[] containers;
+
+    public CombinedItemContainer(ItemContainer... containers) {
+        super((short) 0);
+        this.containers = containers;
+    }
+
+    @Override
+    public ItemStackTransaction addItemStack(ItemStack stack) {
+        ItemStack remainder = stack;
+        for (ItemContainer container : containers) {
+            remainder = container.add(remainder);
+            container.changed();
+            if (remainder == null) {
+                break;
+            }
+        }
+        return new ItemStackTransaction(remainder);
+    }
+
+    @Override
+    public ItemStackTransaction addItemStacksOrdered(List<ItemStack> stacks) {
+        int placed = 0;
+        for (ItemContainer container : containers) {
+            placed = container.fill(stacks, placed);
+            container.changed();
+            if (placed == stacks.size()) {
+                return new ItemStackTransaction(null);
+            }
+        }
+        return new ItemStackTransaction(stacks.get(placed));
+    }
+
+    @Override
+    public void clear() {
+        for (ItemContainer container : containers) {
+            container.clear();
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.hypixel.hytale.server.core.inventory.container;
+
+import com.hypixel.hytale.event.EventRegistration;
+import com.hypixel.hytale.function.consumer.ShortObjectConsumer;
+import com.hypixel.hytale.server.core.inventory.ItemStack;
+import com.hypixel.hytale.server.core.inventory.transaction.ItemStackTransaction;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Benchmark stand-in for the server's {@code ItemContainer}: an array of slots that fires
+ * a change event after every mutation, like the real container.
+ */
+public class ItemContainer {
+
+    private final ItemStack[] slots;
+    private final List<Consumer<ItemContainerChangeEvent>> listeners = new ArrayList<>();
+
+    public ItemContainer(short capacity) {
+        slots = new ItemStack[capacity];
+    }
+
+    public short getCapacity() {
+        return (short) slots.length;
+    }
+
+    public ItemStack getItemStack(short slot) {
+        return slots[slot];
+    }
+
+    public void setItemStackForSlot(short slot, ItemStack stack) {
+        slots[slot] = ItemStack.isEmpty(stack) ? null : stack;
+        changed();
+    }
+
+    public ItemStackTransaction addItemStack(ItemStack stack) {
+        ItemStack remainder = add(stack);
+        changed();
+        return new ItemStackTransaction(remainder);
+    }
+
+    public ItemStackTransaction addItemStacksOrdered(List<ItemStack> stacks) {
+        int placed = fill(stacks, 0);
+        changed();
+        return new ItemStackTransaction(placed < stacks.size() ? stacks.get(placed) : null);
+    }
+
+    public List<ItemStack> removeAllItemStacks() {
+        List<ItemStack> removed = new ArrayList<>();
+        for (int i = 0; i < slots.length; i++) {
+            if (slots[i] != null) {
+                removed.add(slots[i]);
+                slots[i] = null;
+            }
+        }
+        changed();
+        return removed;
+    }
+
+    public void clear() {
+        Arrays.fill(slots, null);
+        changed();
+    }
+
+    public void forEach(ShortObjectConsumer<ItemStack> consumer) {
+        for (short i = 0; i < slots.length; i++) {
+            if (slots[i] != null) {
+                consumer.accept(i, slots[i]);
+            }
+        }
+    }
+
+    public EventRegistration<?, ?> registerChangeEvent(Consumer<ItemContainerChangeEvent> handler) {
+        listeners.add(handler);
+        return new EventRegistration<>(() -> listeners.remove(handler));
+    }
+
+    /**
+     * Merges into matching partial stacks first, then fills empty slots.
+     *
+     * @return what did not fit, or null
+     */
+    ItemStack add(ItemStack stack) {
+        int remaining = stack.getQuantity();
+        int maxStack = stack.getItem().getMaxStack();
+        for (int i = 0; i < slots.length && remaining > 0; i++) {
+            ItemStack existing = slots[i];
+            if (existing != null && existing.isStackableWith(stack) && existing.getQuantity() < maxStack) {
+                int moved = Math.min(remaining, maxStack - existing.getQuantity());
+                slots[i] = existing.withQuantity(existing.getQuantity() + moved);
+                remaining -= moved;
+            }
+        }
+        for (int i = 0; i < slots.length && remaining > 0; i++) {
+            if (slots[i] == null) {
+                int moved = Math.min(remaining, maxStack);
+                slots[i] = stack.withQuantity(moved);
+                remaining -= moved;
+            }
+        }
+        return remaining > 0 ? stack.withQuantity(remaining) : null;
+    }
+
+    /**
+     * Puts {@code stacks[from..]} into empty slots in order.
+     *
+     * @return the index of the first stack that did not fit
+     */
+    int fill(List<ItemStack> stacks, int from) {
+        int slot = 0;
+        int next = from;
+        while (next < stacks.size()) {
+            while (slot < slots.length && slots[slot] != null) {
+                slot++;
+            }
+            if (slot == slots.length) {
+                break;
+            }
+            slots[slot] = stacks.get(next++);
+        }
+        return next;
+    }
+
+    void changed() {
+        if (!listeners.isEmpty()) {
+            ItemContainerChangeEvent event = new ItemContainerChangeEvent(this, null);
+            for (Consumer<ItemContainerChangeEvent> listener : listeners) {
+                listener.accept(event);
+            }
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.hypixel.hytale.server.core.inventory.container;
+
+/**
+ * Benchmark stand-in for the server's {@code ItemContainerChangeEvent}.
+ */
+public record ItemContainerChangeEvent(ItemContainer container, Object transaction) {
+}
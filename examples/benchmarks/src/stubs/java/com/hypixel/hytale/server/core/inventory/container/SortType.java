@@ -0,0 +1,24 @@
+package com.hypixel.hytale.server.core.inventory.container;
+
+import com.hypixel.hytale.server.core.inventory.ItemStack;
+
+import java.util.Comparator;
+
+/**
+ * Benchmark stand-in for the server's {@code SortType}.
+ */
+public enum SortType {
+    NAME(Comparator.comparing(ItemStack::getItemId)),
+    TYPE(Comparator.comparing((ItemStack stack) -> stack.getItem().hasBlockType()).thenComparing(ItemStack::getItemId)),
+    RARITY(Comparator.comparingInt((ItemStack stack) -> -stack.getItem().getQualityIndex()).thenComparing(ItemStack::getItemId));
+
+    private final Comparator<ItemStack> comparator;
+
+    SortType(Comparator<ItemStack> comparator) {
+        this.comparator = comparator;
+    }
+
+    public Comparator<ItemStack> getComparator() {
+        return comparator;
+    }
+}
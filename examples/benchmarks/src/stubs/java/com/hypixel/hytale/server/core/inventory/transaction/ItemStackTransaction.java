@@ -0,0 +1,19 @@
+package com.hypixel.hytale.server.core.inventory.transaction;
+
+import com.hypixel.hytale.server.core.inventory.ItemStack;
+
+/**
+ * Benchmark stand-in for the server's {@code ItemStackTransaction}.
+ */
+public class ItemStackTransaction {
+
+    private final ItemStack remainder;
+
+    public ItemStackTransaction(ItemStack remainder) {
+        this.remainder = remainder;
+    }
+
+    public ItemStack getRemainder() {
+        return remainder;
+    }
+}
@@ -0,0 +1,27 @@
+package com.hypixel.hytale.server.core.io;
+
+import com.hypixel.hytale.protocol.Packet;
+
+/**
+ * Benchmark stand-in for the server's {@code PacketHandler}: copies each written packet's
+ * bytes into a reusable outbound buffer instead of a socket.
+ */
+public class PacketHandler {
+
+    private byte[] outbound = new byte[256];
+    private long writtenBytes;
+
+    public void write(Packet packet) {
+        byte[] bytes = packet.serialize();
+        if (bytes.length > outbound.length) {
+            outbound = new byte[Math.max(bytes.length, outbound.length * 2)];
+        }
+        System.arraycopy(bytes, 0, outbound, 0, bytes.length);
+        writtenBytes += bytes.length;
+    }
+
+    /** Stub only: total bytes written, so results cannot be optimized away. */
+    public long getWrittenBytes() {
+        return writtenBytes;
+    }
+}
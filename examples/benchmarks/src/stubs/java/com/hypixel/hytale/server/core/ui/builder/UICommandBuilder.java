@@ -0,0 +1,42 @@
+package com.hypixel.hytale.server.core.ui.builder;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Benchmark stand-in for the server's {@code UICommandBuilder}: records commands in a list
+ * so allocation per command is comparable to the real builder.
+ */
+public class UICommandBuilder {
+
+    private final List<Object[]> commands = new ArrayList<>();
+
+    public UICommandBuilder append(String document) {
+        commands.add(new Object[] {"append", document});
+        return this;
+    }
+
+    public UICommandBuilder append(String selector, String document) {
+        commands.add(new Object[] {"append", selector, document});
+        return this;
+    }
+
+    public UICommandBuilder set(String selector, String value) {
+        commands.add(new Object[] {"set", selector, value});
+        return this;
+    }
+
+    public UICommandBuilder set(String selector, int value) {
+        commands.add(new Object[] {"set", selector, value});
+        return this;
+    }
+
+    public UICommandBuilder set(String selector, boolean value) {
+        commands.add(new Object[] {"set", selector, value});
+        return this;
+    }
+
+    public int size() {
+        return commands.size();
+    }
+}
@@ -0,0 +1,58 @@
+package com.hypixel.hytale.server.core.universe;
+
+import com.hypixel.hytale.protocol.packets.interface_.ChatType;
+import com.hypixel.hytale.protocol.packets.interface_.ServerMessage;
+import com.hypixel.hytale.server.core.Message;
+import com.hypixel.hytale.server.core.io.PacketHandler;
+
+import java.util.UUID;
+
+/**
+ * Benchmark stand-in for the server's {@code PlayerRef}. {@link #sendMessage} writes a new
+ * chat packet for the message on each call. This is assumed to match the server, not
+ * measured against it, and is what makes {@code Broadcast} cheaper in the benchmarks.
+ */
+public class PlayerRef {
+
+    private final UUID uuid;
+    private final String username;
+    private final String language;
+    private final PacketHandler packetHandler = new PacketHandler();
+
+    public PlayerRef(UUID uuid, String username) {
+        this(uuid, username, "en-US");
+    }
+
+    /**
+     * Stub only: lets benchmarks give players different languages.
+     */
+    public PlayerRef(UUID uuid, String username, String language) {
+        this.uuid = uuid;
+        this.username = username;
+        this.language = language;
+    }
+
+    public UUID getUuid() {
+        return uuid;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public String getLanguage() {
+        return language;
+    }
+
+    public PacketHandler getPacketHandler() {
+        return packetHandler;
+    }
+
+    public void sendMessage(Message message) {
+        packetHandler.write(new ServerMessage(ChatType.Chat, message.getFormattedMessage()));
+    }
+
+    public boolean isValid() {
+        return true;
+    }
+}
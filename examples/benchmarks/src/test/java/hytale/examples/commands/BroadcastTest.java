@@ -0,0 +1,53 @@
+package hytale.examples.commands;
+
+import com.hypixel.hytale.server.core.Message;
+import com.hypixel.hytale.server.core.universe.PlayerRef;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Placeholder resolution in {@link Broadcast#send(String, Map, Function, Iterable)}.
+ */
+class BroadcastTest {
+
+    private static final Map<String, Function<PlayerRef, String>> PLACEHOLDERS =
+        Map.of("{name}", player -> "Steve", Broadcast.PLAYER, PlayerRef::getUsername);
+
+    private final List<PlayerRef> players = List.of(new PlayerRef(new UUID(0, 1), "Alex"));
+
+    @Test
+    void placeholderAfterUnmatchedBrace() {
+        assertEquals(List.of("{ Steve"), send("{ {name}"));
+        assertEquals(List.of("{a {b} Alex!"), send("{a {b} {player}!"));
+    }
+
+    @Test
+    void unknownAndUnclosedBracesStayLiteral() {
+        assertEquals(List.of("{x} Steve {"), send("{x} {name} {"));
+        assertEquals(List.of("no placeholders {here}"), send("no placeholders {here}"));
+    }
+
+    @Test
+    void adjacentPlaceholders() {
+        assertEquals(List.of("SteveAlex"), send("{name}{player}"));
+    }
+
+    /**
+     * @return the resolved text of each message formatted
+     */
+    private List<String> send(String template) {
+        List<String> texts = new ArrayList<>();
+        Broadcast.send(template, PLACEHOLDERS, text -> {
+            texts.add(text);
+            return Message.raw(text);
+        }, players);
+        return texts;
+    }
+}
@@ -0,0 +1,98 @@
+package hytale.examples.inventory;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Round trips through {@link InventoryArchive} that are large enough to move the mapped
+ * windows, which the benchmark's small setup check never does.
+ *
+ * <p>In the same package as the archive so snapshots can be built directly, without an
+ * inventory.
+ */
+class InventoryArchiveTest {
+
+    private static final int POOL_SIZE = 97;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void roundTripAcrossWindows() throws IOException {
+        InventorySnapshot[] pool = pool(new Random(7));
+        Path file = directory.resolve("windows" + InventoryArchive.FILE_SUFFIX);
+
+        // Track where the writer's windows end, and count the records that run past one
+        int players = 0;
+        int crossings = 0;
+        try (InventoryArchive.Writer writer = new InventoryArchive.Writer(file)) {
+            long windowEnd = writer.getSize() + InventoryArchive.WINDOW_BYTES;
+            while (writer.getSize() < 2L * InventoryArchive.WINDOW_BYTES + 4096) {
+                long start = writer.getSize();
+                writer.write(pool[players % POOL_SIZE]);
+                players++;
+                if (writer.getSize() > windowEnd) {
+                    crossings++;
+                    windowEnd = start + InventoryArchive.WINDOW_BYTES;
+                }
+            }
+        }
+        assertTrue(crossings >= 2, "expected records spanning two window boundaries, got " + crossings);
+        assertTrue(Files.size(file) > 2L * InventoryArchive.WINDOW_BYTES);
+
+        try (InventoryArchive.Reader reader = new InventoryArchive.Reader(file)) {
+            assertEquals(players, reader.getPlayerCount());
+            for (int i = 0; i < players; i++) {
+                assertEquals(pool[i % POOL_SIZE], reader.next(), "player " + i);
+            }
+            assertNull(reader.next());
+        }
+    }
+
+    @Test
+    void unfinishedArchiveIsRejected() throws IOException {
+        Path file = directory.resolve("unfinished" + InventoryArchive.FILE_SUFFIX);
+        InventoryArchive.Writer writer = new InventoryArchive.Writer(file);
+        try {
+            writer.write(pool(new Random(1))[0]);
+            assertThrows(IOException.class, () -> new InventoryArchive.Reader(file).close());
+        } finally {
+            writer.close();
+        }
+    }
+
+    /**
+     * Snapshots of different sizes, so records do not line up with the window size.
+     */
+    private static InventorySnapshot[] pool(Random random) {
+        InventorySnapshot[] pool = new InventorySnapshot[POOL_SIZE];
+        for (int i = 0; i < POOL_SIZE; i++) {
+            InventorySnapshot snapshot = new InventorySnapshot(new UUID(random.nextLong(), random.nextLong()), "Player" + i);
+            for (InventorySection section : InventorySection.values()) {
+                int capacity = 9 + random.nextInt(40);
+                snapshot.setCapacity(section, capacity);
+                for (int slot = 0; slot < capacity; slot++) {
+                    if (random.nextInt(3) == 0) {
+                        continue;
+                    }
+                    double durability = random.nextInt(4) == 0
+                        ? random.nextDouble() * 100 : InventorySnapshot.DEFAULT_DURABILITY;
+                    snapshot.add(section, slot, "Item_" + random.nextInt(500), 1 + random.nextInt(64), durability);
+                }
+            }
+            pool[i] = snapshot;
+        }
+        return pool;
+    }
+}
@@ -0,0 +1,38 @@
+package hytale.examples.shared;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Placeholder parsing in {@link Translations} templates.
+ */
+class TranslationsTest {
+
+    private final Translations translations = new Translations(getClass().getClassLoader(),
+        "hytale/examples/shared/lang/", Translations.DEFAULT_MAX_LOCALES, Translations.DEFAULT_IDLE_NANOS);
+
+    @Test
+    void placeholderAfterUnmatchedBrace() {
+        assertEquals("{ 3", render("test.after_brace", 3));
+        assertEquals("{a {b} Alex!", translations.format("en-US",
+            new Translations.Key("test.unknown_then_param", Translations.Param.text("name"))).arg("Alex").toText());
+    }
+
+    @Test
+    void unknownAndUnclosedBracesStayLiteral() {
+        assertEquals("{x} 3 {", render("test.literal", 3));
+    }
+
+    @Test
+    void adjacentPlaceholders() {
+        Translations.Key key = new Translations.Key("test.adjacent",
+            Translations.Param.text("name"), Translations.Param.number("count"));
+        assertEquals("Alex3", translations.format("en-US", key).arg("Alex").arg(3).toText());
+    }
+
+    private String render(String id, long count) {
+        Translations.Key key = new Translations.Key(id, Translations.Param.number("count"));
+        return translations.format("en-US", key).arg(count).toText();
+    }
+}
@@ -0,0 +1,48 @@
+package hytale.examples.commands;
+
+import com.hypixel.hytale.component.Ref;
+import com.hypixel.hytale.component.Store;
+import com.hypixel.hytale.server.core.Message;
+import com.hypixel.hytale.server.core.command.system.CommandContext;
+import com.hypixel.hytale.server.core.command.system.arguments.system.RequiredArg;
+import com.hypixel.hytale.server.core.command.system.arguments.types.ArgTypes;
+import com.hypixel.hytale.server.core.universe.PlayerRef;
+import com.hypixel.hytale.server.core.universe.world.World;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+import hytale.examples.shared.TimedPlayerCommand;
+
+import java.util.List;
+
+/**
+ * Announce a message to every player in the world.
+ * Usage: /announce <message...>
+ * Examples:
+ *   /announce Server restarts in 5 minutes
+ *   /announce Good luck, {player}!
+ *
+ * The message is encoded once for all recipients by {@link Broadcast}; {@code {player}}
+ * is replaced with each recipient's name.
+ */
+public class AnnounceCommand extends TimedPlayerCommand {
+
+    private static final String COLOR = "#FFD700";
+
+    private final RequiredArg<List<String>> messageArg;
+
+    public AnnounceCommand() {
+        super("announce", "Announce a message to every player in the world");
+        requirePermission("hytale.examples.commands.announce");
+        messageArg = withListRequiredArg("message", "Text to announce, may contain {player}", ArgTypes.STRING);
+    }
+
+    @Override
+    protected void executeTimed(CommandContext ctx, Store<EntityStore> store,
+                               Ref<EntityStore> ref, PlayerRef playerRef, World world) {
+        String text = String.join(" ", ctx.get(messageArg));
+        Broadcast.Result result = Broadcast.send(text,
+            resolved -> Message.raw("[Announcement] " + resolved).color(COLOR), world.getPlayerRefs());
+
+        playerRef.sendMessage(Message.raw("Announced to " + result.recipients() + " players in "
+            + world.getName() + " (" + result.encodings() + " encoded)"));
+    }
+}
@@ -0,0 +1,143 @@
+package hytale.examples.commands;
+
+import com.hypixel.hytale.protocol.CachedPacket;
+import com.hypixel.hytale.protocol.Packet;
+import com.hypixel.hytale.protocol.packets.interface_.ChatType;
+import com.hypixel.hytale.protocol.packets.interface_.ServerMessage;
+import com.hypixel.hytale.server.core.Message;
+import com.hypixel.hytale.server.core.universe.PlayerRef;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Sends one chat message to many players, serializing it once.
+ *
+ * <p>{@code playerRef.sendMessage(message)} converts the {@link Message} to its wire form
+ * and encodes a new packet for every recipient, so an announcement to 500 players is
+ * encoded 500 times. {@link #send(Message, Iterable)} wraps the message in a single
+ * {@link CachedPacket}, whose bytes are encoded once and copied as-is into each
+ * recipient's connection.
+ *
+ * <p>Templates may contain placeholders such as {@value #PLAYER}, resolved per recipient.
+ * Recipients whose resolved text is the same share one encoding, so a template without
+ * per-player placeholders costs one encoding however many players receive it. Text
+ * containing {@code {player}} is unique to each recipient and is sent to them directly,
+ * costing the same as {@code sendMessage}.
+ *
+ * <p>Stateless; call from any thread that may send to the recipients.
+ */
+public final class Broadcast {
+
+    /** Placeholder for the recipient's username. */
+    public static final String PLAYER = "{player}";
+
+    /** Resolves {@link #PLAYER}; its values never repeat, so there is nothing to share. */
+    private static final Function<PlayerRef, String> USERNAME = PlayerRef::getUsername;
+
+    /** Placeholders understood by {@link #send(String, Function, Iterable)}. */
+    public static final Map<String, Function<PlayerRef, String>> DEFAULT_PLACEHOLDERS = Map.of(PLAYER, USERNAME);
+
+    private Broadcast() {
+    }
+
+    /**
+     * Outcome of a broadcast.
+     *
+     * @param recipients players the message was sent to
+     * @param encodings packets serialized to reach them
+     */
+    public record Result(int recipients, int encodings) {
+    }
+
+    /**
+     * Sends {@code message} to every valid recipient, encoding it once.
+     */
+    public static Result send(Message message, Iterable<PlayerRef> recipients) {
+        Packet packet = encode(message);
+        int sent = 0;
+        for (PlayerRef recipient : recipients) {
+            if (recipient.isValid()) {
+                recipient.getPacketHandler().write(packet);
+                sent++;
+            }
+        }
+        return new Result(sent, 1);
+    }
+
+    /**
+     * Sends {@code template} with {@link #DEFAULT_PLACEHOLDERS} resolved per recipient.
+     *
+     * @param format turns the resolved text into a message, e.g. {@code Message::raw}
+     */
+    public static Result send(String template, Function<String, Message> format, Iterable<PlayerRef> recipients) {
+        return send(template, DEFAULT_PLACEHOLDERS, format, recipients);
+    }
+
+    /**
+     * Sends {@code template} with the given placeholders resolved per recipient. Text
+     * resolving the same for several recipients is formatted and encoded once.
+     *
+     * @param placeholders placeholder text, including braces, to the value for a recipient
+     * @param format turns the resolved text into a message, e.g. {@code Message::raw}
+     */
+    public static Result send(String template, Map<String, Function<PlayerRef, String>> placeholders,
+                              Function<String, Message> format, Iterable<PlayerRef> recipients) {
+        // Split once into literal text and placeholder lookups
+        List<String> literals = new ArrayList<>();
+        List<Function<PlayerRef, String>> values = new ArrayList<>();
+        int start = 0;
+        int open = template.indexOf('{');
+        while (open >= 0) {
+            int close = template.indexOf('}', open);
+            if (close < 0) {
+                break;
+            }
+            Function<PlayerRef, String> value = placeholders.get(template.substring(open, close + 1));
+            if (value != null) {
+                literals.add(template.substring(start, open));
+                values.add(value);
+                start = close + 1;
+                open = template.indexOf('{', start);
+            } else {
+                // Not a placeholder; one may still start inside it, as in "{ {player}"
+                open = template.indexOf('{', open + 1);
+            }
+        }
+        if (values.isEmpty()) {
+            return send(format.apply(template), recipients);
+        }
+        literals.add(template.substring(start));
+        boolean unique = values.contains(USERNAME);
+
+        Map<String, Packet> packets = new HashMap<>();
+        StringBuilder text = new StringBuilder(template.length() + 16);
+        int sent = 0;
+        for (PlayerRef recipient : recipients) {
+            if (!recipient.isValid()) {
+                continue;
+            }
+            text.setLength(0);
+            for (int i = 0; i < values.size(); i++) {
+                text.append(literals.get(i)).append(values.get(i).apply(recipient));
+            }
+            text.append(literals.get(values.size()));
+            sent++;
+
+            if (unique) {
+                recipient.sendMessage(format.apply(text.toString()));
+                continue;
+            }
+            Packet packet = packets.computeIfAbsent(text.toString(), resolved -> encode(format.apply(resolved)));
+            recipient.getPacketHandler().write(packet);
+        }
+        return new Result(sent, unique ? sent : packets.size());
+    }
+
+    private static Packet encode(Message message) {
+        return CachedPacket.cache(new ServerMessage(ChatType.Chat, message.getFormattedMessage()));
+    }
+}
@@ -0,0 +1,87 @@
+package hytale.examples.commands;
+
+import com.hypixel.hytale.math.util.ChunkUtil;
+import com.hypixel.hytale.math.vector.Vector3d;
+import com.hypixel.hytale.server.core.universe.world.World;
+import com.hypixel.hytale.server.core.universe.world.chunk.WorldChunk;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Loads the chunks around a destination before anything is moved there.
+ *
+ * <p>Chunks that are already loaded are skipped; the rest are requested with
+ * {@link World#getChunkAsync(long)}, which loads or generates them off the world thread.
+ * The returned future completes when all of them are ready or the timeout expires,
+ * whichever comes first, so a slow chunk never blocks the teleport forever.
+ */
+public class ChunkPrefetcher {
+
+    /** Default radius in chunks around the destination chunk (2 = a 5x5 area). */
+    public static final int DEFAULT_RADIUS = 2;
+
+    /** Default time to wait for chunks before teleporting anyway. */
+    public static final long DEFAULT_TIMEOUT_MILLIS = 5000;
+
+    /** Chunk width in blocks. */
+    private static final int CHUNK_SHIFT = 5;
+
+    /**
+     * Outcome of one prefetch, for logging and tuning the radius.
+     *
+     * @param requested chunks in the prefetch area
+     * @param loaded chunks that had to be loaded (the rest were already in memory)
+     * @param nanos time from request until ready or timed out
+     * @param timedOut true if the timeout expired before every chunk was ready
+     */
+    public record Result(int requested, int loaded, long nanos, boolean timedOut) {
+    }
+
+    private final int radius;
+    private final long timeoutMillis;
+
+    public ChunkPrefetcher(int radius, long timeoutMillis) {
+        this.radius = radius;
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    public int getRadius() {
+        return radius;
+    }
+
+    /**
+     * Requests every chunk within the radius of {@code position}.
+     *
+     * @return a future that completes (never exceptionally) once the area is loaded or
+     *         the timeout expires
+     */
+    public CompletableFuture<Result> prefetch(World world, Vector3d position) {
+        long start = System.nanoTime();
+        int centerX = (int) Math.floor(position.getX()) >> CHUNK_SHIFT;
+        int centerZ = (int) Math.floor(position.getZ()) >> CHUNK_SHIFT;
+        int requested = (2 * radius + 1) * (2 * radius + 1);
+
+        List<CompletableFuture<WorldChunk>> pending = new ArrayList<>();
+        for (int x = centerX - radius; x <= centerX + radius; x++) {
+            for (int z = centerZ - radius; z <= centerZ + radius; z++) {
+                long key = ChunkUtil.indexChunk(x, z);
+                if (world.getChunkIfLoaded(key) == null) {
+                    pending.add(world.getChunkAsync(key));
+                }
+            }
+        }
+
+        if (pending.isEmpty()) {
+            return CompletableFuture.completedFuture(new Result(requested, 0, System.nanoTime() - start, false));
+        }
+
+        int loaded = pending.size();
+        return CompletableFuture.allOf(pending.toArray(new CompletableFuture[0]))
+            .handle((ignored, error) -> false)
+            .completeOnTimeout(true, timeoutMillis, TimeUnit.MILLISECONDS)
+            .thenApply(timedOut -> new Result(requested, loaded, System.nanoTime() - start, timedOut));
+    }
+}
@@ -2,18 +2,86 @@ package hytale.examples.commands;
 
 import com.hypixel.hytale.server.core.plugin.JavaPlugin;
 import com.hypixel.hytale.server.core.plugin.JavaPluginInit;
+import hytale.examples.shared.PerfCommand;
+
+import java.io.IOException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 
 public class CommandsPlugin extends JavaPlugin {
 
+    /** How often changed waypoints are written to disk, in seconds. */
+    private static final long WAYPOINT_SAVE_INTERVAL_SECONDS = 300;
+
+    private static CommandsPlugin instance;
+
+    private final ChunkPrefetcher prefetcher =
+        new ChunkPrefetcher(ChunkPrefetcher.DEFAULT_RADIUS, ChunkPrefetcher.DEFAULT_TIMEOUT_MILLIS);
+    private final MassTeleporter teleporter = new MassTeleporter();
+    private WaypointStore waypoints;
+    private ScheduledExecutorService scheduler;
+
     public CommandsPlugin(JavaPluginInit init) {
         super(init);
+        instance = this;
     }
 
     @Override
     protected void setup() {
+        waypoints = new WaypointStore(getDataDirectory().resolve("waypoints"));
+
         getCommandRegistry().registerCommand(new HelloCommand());
-        getCommandRegistry().registerCommand(new TeleportCommand());
+        getCommandRegistry().registerCommand(new TeleportCommand(prefetcher, waypoints));
+        getCommandRegistry().registerCommand(new TeleportAllCommand(prefetcher, teleporter));
+        getCommandRegistry().registerCommand(new GatherCommand(teleporter));
+        getCommandRegistry().registerCommand(new WaypointCommand(waypoints));
+        getCommandRegistry().registerCommand(new PerfCommand("commands", "perf"));
+        getCommandRegistry().registerCommand(new AnnounceCommand());
+
+        // Write changed waypoints periodically, and once more on shutdown
+        scheduler = Executors.newSingleThreadScheduledExecutor();
+        @SuppressWarnings("unchecked")
+        ScheduledFuture<Void> save = (ScheduledFuture<Void>) scheduler.scheduleWithFixedDelay(this::saveWaypoints,
+            WAYPOINT_SAVE_INTERVAL_SECONDS, WAYPOINT_SAVE_INTERVAL_SECONDS, TimeUnit.SECONDS);
+        getTaskRegistry().registerTask(save);
 
         getLogger().atInfo().log("CommandsExample plugin loaded!");
     }
+
+    @Override
+    protected void shutdown() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+        saveWaypoints();
+    }
+
+    private void saveWaypoints() {
+        // Also runs on the scheduler, where an escaping exception would cancel every later save
+        try {
+            waypoints.saveDirty();
+        } catch (IOException | RuntimeException e) {
+            getLogger().atSevere().withCause(e).log("Could not save waypoints");
+        }
+    }
+
+    public static CommandsPlugin get() {
+        return instance;
+    }
+
+    /**
+     * Loads destination chunks ahead of teleports.
+     */
+    public ChunkPrefetcher getPrefetcher() {
+        return prefetcher;
+    }
+
+    /**
+     * Player waypoints for all worlds.
+     */
+    public WaypointStore getWaypoints() {
+        return waypoints;
+    }
 }
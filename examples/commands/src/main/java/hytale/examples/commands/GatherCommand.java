@@ -0,0 +1,58 @@
+package hytale.examples.commands;
+
+import com.hypixel.hytale.component.Ref;
+import com.hypixel.hytale.component.Store;
+import com.hypixel.hytale.math.vector.Vector3d;
+import com.hypixel.hytale.server.core.Message;
+import com.hypixel.hytale.server.core.command.system.CommandContext;
+import com.hypixel.hytale.server.core.command.system.arguments.system.DefaultArg;
+import com.hypixel.hytale.server.core.command.system.arguments.system.FlagArg;
+import com.hypixel.hytale.server.core.command.system.arguments.system.RequiredArg;
+import com.hypixel.hytale.server.core.command.system.arguments.types.ArgTypes;
+import com.hypixel.hytale.server.core.universe.PlayerRef;
+import com.hypixel.hytale.server.core.universe.world.World;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+import hytale.examples.shared.TimedPlayerCommand;
+
+/**
+ * Pull every entity within a radius to you.
+ * Usage: /gather <radius> [spread] [--players]
+ * Examples:
+ *   /gather 50 - Everything within 50 blocks
+ *   /gather 200 2 --players - Players within 200 blocks, about 2 blocks apart
+ */
+public class GatherCommand extends TimedPlayerCommand {
+
+    private static final double MAX_RADIUS = 4096;
+
+    private final MassTeleporter teleporter;
+    private final RequiredArg<Double> radiusArg;
+    private final DefaultArg<Double> spreadArg;
+    private final FlagArg playersArg;
+
+    public GatherCommand(MassTeleporter teleporter) {
+        super("gather", "Pull entities within a radius to you");
+        this.teleporter = teleporter;
+        requirePermission("hytale.examples.commands.gather");
+        radiusArg = withRequiredArg("radius", "Radius in blocks", ArgTypes.DOUBLE);
+        spreadArg = withDefaultArg("spread", "Blocks between gathered entities", ArgTypes.DOUBLE, 1.0, "1");
+        playersArg = withFlagArg("players", "Only gather players");
+    }
+
+    @Override
+    protected void executeTimed(CommandContext ctx, Store<EntityStore> store,
+                               Ref<EntityStore> ref, PlayerRef playerRef, World world) {
+        double radius = ctx.get(radiusArg);
+        if (radius <= 0 || radius > MAX_RADIUS) {
+            playerRef.sendMessage(Message.raw("Radius must be between 0 and " + (int) MAX_RADIUS));
+            return;
+        }
+
+        Vector3d center = playerRef.getTransform().getPosition();
+        MassTeleporter.Selection selection =
+            new MassTeleporter.Selection(center, radius, ctx.provided(playersArg), ref);
+
+        MassTeleporter.Result result = teleporter.teleport(world, store, selection, center, ctx.get(spreadArg));
+        TickTimer.report(world, playerRef, "Gathered " + result.moved() + " entities", result);
+    }
+}
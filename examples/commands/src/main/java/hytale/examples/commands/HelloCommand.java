@@ -4,24 +4,24 @@ import com.hypixel.hytale.component.Ref;
 import com.hypixel.hytale.component.Store;
 import com.hypixel.hytale.server.core.Message;
 import com.hypixel.hytale.server.core.command.system.CommandContext;
-import com.hypixel.hytale.server.core.command.system.basecommands.AbstractPlayerCommand;
 import com.hypixel.hytale.server.core.universe.PlayerRef;
 import com.hypixel.hytale.server.core.universe.world.World;
 import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+import hytale.examples.shared.TimedPlayerCommand;
 
 /**
  * Simplest possible command - no arguments, just sends a message.
  * Usage: /hello
  */
-public class HelloCommand extends AbstractPlayerCommand {
+public class HelloCommand extends TimedPlayerCommand {
 
     public HelloCommand() {
         super("hello", "Sends a friendly greeting");
     }
 
     @Override
-    protected void execute(CommandContext ctx, Store<EntityStore> store,
-                          Ref<EntityStore> ref, PlayerRef playerRef, World world) {
+    protected void executeTimed(CommandContext ctx, Store<EntityStore> store,
+                               Ref<EntityStore> ref, PlayerRef playerRef, World world) {
         playerRef.sendMessage(Message.raw("Hello, " + playerRef.getUsername() + "!"));
     }
 }
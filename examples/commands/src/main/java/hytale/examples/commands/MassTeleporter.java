@@ -0,0 +1,125 @@
+package hytale.examples.commands;
+
+import com.hypixel.hytale.component.Ref;
+import com.hypixel.hytale.component.Store;
+import com.hypixel.hytale.math.vector.Vector3d;
+import com.hypixel.hytale.math.vector.Vector3f;
+import com.hypixel.hytale.server.core.entity.entities.Player;
+import com.hypixel.hytale.server.core.modules.entity.component.TransformComponent;
+import com.hypixel.hytale.server.core.modules.entity.teleport.Teleport;
+import com.hypixel.hytale.server.core.universe.world.World;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Moves many entities at once with one parallel pass over the entity store.
+ *
+ * <p>{@link Store#forEachEntityParallel} splits the archetype chunks across worker threads
+ * and gives each worker its own {@code CommandBuffer} forked from the world's buffer; the
+ * store merges them back with {@code mergeParallel} once the pass is done. Workers only
+ * read components and queue changes, so the pass scales with cores instead of issuing one
+ * command per entity on the world thread:
+ * <ul>
+ *   <li>players get a {@link Teleport} component, which handles client synchronization</li>
+ *   <li>other entities get a deferred {@link TransformComponent#teleportPosition} call</li>
+ * </ul>
+ *
+ * <p>Each moved entity takes the next point of a sunflower spiral around the destination,
+ * so crowds spread out evenly instead of stacking on one block.
+ */
+public class MassTeleporter {
+
+    /** Golden angle in radians - successive spiral points never line up. */
+    private static final double GOLDEN_ANGLE = Math.PI * (3 - Math.sqrt(5));
+
+    /**
+     * Which entities a pass moves.
+     *
+     * @param center only entities within {@code radius} of this point, or null for all
+     * @param radius selection radius in blocks, ignored if {@code center} is null
+     * @param playersOnly true to skip non-player entities
+     * @param exclude an entity to leave in place (e.g. the caller of a gather), or null
+     */
+    public record Selection(Vector3d center, double radius, boolean playersOnly, Ref<EntityStore> exclude) {
+
+        public static Selection allPlayers() {
+            return new Selection(null, 0, true, null);
+        }
+
+        boolean matches(Ref<EntityStore> ref, Vector3d position, boolean isPlayer) {
+            if (playersOnly && !isPlayer || ref.equals(exclude)) {
+                return false;
+            }
+            if (center == null) {
+                return true;
+            }
+            double dx = position.getX() - center.getX();
+            double dy = position.getY() - center.getY();
+            double dz = position.getZ() - center.getZ();
+            return dx * dx + dy * dy + dz * dz <= radius * radius;
+        }
+    }
+
+    /**
+     * Outcome of one pass.
+     *
+     * @param moved entities that were queued for teleport
+     * @param passNanos time spent in the parallel pass, including the merge
+     */
+    public record Result(int moved, long passNanos) {
+    }
+
+    /**
+     * Queues a teleport for every selected entity. Must run on the world thread; the moves
+     * take effect when the queued commands and {@code TeleportSystems} run.
+     *
+     * @param spread distance in blocks between neighbouring spiral points, 0 to stack
+     */
+    public Result teleport(World world, Store<EntityStore> store, Selection selection,
+                           Vector3d destination, double spread) {
+        AtomicInteger counter = new AtomicInteger();
+        long start = System.nanoTime();
+
+        store.forEachEntityParallel((index, chunk, buffer) -> {
+            TransformComponent transform = chunk.getComponent(index, TransformComponent.getComponentType());
+            if (transform == null) {
+                return;
+            }
+            Ref<EntityStore> ref = chunk.getReferenceTo(index);
+            boolean isPlayer = chunk.getComponent(index, Player.getComponentType()) != null;
+            if (!selection.matches(ref, transform.getPosition(), isPlayer)) {
+                return;
+            }
+
+            Vector3d target = spiralPoint(destination, counter.getAndIncrement(), spread);
+            if (isPlayer) {
+                Vector3f rotation = transform.getRotation();
+                buffer.addComponent(ref, Teleport.getComponentType(), Teleport.createForPlayer(world, target, rotation));
+            } else {
+                buffer.run(s -> {
+                    TransformComponent current = s.getComponent(ref, TransformComponent.getComponentType());
+                    if (current != null) {
+                        current.teleportPosition(target);
+                    }
+                });
+            }
+        });
+
+        return new Result(counter.get(), System.nanoTime() - start);
+    }
+
+    /**
+     * The {@code n}th point of a sunflower spiral: evenly spaced, roughly {@code spread}
+     * blocks apart, filling a disc that grows with the square root of the count.
+     */
+    static Vector3d spiralPoint(Vector3d center, int n, double spread) {
+        if (n == 0 || spread <= 0) {
+            return new Vector3d(center.getX(), center.getY(), center.getZ());
+        }
+        double distance = spread * Math.sqrt(n);
+        double angle = n * GOLDEN_ANGLE;
+        return new Vector3d(center.getX() + distance * Math.cos(angle), center.getY(),
+            center.getZ() + distance * Math.sin(angle));
+    }
+}
@@ -0,0 +1,54 @@
+package hytale.examples.commands;
+
+import com.hypixel.hytale.component.Ref;
+import com.hypixel.hytale.component.Store;
+import com.hypixel.hytale.math.vector.Vector3d;
+import com.hypixel.hytale.server.core.command.system.CommandContext;
+import com.hypixel.hytale.server.core.command.system.arguments.system.DefaultArg;
+import com.hypixel.hytale.server.core.command.system.arguments.system.RequiredArg;
+import com.hypixel.hytale.server.core.command.system.arguments.types.ArgTypes;
+import com.hypixel.hytale.server.core.command.system.arguments.types.RelativeDoublePosition;
+import com.hypixel.hytale.server.core.universe.PlayerRef;
+import com.hypixel.hytale.server.core.universe.world.World;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+import hytale.examples.shared.TimedPlayerCommand;
+
+/**
+ * Teleport every player in the world to a position.
+ * Usage: /tp-all <x> <y> <z> [spread]
+ * Examples:
+ *   /tp-all 0 80 0
+ *   /tp-all ~ ~ ~ 2 - Everyone to you, about 2 blocks apart
+ *
+ * The destination chunks are prefetched like {@code /tp}, then all players are moved in
+ * one parallel pass by the {@link MassTeleporter}.
+ */
+public class TeleportAllCommand extends TimedPlayerCommand {
+
+    private final ChunkPrefetcher prefetcher;
+    private final MassTeleporter teleporter;
+    private final RequiredArg<RelativeDoublePosition> positionArg;
+    private final DefaultArg<Double> spreadArg;
+
+    public TeleportAllCommand(ChunkPrefetcher prefetcher, MassTeleporter teleporter) {
+        super("tp-all", "Teleport every player in the world to a position");
+        this.prefetcher = prefetcher;
+        this.teleporter = teleporter;
+        requirePermission("hytale.examples.commands.tpall");
+        positionArg = withRequiredArg("position", "Target position", ArgTypes.RELATIVE_POSITION);
+        spreadArg = withDefaultArg("spread", "Blocks between players", ArgTypes.DOUBLE, 1.0, "1");
+    }
+
+    @Override
+    protected void executeTimed(CommandContext ctx, Store<EntityStore> store,
+                               Ref<EntityStore> ref, PlayerRef playerRef, World world) {
+        Vector3d targetPos = ctx.get(positionArg).getRelativePosition(playerRef.getTransform().getPosition(), world);
+        double spread = ctx.get(spreadArg);
+
+        prefetcher.prefetch(world, targetPos).thenAcceptAsync(prefetch -> {
+            MassTeleporter.Result result = teleporter.teleport(world, store,
+                MassTeleporter.Selection.allPlayers(), targetPos, spread);
+            TickTimer.report(world, playerRef, "Teleported " + result.moved() + " players", result);
+        }, world);
+    }
+}
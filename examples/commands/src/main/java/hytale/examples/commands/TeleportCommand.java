@@ -4,46 +4,83 @@ import com.hypixel.hytale.component.Ref;
 import com.hypixel.hytale.component.Store;
 import com.hypixel.hytale.math.vector.Transform;
 import com.hypixel.hytale.math.vector.Vector3d;
-import com.hypixel.hytale.server.core.Message;
+import com.hypixel.hytale.math.vector.Vector3f;
 import com.hypixel.hytale.server.core.command.system.CommandContext;
 import com.hypixel.hytale.server.core.command.system.arguments.system.RequiredArg;
 import com.hypixel.hytale.server.core.command.system.arguments.types.ArgTypes;
 import com.hypixel.hytale.server.core.command.system.arguments.types.RelativeDoublePosition;
-import com.hypixel.hytale.server.core.command.system.basecommands.AbstractPlayerCommand;
 import com.hypixel.hytale.server.core.universe.PlayerRef;
 import com.hypixel.hytale.server.core.universe.world.World;
 import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
 import com.hypixel.hytale.server.core.modules.entity.teleport.Teleport;
+import hytale.examples.shared.CommandOutput;
+import hytale.examples.shared.TimedPlayerCommand;
 
 /**
  * Command with a position argument demonstrating argument parsing.
  * Usage: /tp <x> <y> <z>
  * Supports relative coordinates: /tp ~10 ~ ~-5
+ * Subcommand: /tp nearest - Teleport to your nearest waypoint
+ *
+ * The chunks around the destination are loaded through the {@link ChunkPrefetcher} first,
+ * and the Teleport component is only added once they are ready (or the prefetch times out),
+ * so the player never lands in unloaded terrain.
  */
-public class TeleportCommand extends AbstractPlayerCommand {
+public class TeleportCommand extends TimedPlayerCommand {
 
+    private final ChunkPrefetcher prefetcher;
     private final RequiredArg<RelativeDoublePosition> positionArg;
 
-    public TeleportCommand() {
+    public TeleportCommand(ChunkPrefetcher prefetcher, WaypointStore waypoints) {
         super("tp", "Teleport to a position");
+        this.prefetcher = prefetcher;
         positionArg = withRequiredArg("position", "Target position", ArgTypes.RELATIVE_POSITION);
+        addSubCommand(new TeleportNearestCommand(prefetcher, waypoints));
     }
 
     @Override
-    protected void execute(CommandContext ctx, Store<EntityStore> store,
-                          Ref<EntityStore> ref, PlayerRef playerRef, World world) {
+    protected void executeTimed(CommandContext ctx, Store<EntityStore> store,
+                               Ref<EntityStore> ref, PlayerRef playerRef, World world) {
         RelativeDoublePosition relPos = ctx.get(positionArg);
         Transform current = playerRef.getTransform();
         Vector3d targetPos = relPos.getRelativePosition(current.getPosition(), world);
 
-        // Add Teleport component - processed by TeleportSystems to actually move the player
-        Teleport teleport = Teleport.createForPlayer(world, targetPos, current.getRotation());
-        store.addComponent(ref, Teleport.getComponentType(), teleport);
+        teleportWhenLoaded(prefetcher, store, ref, playerRef, world, targetPos, current.getRotation());
+    }
+
+    /**
+     * Prefetches the chunks around {@code targetPos}, then adds the Teleport component on
+     * the world thread and tells the player.
+     */
+    static void teleportWhenLoaded(ChunkPrefetcher prefetcher, Store<EntityStore> store, Ref<EntityStore> ref,
+                                   PlayerRef playerRef, World world, Vector3d targetPos, Vector3f rotation) {
+        prefetcher.prefetch(world, targetPos).thenAcceptAsync(result -> {
+            if (!ref.isValid()) {
+                return;
+            }
+
+            // Add Teleport component - processed by TeleportSystems to actually move the player
+            Teleport teleport = Teleport.createForPlayer(world, targetPos, rotation);
+            store.addComponent(ref, Teleport.getComponentType(), teleport);
+
+            appendPosition(CommandOutput.start().append("Teleported to "), targetPos).send(playerRef);
+            logPrefetch(prefetcher, playerRef, result);
+        }, world);
+    }
 
-        playerRef.sendMessage(Message.raw("Teleported to " + formatPosition(targetPos)));
+    private static void logPrefetch(ChunkPrefetcher prefetcher, PlayerRef playerRef, ChunkPrefetcher.Result result) {
+        CommandsPlugin.get().getLogger().atInfo().log("tp " + playerRef.getUsername() + ": "
+            + (result.loaded() == 0
+                ? "direct, all " + result.requested() + " chunks loaded"
+                : "prefetched " + result.loaded() + "/" + result.requested() + " chunks in "
+                    + result.nanos() / 1_000_000 + " ms (radius " + prefetcher.getRadius() + ")")
+            + (result.timedOut() ? ", timed out" : ""));
     }
 
-    private String formatPosition(Vector3d pos) {
-        return String.format("%.1f, %.1f, %.1f", pos.getX(), pos.getY(), pos.getZ());
+    /**
+     * Appends {@code pos} as "x, y, z" with one decimal.
+     */
+    static CommandOutput appendPosition(CommandOutput output, Vector3d pos) {
+        return output.append(pos.getX(), 1).append(", ").append(pos.getY(), 1).append(", ").append(pos.getZ(), 1);
     }
 }
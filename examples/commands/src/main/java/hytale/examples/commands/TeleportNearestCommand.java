@@ -0,0 +1,48 @@
+package hytale.examples.commands;
+
+import com.hypixel.hytale.component.Ref;
+import com.hypixel.hytale.component.Store;
+import com.hypixel.hytale.math.vector.Transform;
+import com.hypixel.hytale.math.vector.Vector3d;
+import com.hypixel.hytale.server.core.Message;
+import com.hypixel.hytale.server.core.command.system.CommandContext;
+import com.hypixel.hytale.server.core.universe.PlayerRef;
+import com.hypixel.hytale.server.core.universe.world.World;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+import hytale.examples.shared.TimedPlayerCommand;
+
+/**
+ * Teleport to your nearest waypoint in the current world.
+ * Usage: /tp nearest
+ *
+ * The lookup is a ring search in your own {@link WaypointGrid} for this world, not a scan
+ * of every waypoint.
+ */
+public class TeleportNearestCommand extends TimedPlayerCommand {
+
+    private final ChunkPrefetcher prefetcher;
+    private final WaypointStore waypoints;
+
+    public TeleportNearestCommand(ChunkPrefetcher prefetcher, WaypointStore waypoints) {
+        super("nearest", "Teleport to your nearest waypoint");
+        this.prefetcher = prefetcher;
+        this.waypoints = waypoints;
+    }
+
+    @Override
+    protected void executeTimed(CommandContext ctx, Store<EntityStore> store,
+                               Ref<EntityStore> ref, PlayerRef playerRef, World world) {
+        Transform current = playerRef.getTransform();
+        Vector3d position = current.getPosition();
+
+        Waypoint nearest = waypoints.nearest(world.getName(), playerRef.getUuid(), position.getX(), position.getZ());
+        if (nearest == null) {
+            playerRef.sendMessage(Message.raw("You have no waypoints in this world"));
+            return;
+        }
+
+        playerRef.sendMessage(Message.raw("Nearest waypoint: " + nearest.name()));
+        TeleportCommand.teleportWhenLoaded(prefetcher, store, ref, playerRef, world,
+            nearest.position(), current.getRotation());
+    }
+}
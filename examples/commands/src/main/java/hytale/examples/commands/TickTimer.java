@@ -0,0 +1,31 @@
+package hytale.examples.commands;
+
+import com.hypixel.hytale.server.core.universe.PlayerRef;
+import com.hypixel.hytale.server.core.universe.world.World;
+import hytale.examples.shared.CommandOutput;
+
+/**
+ * Reports how long a bulk operation kept the world thread busy.
+ */
+final class TickTimer {
+
+    private TickTimer() {
+    }
+
+    /**
+     * Sends {@code summary} with the pass time, then queues a task on the world thread and
+     * reports how long it took to run - i.e. how long the rest of the tick, including the
+     * queued teleports, took. Must be called on the world thread.
+     */
+    static void report(World world, PlayerRef playerRef, String summary, MassTeleporter.Result result) {
+        long queued = System.nanoTime();
+        CommandOutput output = CommandOutput.start().append(summary).append(" (pass ");
+        appendMillis(output, result.passNanos()).append(')').send(playerRef);
+        world.execute(() -> appendMillis(CommandOutput.start().append("  World thread free again after "),
+            System.nanoTime() - queued).send(playerRef));
+    }
+
+    private static CommandOutput appendMillis(CommandOutput output, long nanos) {
+        return output.append(nanos / 1_000_000.0, 2).append(" ms");
+    }
+}
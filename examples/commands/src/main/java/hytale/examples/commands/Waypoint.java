@@ -0,0 +1,24 @@
+package hytale.examples.commands;
+
+import com.hypixel.hytale.math.vector.Vector3d;
+
+import java.util.UUID;
+
+/**
+ * A named, player-owned position in one world.
+ */
+public record Waypoint(String name, UUID owner, String world, double x, double y, double z) {
+
+    public Vector3d position() {
+        return new Vector3d(x, y, z);
+    }
+
+    /**
+     * Squared horizontal distance to a point; waypoints are searched on the XZ plane.
+     */
+    public double distanceSquaredXZ(double px, double pz) {
+        double dx = x - px;
+        double dz = z - pz;
+        return dx * dx + dz * dz;
+    }
+}
@@ -0,0 +1,176 @@
+package hytale.examples.commands;
+
+import com.hypixel.hytale.component.Ref;
+import com.hypixel.hytale.component.Store;
+import com.hypixel.hytale.math.vector.Vector3d;
+import com.hypixel.hytale.server.core.Message;
+import com.hypixel.hytale.server.core.command.system.CommandContext;
+import com.hypixel.hytale.server.core.command.system.arguments.system.RequiredArg;
+import com.hypixel.hytale.server.core.command.system.arguments.types.ArgTypes;
+import com.hypixel.hytale.server.core.universe.PlayerRef;
+import com.hypixel.hytale.server.core.universe.world.World;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+import hytale.examples.shared.CommandOutput;
+import hytale.examples.shared.TimedPlayerCommand;
+
+import java.util.List;
+
+/**
+ * Manage personal waypoints.
+ * Usage:
+ *   /waypoint set <name> - Save your position
+ *   /waypoint del <name> - Delete a waypoint in this world
+ *   /waypoint near <radius> - List your waypoints within a radius
+ *   /waypoint list - List your waypoints in every world
+ *
+ * Waypoints are kept in the {@link WaypointStore}. Use {@code /tp nearest} to travel.
+ */
+public class WaypointCommand extends TimedPlayerCommand {
+
+    /** Maximum number of waypoints listed in chat. */
+    private static final int MAX_LISTED = 20;
+
+    public WaypointCommand(WaypointStore waypoints) {
+        super("waypoint", "Manage personal waypoints");
+        addAliases("wp");
+        addSubCommand(new SetCommand(waypoints));
+        addSubCommand(new DeleteCommand(waypoints));
+        addSubCommand(new NearCommand(waypoints));
+        addSubCommand(new ListCommand(waypoints));
+    }
+
+    @Override
+    protected void executeTimed(CommandContext ctx, Store<EntityStore> store,
+                               Ref<EntityStore> ref, PlayerRef playerRef, World world) {
+        playerRef.sendMessage(Message.raw("Usage: /waypoint <set|del|near|list>"));
+    }
+
+    /**
+     * Appends one line per waypoint, up to {@link #MAX_LISTED}.
+     */
+    private static CommandOutput appendList(CommandOutput output, List<Waypoint> list) {
+        for (int i = 0; i < Math.min(list.size(), MAX_LISTED); i++) {
+            Waypoint waypoint = list.get(i);
+            output.line("  ").append(waypoint.name()).append(" - ").append(waypoint.world()).append(" @ ");
+            TeleportCommand.appendPosition(output, waypoint.position());
+        }
+        if (list.size() > MAX_LISTED) {
+            output.line("  ... and ").append(list.size() - MAX_LISTED).append(" more");
+        }
+        return output;
+    }
+
+    /** /waypoint set <name> */
+    static class SetCommand extends TimedPlayerCommand {
+
+        private static final int MAX_NAME_LENGTH = 32;
+
+        private final WaypointStore waypoints;
+        private final RequiredArg<String> nameArg;
+
+        SetCommand(WaypointStore waypoints) {
+            super("set", "Save your position as a waypoint");
+            this.waypoints = waypoints;
+            nameArg = withRequiredArg("name", "Waypoint name", ArgTypes.STRING);
+        }
+
+        @Override
+        protected void executeTimed(CommandContext ctx, Store<EntityStore> store,
+                                   Ref<EntityStore> ref, PlayerRef playerRef, World world) {
+            String name = ctx.get(nameArg);
+            if (name.length() > MAX_NAME_LENGTH) {
+                playerRef.sendMessage(Message.raw("Waypoint names are limited to " + MAX_NAME_LENGTH + " characters"));
+                return;
+            }
+
+            Vector3d position = playerRef.getTransform().getPosition();
+            Waypoint previous = waypoints.put(new Waypoint(name, playerRef.getUuid(), world.getName(),
+                position.getX(), position.getY(), position.getZ()));
+            playerRef.sendMessage(Message.raw((previous != null ? "Moved waypoint " : "Saved waypoint ") + name));
+        }
+    }
+
+    /** /waypoint del <name> */
+    static class DeleteCommand extends TimedPlayerCommand {
+
+        private final WaypointStore waypoints;
+        private final RequiredArg<String> nameArg;
+
+        DeleteCommand(WaypointStore waypoints) {
+            super("del", "Delete one of your waypoints in this world");
+            this.waypoints = waypoints;
+            nameArg = withRequiredArg("name", "Waypoint name", ArgTypes.STRING);
+        }
+
+        @Override
+        protected void executeTimed(CommandContext ctx, Store<EntityStore> store,
+                                   Ref<EntityStore> ref, PlayerRef playerRef, World world) {
+            String name = ctx.get(nameArg);
+            Waypoint waypoint = waypoints.find(playerRef.getUuid(), world.getName(), name);
+            if (waypoint == null || !waypoints.remove(waypoint)) {
+                playerRef.sendMessage(Message.raw("No waypoint named " + name + " in this world"));
+                return;
+            }
+            playerRef.sendMessage(Message.raw("Deleted waypoint " + waypoint.name()));
+        }
+    }
+
+    /** /waypoint near <radius> */
+    static class NearCommand extends TimedPlayerCommand {
+
+        private static final double MAX_RADIUS = 100_000;
+
+        private final WaypointStore waypoints;
+        private final RequiredArg<Double> radiusArg;
+
+        NearCommand(WaypointStore waypoints) {
+            super("near", "List your waypoints within a radius");
+            this.waypoints = waypoints;
+            radiusArg = withRequiredArg("radius", "Radius in blocks", ArgTypes.DOUBLE);
+        }
+
+        @Override
+        protected void executeTimed(CommandContext ctx, Store<EntityStore> store,
+                                   Ref<EntityStore> ref, PlayerRef playerRef, World world) {
+            double radius = ctx.get(radiusArg);
+            if (radius <= 0 || radius > MAX_RADIUS) {
+                playerRef.sendMessage(Message.raw("Radius must be between 0 and " + (int) MAX_RADIUS));
+                return;
+            }
+
+            Vector3d position = playerRef.getTransform().getPosition();
+            List<Waypoint> near = waypoints.within(world.getName(), playerRef.getUuid(),
+                position.getX(), position.getZ(), radius);
+            if (near.isEmpty()) {
+                playerRef.sendMessage(Message.raw("No waypoints within " + (int) radius + " blocks"));
+                return;
+            }
+            CommandOutput output = CommandOutput.start()
+                .append(near.size()).append(" waypoints within ").append((int) radius).append(" blocks:");
+            appendList(output, near).send(playerRef);
+        }
+    }
+
+    /** /waypoint list */
+    static class ListCommand extends TimedPlayerCommand {
+
+        private final WaypointStore waypoints;
+
+        ListCommand(WaypointStore waypoints) {
+            super("list", "List your waypoints in every world");
+            this.waypoints = waypoints;
+        }
+
+        @Override
+        protected void executeTimed(CommandContext ctx, Store<EntityStore> store,
+                                   Ref<EntityStore> ref, PlayerRef playerRef, World world) {
+            List<Waypoint> owned = waypoints.ownedBy(playerRef.getUuid());
+            if (owned.isEmpty()) {
+                playerRef.sendMessage(Message.raw("You have no waypoints"));
+                return;
+            }
+            CommandOutput output = CommandOutput.start().append("Your waypoints (").append(owned.size()).append("):");
+            appendList(output, owned).send(playerRef);
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package hytale.examples.commands;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Uniform grid over the XZ plane holding one player's waypoints in one world.
+ *
+ * <p>Each waypoint lives in the bucket of the {@link #CELL_SIZE}-block cell containing it,
+ * keyed by the packed cell coordinates. A radius query only visits the cells overlapping
+ * the radius, and a nearest query searches rings of cells outwards from the query point
+ * and stops once no closer waypoint can exist. Only a nearest query whose answer lies
+ * beyond {@link #MAX_RINGS} rings falls back to scanning every waypoint.
+ *
+ * <p>Not thread-safe; {@link WaypointStore} synchronizes access.
+ */
+class WaypointGrid {
+
+    /** Cell width in blocks. */
+    static final int CELL_SIZE = 128;
+
+    /** How far a nearest search goes in rings, in cells, before scanning every bucket instead. */
+    private static final int MAX_RINGS = 256;
+
+    private final Long2ObjectOpenHashMap<List<Waypoint>> cells = new Long2ObjectOpenHashMap<>();
+    private int size;
+
+    void add(Waypoint waypoint) {
+        cells.computeIfAbsent(cellKey(cell(waypoint.x()), cell(waypoint.z())), key -> new ArrayList<>(4))
+            .add(waypoint);
+        size++;
+    }
+
+    boolean remove(Waypoint waypoint) {
+        long key = cellKey(cell(waypoint.x()), cell(waypoint.z()));
+        List<Waypoint> bucket = cells.get(key);
+        if (bucket == null || !bucket.remove(waypoint)) {
+            return false;
+        }
+        if (bucket.isEmpty()) {
+            cells.remove(key);
+        }
+        size--;
+        return true;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Every waypoint within {@code radius} blocks (horizontally) of a point.
+     */
+    List<Waypoint> within(double x, double z, double radius) {
+        List<Waypoint> result = new ArrayList<>();
+        double radiusSquared = radius * radius;
+        int minX = cell(x - radius);
+        int maxX = cell(x + radius);
+        int minZ = cell(z - radius);
+        int maxZ = cell(z + radius);
+
+        for (int cx = minX; cx <= maxX; cx++) {
+            for (int cz = minZ; cz <= maxZ; cz++) {
+                List<Waypoint> bucket = cells.get(cellKey(cx, cz));
+                if (bucket == null) {
+                    continue;
+                }
+                for (Waypoint waypoint : bucket) {
+                    if (waypoint.distanceSquaredXZ(x, z) <= radiusSquared) {
+                        result.add(waypoint);
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * The closest waypoint, or null if the grid is empty.
+     */
+    Waypoint nearest(double x, double z) {
+        if (size == 0) {
+            return null;
+        }
+        int centerX = cell(x);
+        int centerZ = cell(z);
+        Waypoint best = null;
+        double bestDistance = Double.MAX_VALUE;
+
+        for (int ring = 0; ring <= MAX_RINGS; ring++) {
+            // Every point in this ring is at least (ring - 1) cells away from the query point
+            double ringDistance = Math.max(0, ring - 1) * (double) CELL_SIZE;
+            if (best != null && ringDistance * ringDistance > bestDistance) {
+                return best;
+            }
+
+            for (int cx = centerX - ring; cx <= centerX + ring; cx++) {
+                boolean edgeColumn = cx == centerX - ring || cx == centerX + ring;
+                int step = edgeColumn ? 1 : 2 * ring;
+                for (int cz = centerZ - ring; cz <= centerZ + ring; cz += Math.max(1, step)) {
+                    List<Waypoint> bucket = cells.get(cellKey(cx, cz));
+                    if (bucket == null) {
+                        continue;
+                    }
+                    for (Waypoint waypoint : bucket) {
+                        double distance = waypoint.distanceSquaredXZ(x, z);
+                        if (distance < bestDistance) {
+                            best = waypoint;
+                            bestDistance = distance;
+                        }
+                    }
+                }
+            }
+        }
+
+        // Out of rings: anything closer is further out than the rings reached, so check everything
+        for (List<Waypoint> bucket : cells.values()) {
+            for (Waypoint waypoint : bucket) {
+                double distance = waypoint.distanceSquaredXZ(x, z);
+                if (distance < bestDistance) {
+                    best = waypoint;
+                    bestDistance = distance;
+                }
+            }
+        }
+        return best;
+    }
+
+    List<Waypoint> all() {
+        List<Waypoint> result = new ArrayList<>(size);
+        for (List<Waypoint> bucket : cells.values()) {
+            result.addAll(bucket);
+        }
+        return result;
+    }
+
+    private static int cell(double coordinate) {
+        return (int) Math.floor(coordinate / CELL_SIZE);
+    }
+
+    private static long cellKey(int cx, int cz) {
+        return ((long) cx << 32) | (cz & 0xFFFFFFFFL);
+    }
+}
@@ -0,0 +1,289 @@
+package hytale.examples.commands;
+
+import com.hypixel.hytale.codec.Codec;
+import com.hypixel.hytale.codec.ExtraInfo;
+import com.hypixel.hytale.codec.KeyedCodec;
+import com.hypixel.hytale.codec.builder.BuilderCodec;
+import org.bson.BsonBinaryWriter;
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.BsonDocumentCodec;
+import org.bson.codecs.EncoderContext;
+import org.bson.io.BasicOutputBuffer;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Player waypoints for all worlds, indexed spatially per world and owner.
+ *
+ * <p>Each player's waypoints in a world live in their own {@link WaypointGrid}, so nearest
+ * and radius queries only touch nearby cells holding that player's waypoints, however many
+ * other players have waypoints close by. A world's file is read the first time that world
+ * is queried, not at startup. A name index (owner, world and lower-cased name) spans all
+ * loaded worlds and keeps names unique per player and world.
+ *
+ * <p>Files are one BSON document per world, written in binary form. The document is
+ * produced by {@link WorldFile#CODEC} and stores the waypoints column-wise - one array of
+ * names, one of owner UUID halves, one of coordinates - instead of one sub-document per
+ * waypoint, which keeps 50k waypoints to a couple of megabytes.
+ *
+ * <p>Commands from different worlds call in concurrently, so all access is synchronized.
+ */
+public class WaypointStore {
+
+    private static final String FILE_SUFFIX = ".waypoints.bson";
+
+    private final Path directory;
+    /** World name to owner to that owner's grid; a world is present once its file is read. */
+    private final Map<String, Map<UUID, WaypointGrid>> worlds = new HashMap<>();
+    private final Map<UUID, Map<String, Waypoint>> byOwner = new HashMap<>();
+    private final Set<String> dirty = new HashSet<>();
+
+    public WaypointStore(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Adds or replaces one of a player's waypoints.
+     *
+     * @return the waypoint with the same owner, world and name it replaced, or null
+     */
+    public synchronized Waypoint put(Waypoint waypoint) {
+        Waypoint previous = find(waypoint.owner(), waypoint.world(), waypoint.name());
+        if (previous != null) {
+            remove(previous);
+        }
+        index(world(waypoint.world()), waypoint);
+        dirty.add(waypoint.world());
+        return previous;
+    }
+
+    /**
+     * Looks up one of a player's waypoints in a world by name, ignoring case.
+     */
+    public synchronized Waypoint find(UUID owner, String world, String name) {
+        world(world);
+        Map<String, Waypoint> owned = byOwner.get(owner);
+        return owned == null ? null : owned.get(key(world, name));
+    }
+
+    public synchronized boolean remove(Waypoint waypoint) {
+        Map<UUID, WaypointGrid> grids = world(waypoint.world());
+        WaypointGrid grid = grids.get(waypoint.owner());
+        if (grid == null || !grid.remove(waypoint)) {
+            return false;
+        }
+        if (grid.size() == 0) {
+            grids.remove(waypoint.owner());
+        }
+        Map<String, Waypoint> owned = byOwner.get(waypoint.owner());
+        if (owned != null) {
+            owned.remove(key(waypoint), waypoint);
+            if (owned.isEmpty()) {
+                byOwner.remove(waypoint.owner());
+            }
+        }
+        dirty.add(waypoint.world());
+        return true;
+    }
+
+    /**
+     * Closest waypoint owned by {@code owner} in a world, or null.
+     */
+    public synchronized Waypoint nearest(String world, UUID owner, double x, double z) {
+        WaypointGrid grid = world(world).get(owner);
+        return grid == null ? null : grid.nearest(x, z);
+    }
+
+    /**
+     * A player's waypoints within {@code radius} blocks, closest first.
+     */
+    public synchronized List<Waypoint> within(String world, UUID owner, double x, double z, double radius) {
+        WaypointGrid grid = world(world).get(owner);
+        if (grid == null) {
+            return new ArrayList<>();
+        }
+        List<Waypoint> result = grid.within(x, z, radius);
+        result.sort(Comparator.comparingDouble(waypoint -> waypoint.distanceSquaredXZ(x, z)));
+        return result;
+    }
+
+    /**
+     * Every waypoint a player owns, in all worlds, sorted by world then name.
+     *
+     * <p>Files do not record which players they hold waypoints for, so this reads every
+     * world file not read yet; the first call after startup costs a {@link #loadAll()}.
+     */
+    public synchronized List<Waypoint> ownedBy(UUID owner) {
+        loadAll();
+        Map<String, Waypoint> owned = byOwner.get(owner);
+        if (owned == null) {
+            return List.of();
+        }
+        List<Waypoint> result = new ArrayList<>(owned.values());
+        result.sort(Comparator.comparing(Waypoint::world).thenComparing(Waypoint::name, String.CASE_INSENSITIVE_ORDER));
+        return result;
+    }
+
+    /**
+     * Loads every world file that has not been loaded yet.
+     */
+    public synchronized void loadAll() {
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            files.map(path -> path.getFileName().toString())
+                .filter(name -> name.endsWith(FILE_SUFFIX))
+                .map(name -> name.substring(0, name.length() - FILE_SUFFIX.length()))
+                .forEach(this::world);
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not list waypoint files in " + directory, e);
+        }
+    }
+
+    /**
+     * Writes every world changed since the last save.
+     *
+     * @return number of worlds written
+     */
+    public int saveDirty() throws IOException {
+        Map<String, WorldFile> snapshots = new HashMap<>();
+        synchronized (this) {
+            for (String world : dirty) {
+                List<Waypoint> all = new ArrayList<>();
+                for (WaypointGrid grid : worlds.get(world).values()) {
+                    all.addAll(grid.all());
+                }
+                snapshots.put(world, WorldFile.of(all));
+            }
+            dirty.clear();
+        }
+
+        Files.createDirectories(directory);
+        for (Map.Entry<String, WorldFile> entry : snapshots.entrySet()) {
+            write(entry.getKey(), entry.getValue());
+        }
+        return snapshots.size();
+    }
+
+    /**
+     * Returns a world's grids by owner, reading its file on first access.
+     */
+    private Map<UUID, WaypointGrid> world(String world) {
+        Map<UUID, WaypointGrid> grids = worlds.get(world);
+        if (grids != null) {
+            return grids;
+        }
+        grids = new HashMap<>();
+
+        Path file = file(world);
+        if (Files.exists(file)) {
+            try {
+                BsonDocument document = new RawBsonDocument(Files.readAllBytes(file));
+                WorldFile data = WorldFile.CODEC.decode(document, ExtraInfo.THREAD_LOCAL.get());
+                for (Waypoint waypoint : data.toWaypoints(world)) {
+                    index(grids, waypoint);
+                }
+            } catch (IOException e) {
+                // Leave the world unloaded so a later save cannot overwrite the unreadable file
+                throw new IllegalStateException("Could not read waypoints from " + file, e);
+            }
+        }
+        worlds.put(world, grids);
+        return grids;
+    }
+
+    private void index(Map<UUID, WaypointGrid> grids, Waypoint waypoint) {
+        grids.computeIfAbsent(waypoint.owner(), id -> new WaypointGrid()).add(waypoint);
+        byOwner.computeIfAbsent(waypoint.owner(), id -> new HashMap<>()).put(key(waypoint), waypoint);
+    }
+
+    private void write(String world, WorldFile data) throws IOException {
+        BsonValue encoded = WorldFile.CODEC.encode(data, ExtraInfo.THREAD_LOCAL.get());
+        BasicOutputBuffer buffer = new BasicOutputBuffer();
+        new BsonDocumentCodec().encode(new BsonBinaryWriter(buffer), encoded.asDocument(),
+            EncoderContext.builder().build());
+
+        // Write next to the target and rename, so a crash never leaves a half-written file
+        Path file = file(world);
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        Files.write(temp, buffer.toByteArray());
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private Path file(String world) {
+        return directory.resolve(world + FILE_SUFFIX);
+    }
+
+    private static String key(Waypoint waypoint) {
+        return key(waypoint.world(), waypoint.name());
+    }
+
+    private static String key(String world, String name) {
+        return world + '/' + name.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * On-disk form of one world's waypoints, stored column-wise.
+     */
+    static final class WorldFile {
+
+        static final BuilderCodec<WorldFile> CODEC = BuilderCodec.builder(WorldFile.class, WorldFile::new)
+            .append(new KeyedCodec<>("Names", Codec.STRING_ARRAY),
+                (file, names) -> file.names = names, file -> file.names).add()
+            .append(new KeyedCodec<>("Owners", Codec.LONG_ARRAY),
+                (file, owners) -> file.owners = owners, file -> file.owners).add()
+            .append(new KeyedCodec<>("Positions", Codec.DOUBLE_ARRAY),
+                (file, positions) -> file.positions = positions, file -> file.positions).add()
+            .build();
+
+        /** Waypoint names. */
+        String[] names = new String[0];
+        /** Owner UUIDs, two longs (most, least significant bits) per waypoint. */
+        long[] owners = new long[0];
+        /** Positions, three doubles (x, y, z) per waypoint. */
+        double[] positions = new double[0];
+
+        static WorldFile of(List<Waypoint> waypoints) {
+            WorldFile file = new WorldFile();
+            int count = waypoints.size();
+            file.names = new String[count];
+            file.owners = new long[count * 2];
+            file.positions = new double[count * 3];
+            for (int i = 0; i < count; i++) {
+                Waypoint waypoint = waypoints.get(i);
+                file.names[i] = waypoint.name();
+                file.owners[i * 2] = waypoint.owner().getMostSignificantBits();
+                file.owners[i * 2 + 1] = waypoint.owner().getLeastSignificantBits();
+                file.positions[i * 3] = waypoint.x();
+                file.positions[i * 3 + 1] = waypoint.y();
+                file.positions[i * 3 + 2] = waypoint.z();
+            }
+            return file;
+        }
+
+        List<Waypoint> toWaypoints(String world) {
+            List<Waypoint> waypoints = new ArrayList<>(names.length);
+            for (int i = 0; i < names.length; i++) {
+                waypoints.add(new Waypoint(names[i], new UUID(owners[i * 2], owners[i * 2 + 1]), world,
+                    positions[i * 3], positions[i * 3 + 1], positions[i * 3 + 2]));
+            }
+            return waypoints;
+        }
+    }
+}
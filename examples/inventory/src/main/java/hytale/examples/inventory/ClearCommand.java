@@ -2,17 +2,16 @@ package hytale.examples.inventory;
 
 import com.hypixel.hytale.component.Ref;
 import com.hypixel.hytale.component.Store;
-import com.hypixel.hytale.server.core.Message;
 import com.hypixel.hytale.server.core.command.system.CommandContext;
 import com.hypixel.hytale.server.core.command.system.arguments.system.RequiredArg;
 import com.hypixel.hytale.server.core.command.system.arguments.types.ArgTypes;
-import com.hypixel.hytale.server.core.command.system.basecommands.AbstractPlayerCommand;
 import com.hypixel.hytale.server.core.entity.entities.Player;
 import com.hypixel.hytale.server.core.inventory.Inventory;
-import com.hypixel.hytale.server.core.inventory.container.ItemContainer;
 import com.hypixel.hytale.server.core.universe.PlayerRef;
 import com.hypixel.hytale.server.core.universe.world.World;
 import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+import hytale.examples.shared.TimedPlayerCommand;
+import hytale.examples.shared.Translations;
 
 /**
  * Clear inventory sections.
@@ -21,51 +20,62 @@ import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
  *   /inv-clear all - Clear entire inventory
  *   /inv-clear hotbar - Clear only hotbar
  *   /inv-clear storage - Clear only storage
+ *
+ * The cleared contents are recorded in the {@link InventoryJournal} first, so
+ * {@code /inv-undo} can put them back.
  */
-public class ClearCommand extends AbstractPlayerCommand {
+public class ClearCommand extends TimedPlayerCommand {
 
+    private static final Translations.Key CLEARED_ALL = new Translations.Key("inventory.clear.all");
+    private static final Translations.Key CLEARED_ALL_NO_UNDO = new Translations.Key("inventory.clear.all_no_undo");
+    private static final Translations.Key CLEARED_SECTION = new Translations.Key("inventory.clear.section",
+        Translations.Param.text("section"));
+    private static final Translations.Key CLEARED_SECTION_NO_UNDO = new Translations.Key(
+        "inventory.clear.section_no_undo", Translations.Param.text("section"));
+    private static final Translations.Key UNKNOWN_SECTION = new Translations.Key("inventory.clear.unknown_section",
+        Translations.Param.text("section"), Translations.Param.text("valid"));
+
+    private final InventoryJournal journal;
     private final RequiredArg<String> sectionArg;
 
-    public ClearCommand() {
+    public ClearCommand(InventoryJournal journal) {
         super("inv-clear", "Clear inventory sections");
+        this.journal = journal;
         sectionArg = withRequiredArg("section", "Section to clear (all/hotbar/storage/armor/utility/tools/backpack)", ArgTypes.STRING);
     }
 
     @Override
-    protected void execute(CommandContext ctx, Store<EntityStore> store,
-                          Ref<EntityStore> ref, PlayerRef playerRef, World world) {
+    protected void executeTimed(CommandContext ctx, Store<EntityStore> store,
+                               Ref<EntityStore> ref, PlayerRef playerRef, World world) {
         Player player = store.getComponent(ref, Player.getComponentType());
         Inventory inventory = player.getInventory();
 
+        Translations translations = InventoryPlugin.get().getTranslations();
         String section = ctx.get(sectionArg).toLowerCase();
 
         if (section.equals("all")) {
+            boolean undoable = journal.record(playerRef.getUuid(), "clear all", InventoryJournal.UndoMode.MERGE,
+                inventory, InventorySection.values());
+            InventoryMutationEvent event = InventoryMutationEvent.start("clear", inventory, InventorySection.values());
             inventory.clear();
-            playerRef.sendMessage(Message.raw("Cleared entire inventory"));
+            event.finish(inventory);
+            translations.format(playerRef, undoable ? CLEARED_ALL : CLEARED_ALL_NO_UNDO).send(playerRef);
             return;
         }
 
-        ItemContainer container = getSectionContainer(inventory, section);
+        InventorySection target = InventorySection.byId(section);
 
-        if (container == null) {
-            playerRef.sendMessage(Message.raw("Unknown section: " + section
-                + ". Valid sections: all, hotbar, storage, armor, utility, tools, backpack"));
+        if (target == null) {
+            translations.format(playerRef, UNKNOWN_SECTION).arg(section).arg(InventorySection.NAMES).send(playerRef);
             return;
         }
 
-        container.clear();
-        playerRef.sendMessage(Message.raw("Cleared " + section));
-    }
-
-    private ItemContainer getSectionContainer(Inventory inventory, String section) {
-        return switch (section) {
-            case "hotbar" -> inventory.getHotbar();
-            case "storage" -> inventory.getStorage();
-            case "armor" -> inventory.getArmor();
-            case "utility" -> inventory.getUtility();
-            case "tools" -> inventory.getTools();
-            case "backpack" -> inventory.getBackpack();
-            default -> null;
-        };
+        boolean undoable = journal.record(playerRef.getUuid(), "clear " + target.getId(),
+            InventoryJournal.UndoMode.MERGE, inventory, target);
+        InventoryMutationEvent event = InventoryMutationEvent.start("clear", inventory, target);
+        target.getContainer(inventory).clear();
+        event.finish(inventory);
+        translations.format(playerRef, undoable ? CLEARED_SECTION : CLEARED_SECTION_NO_UNDO).arg(section)
+            .send(playerRef);
     }
 }
@@ -0,0 +1,65 @@
+package hytale.examples.inventory;
+
+import com.hypixel.hytale.component.Ref;
+import com.hypixel.hytale.component.Store;
+import com.hypixel.hytale.server.core.Message;
+import com.hypixel.hytale.server.core.command.system.CommandContext;
+import com.hypixel.hytale.server.core.command.system.arguments.system.RequiredArg;
+import com.hypixel.hytale.server.core.universe.PlayerRef;
+import com.hypixel.hytale.server.core.universe.world.World;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+import hytale.examples.shared.CommandOutput;
+import hytale.examples.shared.TimedPlayerCommand;
+
+import java.util.List;
+
+/**
+ * Find which online players hold an item, and where.
+ * Usage: /inv-find <item>
+ * Examples:
+ *   /inv-find Weapon_Sword_Wood
+ *
+ * Answers from the {@link InventoryItemIndex} instead of iterating every player's
+ * containers, so it stays instant regardless of player count.
+ */
+public class FindCommand extends TimedPlayerCommand {
+
+    /** Maximum number of locations listed in chat. */
+    private static final int MAX_RESULTS = 20;
+
+    private final InventoryItemIndex itemIndex;
+    private final RequiredArg<String> itemArg;
+
+    public FindCommand(InventoryItemIndex itemIndex, ItemIdIndex itemIds) {
+        super("inv-find", "Find which online players hold an item");
+        this.itemIndex = itemIndex;
+        requirePermission("hytale.examples.inventory.find");
+        itemArg = withRequiredArg("item", "Item ID (e.g., Weapon_Sword_Wood)", new ItemIdArgType(itemIds));
+    }
+
+    @Override
+    protected void executeTimed(CommandContext ctx, Store<EntityStore> store,
+                               Ref<EntityStore> ref, PlayerRef playerRef, World world) {
+        String itemId = ctx.get(itemArg);
+
+        int slots = itemIndex.countSlots(itemId);
+        if (slots == 0) {
+            playerRef.sendMessage(Message.raw("No online player holds " + itemId));
+            return;
+        }
+
+        CommandOutput output = CommandOutput.start()
+            .append(itemId).append(": ").append(itemIndex.countQuantity(itemId)).append(" total in ")
+            .append(slots).append(" slots");
+
+        List<InventoryItemIndex.Location> locations = itemIndex.find(itemId, MAX_RESULTS);
+        for (InventoryItemIndex.Location location : locations) {
+            output.line("  ").append(location.playerName()).append(" - ").append(location.section().getId())
+                .append('[').append(location.slot()).append("] x").append(location.quantity());
+        }
+        if (slots > locations.size()) {
+            output.line("  ... and ").append(slots - locations.size()).append(" more");
+        }
+        output.send(playerRef);
+    }
+}
@@ -0,0 +1,179 @@
+package hytale.examples.inventory;
+
+import com.hypixel.hytale.component.Ref;
+import com.hypixel.hytale.component.Store;
+import com.hypixel.hytale.server.core.Message;
+import com.hypixel.hytale.server.core.command.system.CommandContext;
+import com.hypixel.hytale.server.core.command.system.arguments.system.RequiredArg;
+import com.hypixel.hytale.server.core.command.system.arguments.types.ArgTypes;
+import com.hypixel.hytale.server.core.entity.entities.Player;
+import com.hypixel.hytale.server.core.inventory.ItemStack;
+import com.hypixel.hytale.server.core.inventory.container.CombinedItemContainer;
+import com.hypixel.hytale.server.core.inventory.transaction.ItemStackTransaction;
+import com.hypixel.hytale.server.core.universe.PlayerRef;
+import com.hypixel.hytale.server.core.universe.world.World;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+import hytale.examples.shared.TimedPlayerCommand;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Give several items to several players in one command.
+ * Usage: /give-batch <targets> <item[:quantity]>...
+ * Examples:
+ *   /give-batch @a Food_Bread:5 Weapon_Sword_Wood
+ *   /give-batch Alice,Bob Food_Bread:10 Food_Apple:10
+ *
+ * Targets are {@code @a} (every player in your world) or a comma-separated list of
+ * player names. Only players in your world are reachable: other worlds' inventories
+ * belong to their own world threads.
+ *
+ * Each item id is resolved once through the {@link ItemCache} and turned into a single
+ * immutable {@link ItemStack} that is shared by every target, so a reward drop to 200
+ * players costs one lookup per item instead of one per player.
+ */
+public class GiveBatchCommand extends TimedPlayerCommand {
+
+    private static final String ALL_PLAYERS = "@a";
+
+    private final ItemCache itemCache;
+    private final ItemIdIndex itemIds;
+    private final RequiredArg<String> targetsArg;
+    private final RequiredArg<List<String>> itemsArg;
+
+    public GiveBatchCommand(ItemCache itemCache, ItemIdIndex itemIds) {
+        super("give-batch", "Add several items to several players' inventories");
+        this.itemCache = itemCache;
+        this.itemIds = itemIds;
+        requirePermission("hytale.examples.inventory.givebatch");
+        targetsArg = withRequiredArg("targets", "@a or comma-separated player names", ArgTypes.STRING);
+        itemsArg = withListRequiredArg("items", "Items as id or id:quantity (e.g., Food_Bread:5)", ArgTypes.STRING);
+    }
+
+    @Override
+    protected void executeTimed(CommandContext ctx, Store<EntityStore> store,
+                               Ref<EntityStore> ref, PlayerRef playerRef, World world) {
+        if (!InventoryPlugin.get().getRateLimiter().tryAcquire(getName(), playerRef)) {
+            return;
+        }
+
+        List<ItemStack> stacks = parseItems(ctx.get(itemsArg), playerRef, itemIds, itemCache);
+        if (stacks == null) {
+            return;
+        }
+
+        List<PlayerRef> targets = resolveTargets(ctx.get(targetsArg), world, playerRef);
+        if (targets.isEmpty()) {
+            return;
+        }
+
+        // Per item: how much could not fit, and for how many players
+        int[] leftOver = new int[stacks.size()];
+        int[] shortPlayers = new int[stacks.size()];
+        int skipped = 0;
+
+        for (PlayerRef target : targets) {
+            // A target may have disconnected or be between worlds since it was resolved
+            Ref<EntityStore> targetRef = target.getReference();
+            Player player = targetRef != null && targetRef.isValid()
+                ? store.getComponent(targetRef, Player.getComponentType()) : null;
+            if (player == null) {
+                skipped++;
+                continue;
+            }
+            CombinedItemContainer combined = player.getInventory().getCombinedHotbarFirst();
+
+            for (int i = 0; i < stacks.size(); i++) {
+                ItemStackTransaction result = combined.addItemStack(stacks.get(i));
+                ItemStack remainder = result.getRemainder();
+                if (!ItemStack.isEmpty(remainder)) {
+                    leftOver[i] += remainder.getQuantity();
+                    shortPlayers[i]++;
+                }
+            }
+        }
+
+        playerRef.sendMessage(Message.raw("Gave " + stacks.size() + " item type(s) to "
+            + (targets.size() - skipped) + " player(s)"
+            + (skipped > 0 ? ", skipped " + skipped + " no longer in the world" : "")));
+        for (int i = 0; i < stacks.size(); i++) {
+            if (leftOver[i] > 0) {
+                ItemStack stack = stacks.get(i);
+                playerRef.sendMessage(Message.raw("  " + stack.getItemId() + ": " + leftOver[i]
+                    + " could not fit (" + shortPlayers[i] + " player(s) with full inventories)"));
+            }
+        }
+    }
+
+    /**
+     * Parses and validates every {@code id[:quantity]} entry.
+     *
+     * @return one stack per entry, or null if any entry is invalid (an error was sent)
+     */
+    static List<ItemStack> parseItems(List<String> entries, PlayerRef playerRef,
+                                      ItemIdIndex itemIds, ItemCache itemCache) {
+        List<ItemStack> stacks = new ArrayList<>(entries.size());
+        for (String entry : entries) {
+            String itemId = entry;
+            int quantity = 1;
+
+            int colon = entry.lastIndexOf(':');
+            if (colon > 0 && colon < entry.length() - 1) {
+                try {
+                    quantity = Integer.parseInt(entry.substring(colon + 1));
+                    itemId = entry.substring(0, colon);
+                } catch (NumberFormatException e) {
+                    // Not a quantity - the colon is part of the id (e.g. hytale:apple)
+                }
+            }
+
+            if (quantity < 1) {
+                playerRef.sendMessage(Message.raw("Quantity must be at least 1: " + entry));
+                return null;
+            }
+            String canonicalId = itemIds.canonical(itemId);
+            if (canonicalId == null || !itemCache.isValid(canonicalId)) {
+                playerRef.sendMessage(Message.raw(ItemIdArgType.unknownItemMessage(itemIds, itemId)));
+                return null;
+            }
+            itemId = canonicalId;
+            stacks.add(new ItemStack(itemId, quantity));
+        }
+        return stacks;
+    }
+
+    /**
+     * Resolves {@code @a} or a comma-separated name list against the players in {@code world}.
+     * Unknown names are reported but do not abort the batch.
+     */
+    private List<PlayerRef> resolveTargets(String targets, World world, PlayerRef playerRef) {
+        List<PlayerRef> resolved = new ArrayList<>();
+        if (ALL_PLAYERS.equalsIgnoreCase(targets)) {
+            resolved.addAll(world.getPlayerRefs());
+            return resolved;
+        }
+
+        Set<String> wanted = new HashSet<>();
+        for (String name : targets.split(",")) {
+            if (!name.isBlank()) {
+                wanted.add(name.trim().toLowerCase());
+            }
+        }
+        for (PlayerRef candidate : world.getPlayerRefs()) {
+            if (wanted.remove(candidate.getUsername().toLowerCase())) {
+                resolved.add(candidate);
+            }
+        }
+
+        if (!wanted.isEmpty()) {
+            playerRef.sendMessage(Message.raw("Not in this world: " + String.join(", ", wanted)));
+        }
+        if (resolved.isEmpty()) {
+            playerRef.sendMessage(Message.raw("No matching players"));
+        }
+        return resolved;
+    }
+}
@@ -2,20 +2,19 @@ package hytale.examples.inventory;
 
 import com.hypixel.hytale.component.Ref;
 import com.hypixel.hytale.component.Store;
-import com.hypixel.hytale.server.core.Message;
 import com.hypixel.hytale.server.core.command.system.CommandContext;
 import com.hypixel.hytale.server.core.command.system.arguments.system.RequiredArg;
 import com.hypixel.hytale.server.core.command.system.arguments.types.ArgTypes;
-import com.hypixel.hytale.server.core.command.system.basecommands.AbstractPlayerCommand;
 import com.hypixel.hytale.server.core.entity.entities.Player;
 import com.hypixel.hytale.server.core.inventory.Inventory;
-import com.hypixel.hytale.server.core.asset.type.item.config.Item;
 import com.hypixel.hytale.server.core.inventory.ItemStack;
 import com.hypixel.hytale.server.core.inventory.container.CombinedItemContainer;
 import com.hypixel.hytale.server.core.inventory.transaction.ItemStackTransaction;
 import com.hypixel.hytale.server.core.universe.PlayerRef;
 import com.hypixel.hytale.server.core.universe.world.World;
 import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+import hytale.examples.shared.TimedPlayerCommand;
+import hytale.examples.shared.Translations;
 
 /**
  * Give items to the player's inventory.
@@ -23,54 +22,77 @@ import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
  * Examples:
  *   /give hytale:wooden_sword 1
  *   /give hytale:apple 10
+ *
+ * The item argument completes and validates against the {@link ItemIdIndex}; the item
+ * itself is resolved through the shared {@link ItemCache}. Replies are in the player's
+ * language, from {@link Translations}.
  */
-public class GiveCommand extends AbstractPlayerCommand {
+public class GiveCommand extends TimedPlayerCommand {
 
+    private static final Translations.Key QUANTITY_TOO_LOW = new Translations.Key("inventory.give.quantity_too_low");
+    private static final Translations.Key UNKNOWN_ITEM = new Translations.Key("inventory.give.unknown_item",
+        Translations.Param.text("item"));
+    private static final Translations.Key ADDED = new Translations.Key("inventory.give.added",
+        Translations.Param.number("count"), Translations.Param.text("item"));
+    private static final Translations.Key ADDED_PARTIAL = new Translations.Key("inventory.give.added_partial",
+        Translations.Param.number("count"), Translations.Param.text("item"), Translations.Param.number("left"));
+    private static final Translations.Key FULL = new Translations.Key("inventory.give.full");
+
+    private final ItemCache itemCache;
     private final RequiredArg<String> itemArg;
     private final RequiredArg<Integer> quantityArg;
 
-    public GiveCommand() {
+    public GiveCommand(ItemCache itemCache, ItemIdIndex itemIds) {
         super("give", "Add items to your inventory");
-        itemArg = withRequiredArg("item", "Item ID (e.g., hytale:wooden_sword)", ArgTypes.STRING);
+        this.itemCache = itemCache;
+        itemArg = withRequiredArg("item", "Item ID (e.g., hytale:wooden_sword)", new ItemIdArgType(itemIds));
         quantityArg = withRequiredArg("quantity", "Number of items", ArgTypes.INTEGER);
     }
 
     @Override
-    protected void execute(CommandContext ctx, Store<EntityStore> store,
-                          Ref<EntityStore> ref, PlayerRef playerRef, World world) {
+    protected void executeTimed(CommandContext ctx, Store<EntityStore> store,
+                               Ref<EntityStore> ref, PlayerRef playerRef, World world) {
+        if (!InventoryPlugin.get().getRateLimiter().tryAcquire(getName(), playerRef)) {
+            return;
+        }
+
+        Translations translations = InventoryPlugin.get().getTranslations();
         String itemId = ctx.get(itemArg);
         int quantity = ctx.get(quantityArg);
 
         if (quantity < 1) {
-            playerRef.sendMessage(Message.raw("Quantity must be at least 1"));
+            translations.format(playerRef, QUANTITY_TOO_LOW).send(playerRef);
             return;
         }
 
-        ItemStack itemStack = new ItemStack(itemId, quantity);
-
         // Validate item exists
-        if (itemStack.getItem() == Item.UNKNOWN) {
-            playerRef.sendMessage(Message.raw("Unknown item: " + itemId));
+        if (!itemCache.isValid(itemId)) {
+            translations.format(playerRef, UNKNOWN_ITEM).arg(itemId).send(playerRef);
             return;
         }
 
+        ItemStack itemStack = new ItemStack(itemId, quantity);
+
         Player player = store.getComponent(ref, Player.getComponentType());
         Inventory inventory = player.getInventory();
 
         // Use combined container that tries hotbar first, then storage
+        InventoryMutationEvent event = InventoryMutationEvent.start("give", inventory,
+            InventorySection.HOTBAR, InventorySection.STORAGE);
         CombinedItemContainer combined = inventory.getCombinedHotbarFirst();
         ItemStackTransaction result = combined.addItemStack(itemStack);
+        event.finish(inventory);
 
         ItemStack remainder = result.getRemainder();
         int added = quantity - (remainder != null ? remainder.getQuantity() : 0);
 
         if (added == quantity) {
-            playerRef.sendMessage(Message.raw("Added " + quantity + "x " + itemId));
+            translations.format(playerRef, ADDED).arg(quantity).arg(itemId).send(playerRef);
         } else if (added > 0) {
-            playerRef.sendMessage(Message.raw("Added " + added + "x " + itemId
-                + " (inventory full, " + remainder.getQuantity() + " could not fit)"));
+            translations.format(playerRef, ADDED_PARTIAL).arg(added).arg(itemId).arg(remainder.getQuantity())
+                .send(playerRef);
         } else {
-            playerRef.sendMessage(Message.raw("Inventory full - could not add items"));
+            translations.format(playerRef, FULL).send(playerRef);
         }
     }
 }
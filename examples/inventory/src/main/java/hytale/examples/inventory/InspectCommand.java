@@ -2,88 +2,94 @@ package hytale.examples.inventory;
 
 import com.hypixel.hytale.component.Ref;
 import com.hypixel.hytale.component.Store;
-import com.hypixel.hytale.server.core.Message;
 import com.hypixel.hytale.server.core.command.system.CommandContext;
-import com.hypixel.hytale.server.core.command.system.basecommands.AbstractPlayerCommand;
+import com.hypixel.hytale.server.core.command.system.arguments.system.FlagArg;
 import com.hypixel.hytale.server.core.entity.entities.Player;
 import com.hypixel.hytale.server.core.inventory.Inventory;
 import com.hypixel.hytale.server.core.inventory.ItemStack;
-import com.hypixel.hytale.server.core.inventory.container.ItemContainer;
 import com.hypixel.hytale.server.core.universe.PlayerRef;
 import com.hypixel.hytale.server.core.universe.world.World;
 import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+import hytale.examples.shared.CommandOutput;
+import hytale.examples.shared.TimedPlayerCommand;
+
+import java.util.List;
 
 /**
  * Inspect current inventory contents.
- * Usage: /inspect
+ * Usage: /inspect [--verify]
  * Shows: held item, hotbar summary, total items
+ *
+ * Counts come from the player's {@link InventorySummary}, which is kept current by
+ * container change events, so no container is scanned here. With --verify the summary
+ * is also compared against a full scan and any drift is reported.
+ *
+ * The report goes out as a single message built with {@link CommandOutput}.
  */
-public class InspectCommand extends AbstractPlayerCommand {
+public class InspectCommand extends TimedPlayerCommand {
+
+    private final InventorySummaryIndex summaryIndex;
+    private final FlagArg verifyArg;
 
-    public InspectCommand() {
+    public InspectCommand(InventorySummaryIndex summaryIndex) {
         super("inspect", "Show inventory contents");
+        this.summaryIndex = summaryIndex;
+        verifyArg = withFlagArg("verify", "Compare the inventory index against a full scan");
     }
 
     @Override
-    protected void execute(CommandContext ctx, Store<EntityStore> store,
-                          Ref<EntityStore> ref, PlayerRef playerRef, World world) {
+    protected void executeTimed(CommandContext ctx, Store<EntityStore> store,
+                               Ref<EntityStore> ref, PlayerRef playerRef, World world) {
         Player player = store.getComponent(ref, Player.getComponentType());
         Inventory inventory = player.getInventory();
+        InventorySummary summary = summaryIndex.get(playerRef, inventory);
+
+        CommandOutput output = CommandOutput.start();
 
         // Show held item
         ItemStack heldItem = inventory.getItemInHand();
         if (heldItem.isEmpty()) {
-            playerRef.sendMessage(Message.raw("Held item: (empty)"));
+            output.line("Held item: (empty)");
         } else {
-            playerRef.sendMessage(Message.raw("Held item: " + heldItem.getItemId()
-                + " x" + heldItem.getQuantity()));
+            output.line("Held item: ").append(heldItem.getItemId()).append(" x").append(heldItem.getQuantity());
         }
 
         // Show active hotbar slot
-        byte activeSlot = inventory.getActiveHotbarSlot();
-        playerRef.sendMessage(Message.raw("Active hotbar slot: " + activeSlot));
-
-        // Count hotbar items
-        ItemContainer hotbar = inventory.getHotbar();
-        int hotbarCount = countItems(hotbar);
-        int hotbarSlots = countNonEmptySlots(hotbar);
-        playerRef.sendMessage(Message.raw("Hotbar: " + hotbarSlots + "/" + hotbar.getCapacity()
-            + " slots, " + hotbarCount + " total items"));
-
-        // Count storage items
-        ItemContainer storage = inventory.getStorage();
-        int storageCount = countItems(storage);
-        int storageSlots = countNonEmptySlots(storage);
-        playerRef.sendMessage(Message.raw("Storage: " + storageSlots + "/" + storage.getCapacity()
-            + " slots, " + storageCount + " total items"));
-
-        // Count armor items
-        ItemContainer armor = inventory.getArmor();
-        int armorSlots = countNonEmptySlots(armor);
-        playerRef.sendMessage(Message.raw("Armor: " + armorSlots + "/" + armor.getCapacity() + " slots equipped"));
+        output.line("Active hotbar slot: ").append(inventory.getActiveHotbarSlot());
+
+        // Hotbar items
+        int hotbarCount = summary.getTotalQuantity(InventorySection.HOTBAR);
+        appendSlots(output.line("Hotbar: "), summary, InventorySection.HOTBAR)
+            .append(" slots, ").append(hotbarCount).append(" total items");
+
+        // Storage items
+        int storageCount = summary.getTotalQuantity(InventorySection.STORAGE);
+        appendSlots(output.line("Storage: "), summary, InventorySection.STORAGE)
+            .append(" slots, ").append(storageCount).append(" total items");
+
+        // Armor items
+        appendSlots(output.line("Armor: "), summary, InventorySection.ARMOR).append(" slots equipped");
 
         // Total summary
-        int totalItems = hotbarCount + storageCount;
-        playerRef.sendMessage(Message.raw("Total items (hotbar + storage): " + totalItems));
-    }
+        output.line("Total items (hotbar + storage): ").append(hotbarCount + storageCount);
 
-    private int countItems(ItemContainer container) {
-        int[] count = {0};
-        container.forEach((slot, itemStack) -> {
-            if (!itemStack.isEmpty()) {
-                count[0] += itemStack.getQuantity();
+        if (ctx.provided(verifyArg)) {
+            List<String> mismatches = summary.verify();
+            if (mismatches.isEmpty()) {
+                output.line("Index verified: matches full scan");
+            } else {
+                output.line("Index drift detected (").append(mismatches.size()).append("):");
+                for (String mismatch : mismatches) {
+                    output.line("  ").append(mismatch);
+                }
             }
-        });
-        return count[0];
+        }
+
+        // One message for the whole report
+        output.send(playerRef);
     }
 
-    private int countNonEmptySlots(ItemContainer container) {
-        int[] count = {0};
-        container.forEach((slot, itemStack) -> {
-            if (!itemStack.isEmpty()) {
-                count[0]++;
-            }
-        });
-        return count[0];
+    private static CommandOutput appendSlots(CommandOutput output, InventorySummary summary, InventorySection section) {
+        return output.append(summary.getOccupiedSlots(section)).append('/').append(summary.getCapacity(section));
     }
 }
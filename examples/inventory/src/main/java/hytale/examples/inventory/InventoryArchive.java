@@ -0,0 +1,381 @@
+package hytale.examples.inventory;
+
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Compact binary file of many players' {@link InventorySnapshot}s, for backup and migration.
+ *
+ * <p>Layout, all integers big-endian:
+ * <pre>
+ *   header   magic "HINV", version, string table offset, end offset, player count
+ *   records  one per player, each prefixed with its byte length (varint):
+ *              player UUID (16 bytes), name (string index)
+ *              per section: capacity, stack count, then per stack:
+ *                slot delta, item id (string index), quantity &lt;&lt; 1 | damaged,
+ *                durability (8 bytes, damaged stacks only)
+ *   strings  count, then each as UTF-8 byte length and bytes
+ * </pre>
+ * Every count, index and quantity is an unsigned LEB128 varint, so a typical stack takes
+ * three or four bytes. Item ids and player names are written once, in the string table
+ * at the end, which the writer builds as it goes.
+ *
+ * <p>Both sides go through memory-mapped windows of {@link #WINDOW_BYTES} that are moved
+ * along the file, so records are copied straight into the page cache and exporting is
+ * limited by I/O rather than allocation. The end offset is written last; a file whose
+ * export did not finish is rejected on read.
+ *
+ * <p>Writers and readers are not thread-safe; use one per thread. Neither touches the
+ * server, so both are safe off the world thread.
+ */
+public final class InventoryArchive {
+
+    /** File name suffix used by the export and import commands. */
+    public static final String FILE_SUFFIX = ".hinv";
+
+    /** Size of each mapped region. */
+    public static final int WINDOW_BYTES = 8 * 1024 * 1024;
+
+    private static final int MAGIC = 0x48494E56;
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 32;
+
+    /** Largest encoding of one stack: slot, item index, quantity and durability. */
+    private static final int MAX_STACK_BYTES = 5 + 5 + 5 + 8;
+
+    private InventoryArchive() {
+    }
+
+    /**
+     * Streams snapshots into a new archive, replacing any existing file.
+     * Call {@link #close()} to finish the file; until then it cannot be read.
+     */
+    public static final class Writer implements Closeable {
+
+        private final FileChannel channel;
+        private final MappedByteBuffer header;
+        private MappedByteBuffer window;
+        private long windowStart;
+
+        private final Object2IntOpenHashMap<String> stringIndexes = new Object2IntOpenHashMap<>();
+        private final List<String> strings = new ArrayList<>();
+        private byte[] scratch = new byte[4096];
+        private int players;
+        private long stacks;
+
+        public Writer(Path file) throws IOException {
+            channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+            header = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_BYTES);
+            header.putInt(0, MAGIC).putInt(4, VERSION);
+            map(HEADER_BYTES, WINDOW_BYTES);
+            stringIndexes.defaultReturnValue(-1);
+        }
+
+        public void write(InventorySnapshot snapshot) throws IOException {
+            int length = encode(snapshot);
+            reserve(5 + length);
+            putVarint(window, length);
+            window.put(scratch, 0, length);
+            players++;
+            stacks += snapshot.getStackCount();
+        }
+
+        public int getPlayerCount() {
+            return players;
+        }
+
+        public long getStackCount() {
+            return stacks;
+        }
+
+        /** Bytes written so far, excluding the string table. */
+        public long getSize() {
+            return windowStart + window.position();
+        }
+
+        /**
+         * Writes the string table and header and closes the file.
+         */
+        @Override
+        public void close() throws IOException {
+            try {
+                long tableOffset = getSize();
+                reserve(5);
+                putVarint(window, strings.size());
+                for (String string : strings) {
+                    byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+                    reserve(5 + bytes.length);
+                    putVarint(window, bytes.length);
+                    window.put(bytes);
+                }
+                long end = getSize();
+                window.force();
+
+                header.putLong(8, tableOffset).putLong(16, end).putInt(24, players);
+                header.force();
+                try {
+                    channel.truncate(end);
+                } catch (IOException e) {
+                    // Windows refuses to shrink a file while a region is still mapped; the
+                    // slack after the end offset is ignored on read
+                }
+            } finally {
+                channel.close();
+            }
+        }
+
+        /**
+         * Encodes one record into {@link #scratch}.
+         *
+         * @return the record's length
+         */
+        private int encode(InventorySnapshot snapshot) {
+            int maxLength = 16 + 5 + InventorySection.count() * 10 + snapshot.getStackCount() * MAX_STACK_BYTES;
+            if (scratch.length < maxLength) {
+                scratch = new byte[Math.max(maxLength, scratch.length * 2)];
+            }
+            byte[] out = scratch;
+            int pos = 0;
+
+            pos = putLong(out, pos, snapshot.getPlayerId().getMostSignificantBits());
+            pos = putLong(out, pos, snapshot.getPlayerId().getLeastSignificantBits());
+            pos = putVarint(out, pos, intern(snapshot.getPlayerName()));
+
+            int index = 0;
+            for (InventorySection section : InventorySection.values()) {
+                int end = index;
+                while (end < snapshot.getStackCount() && snapshot.getSection(end) == section) {
+                    end++;
+                }
+                pos = putVarint(out, pos, snapshot.getCapacity(section));
+                pos = putVarint(out, pos, end - index);
+
+                int previousSlot = 0;
+                for (; index < end; index++) {
+                    int slot = snapshot.getSlot(index);
+                    double durability = snapshot.getDurability(index);
+                    boolean damaged = !Double.isNaN(durability);
+                    pos = putVarint(out, pos, slot - previousSlot);
+                    pos = putVarint(out, pos, intern(snapshot.getItemId(index)));
+                    pos = putVarint(out, pos, ((long) snapshot.getQuantity(index) << 1) | (damaged ? 1 : 0));
+                    if (damaged) {
+                        pos = putLong(out, pos, Double.doubleToRawLongBits(durability));
+                    }
+                    previousSlot = slot;
+                }
+            }
+            return pos;
+        }
+
+        private int intern(String string) {
+            int index = stringIndexes.getInt(string);
+            if (index < 0) {
+                index = strings.size();
+                strings.add(string);
+                stringIndexes.put(string, index);
+            }
+            return index;
+        }
+
+        /**
+         * Moves the window forward if fewer than {@code bytes} remain in it.
+         */
+        private void reserve(int bytes) throws IOException {
+            if (window.remaining() < bytes) {
+                long position = getSize();
+                window.force();
+                map(position, Math.max(WINDOW_BYTES, bytes));
+            }
+        }
+
+        private void map(long start, int size) throws IOException {
+            window = channel.map(FileChannel.MapMode.READ_WRITE, start, size);
+            windowStart = start;
+        }
+    }
+
+    /**
+     * Reads the snapshots of an archive in the order they were written.
+     */
+    public static final class Reader implements Closeable {
+
+        private final FileChannel channel;
+        private final String[] strings;
+        private final long recordsEnd;
+        private final int playerCount;
+        private MappedByteBuffer window;
+        private long windowStart;
+
+        public Reader(Path file) throws IOException {
+            channel = FileChannel.open(file, StandardOpenOption.READ);
+            try {
+                if (channel.size() < HEADER_BYTES) {
+                    throw new IOException("Not an inventory archive: " + file.getFileName());
+                }
+                MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_BYTES);
+                if (header.getInt(0) != MAGIC) {
+                    throw new IOException("Not an inventory archive: " + file.getFileName());
+                }
+                if (header.getInt(4) != VERSION) {
+                    throw new IOException("Unsupported inventory archive version " + header.getInt(4));
+                }
+                long tableOffset = header.getLong(8);
+                long end = header.getLong(16);
+                if (end == 0) {
+                    throw new IOException("Inventory archive was not finished: " + file.getFileName());
+                }
+                if (tableOffset < HEADER_BYTES || end < tableOffset || end > channel.size()) {
+                    throw new IOException("Corrupt inventory archive header: " + file.getFileName());
+                }
+                recordsEnd = tableOffset;
+                playerCount = header.getInt(24);
+                strings = readStrings(channel.map(FileChannel.MapMode.READ_ONLY, tableOffset, end - tableOffset));
+                map(HEADER_BYTES, 0);
+            } catch (IOException | RuntimeException e) {
+                channel.close();
+                throw e;
+            }
+        }
+
+        public int getPlayerCount() {
+            return playerCount;
+        }
+
+        /**
+         * @return the next player's snapshot, or null after the last one
+         */
+        public InventorySnapshot next() throws IOException {
+            long start = windowStart + window.position();
+            if (start >= recordsEnd) {
+                return null;
+            }
+            try {
+                if (window.remaining() < 5) {
+                    map(start, 5);
+                }
+                int length = getVarint(window);
+                if (window.remaining() < length) {
+                    // Record straddles the window; remap from its first byte
+                    map(start, 5 + length);
+                    length = getVarint(window);
+                }
+                int recordEnd = window.position() + length;
+                InventorySnapshot snapshot = decode(window);
+                if (window.position() != recordEnd) {
+                    throw new IOException("Corrupt inventory record at offset " + start);
+                }
+                return snapshot;
+            } catch (BufferUnderflowException | IndexOutOfBoundsException | IllegalArgumentException e) {
+                throw new IOException("Corrupt inventory record at offset " + start, e);
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+
+        private InventorySnapshot decode(ByteBuffer in) {
+            UUID playerId = new UUID(in.getLong(), in.getLong());
+            InventorySnapshot snapshot = new InventorySnapshot(playerId, strings[getVarint(in)]);
+            for (InventorySection section : InventorySection.values()) {
+                snapshot.setCapacity(section, getVarint(in));
+                int count = getVarint(in);
+                int slot = 0;
+                for (int i = 0; i < count; i++) {
+                    slot += getVarint(in);
+                    String itemId = strings[getVarint(in)];
+                    long quantity = getVarLong(in);
+                    double durability = (quantity & 1) != 0
+                        ? Double.longBitsToDouble(in.getLong()) : InventorySnapshot.DEFAULT_DURABILITY;
+                    snapshot.add(section, slot, itemId, (int) (quantity >>> 1), durability);
+                }
+            }
+            return snapshot;
+        }
+
+        /**
+         * Maps the records from {@code start}, at least {@code minBytes} long where the file allows.
+         */
+        private void map(long start, int minBytes) throws IOException {
+            long size = Math.min(recordsEnd - start, Math.max(WINDOW_BYTES, minBytes));
+            window = channel.map(FileChannel.MapMode.READ_ONLY, start, size);
+            windowStart = start;
+        }
+
+        private static String[] readStrings(ByteBuffer in) throws IOException {
+            try {
+                String[] strings = new String[getVarint(in)];
+                byte[] bytes = new byte[64];
+                for (int i = 0; i < strings.length; i++) {
+                    int length = getVarint(in);
+                    if (bytes.length < length) {
+                        bytes = new byte[length];
+                    }
+                    in.get(bytes, 0, length);
+                    strings[i] = new String(bytes, 0, length, StandardCharsets.UTF_8);
+                }
+                return strings;
+            } catch (BufferUnderflowException | IllegalArgumentException e) {
+                throw new IOException("Corrupt inventory archive string table", e);
+            }
+        }
+    }
+
+    private static int putLong(byte[] out, int pos, long value) {
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            out[pos++] = (byte) (value >>> shift);
+        }
+        return pos;
+    }
+
+    private static int putVarint(byte[] out, int pos, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out[pos++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out[pos++] = (byte) value;
+        return pos;
+    }
+
+    private static void putVarint(ByteBuffer out, int value) {
+        while ((value & ~0x7F) != 0) {
+            out.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.put((byte) value);
+    }
+
+    private static int getVarint(ByteBuffer in) {
+        long value = getVarLong(in);
+        if (value > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Varint out of range: " + value);
+        }
+        return (int) value;
+    }
+
+    private static long getVarLong(ByteBuffer in) {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = in.get();
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Varint too long");
+    }
+}
@@ -0,0 +1,140 @@
+package hytale.examples.inventory;
+
+import com.hypixel.hytale.component.Ref;
+import com.hypixel.hytale.component.Store;
+import com.hypixel.hytale.server.core.Message;
+import com.hypixel.hytale.server.core.command.system.CommandContext;
+import com.hypixel.hytale.server.core.command.system.arguments.system.RequiredArg;
+import com.hypixel.hytale.server.core.command.system.arguments.types.ArgTypes;
+import com.hypixel.hytale.server.core.entity.entities.Player;
+import com.hypixel.hytale.server.core.inventory.Inventory;
+import com.hypixel.hytale.server.core.inventory.ItemStack;
+import com.hypixel.hytale.server.core.inventory.container.ItemContainer;
+import com.hypixel.hytale.server.core.universe.PlayerRef;
+import com.hypixel.hytale.server.core.universe.world.World;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Back up every inventory in the world to a binary archive.
+ * Usage: /inv-export <name>
+ * Examples:
+ *   /inv-export before-reset - Writes exports/before-reset.hinv in the plugin data folder
+ *
+ * Built on {@link OffThreadPlayerCommand}: the world thread copies each inventory into an
+ * {@link InventorySnapshot}; encoding and writing the {@link InventoryArchive} happen on a
+ * virtual thread. Item metadata is not exported.
+ */
+public class InventoryExportCommand extends OffThreadPlayerCommand<InventoryExportCommand.Snapshot> {
+
+    /** Archive names: letters, digits, '-' and '_', so they cannot leave the exports folder. */
+    static final Pattern NAME_PATTERN = Pattern.compile("[A-Za-z0-9_-]{1,64}");
+
+    record Snapshot(Path file, String worldName, List<InventorySnapshot> players, int metadataStacks) {
+    }
+
+    private final RequiredArg<String> nameArg;
+
+    public InventoryExportCommand() {
+        super("inv-export", "Back up every inventory in this world");
+        requirePermission("hytale.examples.inventory.export");
+        nameArg = withRequiredArg("name", "Archive name (letters, digits, - and _)", ArgTypes.STRING);
+    }
+
+    @Override
+    protected Snapshot snapshot(CommandContext ctx, Store<EntityStore> store,
+                                Ref<EntityStore> ref, PlayerRef playerRef, World world) {
+        Path file = archiveFile(ctx.get(nameArg), playerRef);
+        if (file == null) {
+            return null;
+        }
+
+        List<InventorySnapshot> players = new ArrayList<>();
+        int metadataStacks = 0;
+        for (PlayerRef target : world.getPlayerRefs()) {
+            Ref<EntityStore> targetRef = target.getReference();
+            if (targetRef == null || !targetRef.isValid()) {
+                continue;
+            }
+            Inventory inventory = store.getComponent(targetRef, Player.getComponentType()).getInventory();
+            players.add(InventorySnapshot.capture(target.getUuid(), target.getUsername(), inventory));
+            metadataStacks += countMetadataStacks(inventory);
+        }
+        return new Snapshot(file, world.getName(), players, metadataStacks);
+    }
+
+    @Override
+    protected Reply compute(Snapshot snapshot) {
+        Reply reply = new Reply();
+        long start = System.nanoTime();
+        long bytes;
+        long stacks;
+        try {
+            Files.createDirectories(snapshot.file().getParent());
+            try (InventoryArchive.Writer writer = new InventoryArchive.Writer(snapshot.file())) {
+                for (InventorySnapshot player : snapshot.players()) {
+                    writer.write(player);
+                }
+                stacks = writer.getStackCount();
+            }
+            bytes = Files.size(snapshot.file());
+        } catch (IOException e) {
+            InventoryPlugin.get().getLogger().atSevere().withCause(e).log("Could not export " + snapshot.file());
+            return reply.line("Export failed: " + e.getMessage());
+        }
+
+        reply.line("Exported " + snapshot.players().size() + " player(s) from " + snapshot.worldName()
+            + " to " + snapshot.file().getFileName() + ": " + stacks + " stacks, " + formatBytes(bytes)
+            + " in " + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) + " ms");
+        if (snapshot.metadataStacks() > 0) {
+            reply.line(snapshot.metadataStacks() + " stack(s) carried metadata, which is not exported");
+        }
+        return reply;
+    }
+
+    /**
+     * Resolves an archive name to its file, sending an error to {@code playerRef} if the
+     * name is not allowed.
+     *
+     * @return the file, or null if the name is invalid
+     */
+    static Path archiveFile(String name, PlayerRef playerRef) {
+        if (!NAME_PATTERN.matcher(name).matches()) {
+            playerRef.sendMessage(Message.raw("Invalid archive name: " + name
+                + ". Use up to 64 letters, digits, - and _"));
+            return null;
+        }
+        return InventoryPlugin.get().getExportDirectory().resolve(name + InventoryArchive.FILE_SUFFIX);
+    }
+
+    static String formatBytes(long bytes) {
+        if (bytes < 1024) {
+            return bytes + " B";
+        }
+        if (bytes < 1024 * 1024) {
+            return String.format("%.1f KiB", bytes / 1024.0);
+        }
+        return String.format("%.1f MiB", bytes / (1024.0 * 1024));
+    }
+
+    private static int countMetadataStacks(Inventory inventory) {
+        int count = 0;
+        for (InventorySection section : InventorySection.values()) {
+            ItemContainer container = section.getContainer(inventory);
+            for (short slot = 0; slot < container.getCapacity(); slot++) {
+                ItemStack stack = container.getItemStack(slot);
+                if (!ItemStack.isEmpty(stack) && stack.getMetadata() != null) {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,153 @@
+package hytale.examples.inventory;
+
+import com.hypixel.hytale.component.Ref;
+import com.hypixel.hytale.component.Store;
+import com.hypixel.hytale.server.core.Message;
+import com.hypixel.hytale.server.core.command.system.CommandContext;
+import com.hypixel.hytale.server.core.command.system.arguments.system.OptionalArg;
+import com.hypixel.hytale.server.core.command.system.arguments.system.RequiredArg;
+import com.hypixel.hytale.server.core.command.system.arguments.types.ArgTypes;
+import com.hypixel.hytale.server.core.entity.entities.Player;
+import com.hypixel.hytale.server.core.inventory.Inventory;
+import com.hypixel.hytale.server.core.inventory.ItemStack;
+import com.hypixel.hytale.server.core.universe.PlayerRef;
+import com.hypixel.hytale.server.core.universe.world.World;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Restore inventories in the world from an archive written by {@code /inv-export}.
+ * Usage: /inv-import <name> [player]
+ * Examples:
+ *   /inv-import before-reset - Restore everyone in this world who is in the archive
+ *   /inv-import before-reset Steve - Restore one player
+ *
+ * The archive is read on a virtual thread and only the players currently in this world
+ * are kept; their inventories are then replaced on the world thread. Each target is looked
+ * up again in this world's store at that point, and players who have moved to another
+ * world in the meantime are skipped. Each replaced inventory is recorded in the
+ * {@link InventoryJournal}, so {@code /inv-undo} takes the imported items back out and
+ * restores the old ones, keeping anything picked up since.
+ */
+public class InventoryImportCommand extends OffThreadPlayerCommand<InventoryImportCommand.Snapshot> {
+
+    /**
+     * @param store the issuer's world's entities; only used by the world-thread restores
+     */
+    record Snapshot(Path file, String playerName, Map<UUID, PlayerRef> targets,
+                    PlayerRef issuer, Store<EntityStore> store) {
+    }
+
+    private final InventoryJournal journal;
+    private final RequiredArg<String> nameArg;
+    private final OptionalArg<String> playerArg;
+
+    public InventoryImportCommand(InventoryJournal journal) {
+        super("inv-import", "Restore inventories in this world from a backup");
+        this.journal = journal;
+        requirePermission("hytale.examples.inventory.import");
+        nameArg = withRequiredArg("name", "Archive name given to /inv-export", ArgTypes.STRING);
+        playerArg = withOptionalArg("player", "Only restore this player", ArgTypes.STRING);
+    }
+
+    @Override
+    protected Snapshot snapshot(CommandContext ctx, Store<EntityStore> store,
+                                Ref<EntityStore> ref, PlayerRef playerRef, World world) {
+        Path file = InventoryExportCommand.archiveFile(ctx.get(nameArg), playerRef);
+        if (file == null) {
+            return null;
+        }
+        String playerName = ctx.provided(playerArg) ? ctx.get(playerArg) : null;
+
+        Map<UUID, PlayerRef> targets = new HashMap<>();
+        for (PlayerRef target : world.getPlayerRefs()) {
+            if (playerName == null || target.getUsername().equalsIgnoreCase(playerName)) {
+                targets.put(target.getUuid(), target);
+            }
+        }
+        if (targets.isEmpty()) {
+            playerRef.sendMessage(Message.raw(playerName == null
+                ? "No players in " + world.getName() : playerName + " is not in " + world.getName()));
+            return null;
+        }
+        return new Snapshot(file, playerName, targets, playerRef, store);
+    }
+
+    @Override
+    protected Reply compute(Snapshot snapshot) {
+        Reply reply = new Reply();
+        if (!Files.exists(snapshot.file())) {
+            return reply.line("No archive named " + snapshot.file().getFileName());
+        }
+
+        long start = System.nanoTime();
+        List<InventorySnapshot> matched = new ArrayList<>();
+        int archived;
+        try (InventoryArchive.Reader reader = new InventoryArchive.Reader(snapshot.file())) {
+            archived = reader.getPlayerCount();
+            InventorySnapshot player;
+            while ((player = reader.next()) != null) {
+                if (snapshot.targets().containsKey(player.getPlayerId())) {
+                    matched.add(player);
+                }
+            }
+        } catch (IOException e) {
+            InventoryPlugin.get().getLogger().atSevere().withCause(e).log("Could not import " + snapshot.file());
+            return reply.line("Import failed: " + e.getMessage());
+        }
+
+        reply.line("Read " + archived + " player(s) from " + snapshot.file().getFileName() + " in "
+            + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) + " ms; restoring " + matched.size());
+        if (matched.isEmpty() && snapshot.playerName() != null) {
+            reply.line(snapshot.playerName() + " is not in this archive");
+        }
+        String action = "import " + snapshot.file().getFileName();
+        for (InventorySnapshot player : matched) {
+            PlayerRef target = snapshot.targets().get(player.getPlayerId());
+            reply.then(() -> {
+                if (!restore(snapshot.store(), target, player, action)) {
+                    snapshot.issuer().sendMessage(Message.raw(target.getUsername()
+                        + " left this world before the import reached them and was not restored"));
+                }
+            });
+        }
+        return reply;
+    }
+
+    /**
+     * Replaces one player's inventory. Runs on the thread of the world {@code store} belongs to.
+     *
+     * @return false if the player is no longer in that world
+     */
+    private boolean restore(Store<EntityStore> store, PlayerRef target, InventorySnapshot player, String action) {
+        Ref<EntityStore> targetRef = store.getExternalData().getRefFromUUID(target.getUuid());
+        if (targetRef == null || !targetRef.isValid()) {
+            return false;
+        }
+        Inventory inventory = store.getComponent(targetRef, Player.getComponentType()).getInventory();
+
+        boolean undoable = journal.record(target.getUuid(), action, InventoryJournal.UndoMode.REPLACE, inventory,
+            InventorySection.values());
+        InventoryMutationEvent event = InventoryMutationEvent.start("import", inventory, InventorySection.values());
+        List<ItemStack> leftOver = player.restore(inventory);
+        event.finish(inventory);
+        journal.recordApplied(target.getUuid(), inventory);
+
+        target.sendMessage(Message.raw(undoable
+            ? "Your inventory was restored from a backup (/inv-undo to revert)"
+            : "Your inventory was restored from a backup"));
+        if (!leftOver.isEmpty()) {
+            target.sendMessage(Message.raw(leftOver.size() + " stack(s) did not fit and were not restored"));
+        }
+        return true;
+    }
+}
@@ -0,0 +1,173 @@
+package hytale.examples.inventory;
+
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.longs.Long2IntMap;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Server-wide inverted index from item id to every (player, section, slot) holding it.
+ *
+ * <p>Fed by {@link InventorySummary.SlotListener}s, so it is updated from the same slot diffs
+ * as the per-player summaries and never scans containers. Storage is primitive-keyed:
+ * <ul>
+ *   <li>item ids and player UUIDs are interned to dense {@code int} ids</li>
+ *   <li>a location is one {@code long}: player id, section ordinal and slot packed together</li>
+ *   <li>each item maps to a {@code long -> int} hash map of location to quantity</li>
+ * </ul>
+ * Player ids are recycled on removal, so memory tracks the number of online players.
+ *
+ * <p>Listeners run on whichever world thread owns the inventory, so all access is
+ * synchronized on this index.
+ */
+public class InventoryItemIndex {
+
+    /** One indexed slot, as returned by {@link #find(String, int)}. */
+    public record Location(UUID playerId, String playerName, InventorySection section, int slot, int quantity) {
+    }
+
+    private static final int SLOT_BITS = 16;
+    private static final int SECTION_BITS = 8;
+
+    private final Object2IntOpenHashMap<String> itemIds = new Object2IntOpenHashMap<>();
+    private final Int2ObjectOpenHashMap<Long2IntOpenHashMap> postings = new Int2ObjectOpenHashMap<>();
+
+    private final Object2IntOpenHashMap<UUID> playerIds = new Object2IntOpenHashMap<>();
+    private final List<UUID> playerUuids = new ArrayList<>();
+    private final List<String> playerNames = new ArrayList<>();
+    private final IntArrayList freePlayerIds = new IntArrayList();
+
+    public InventoryItemIndex() {
+        itemIds.defaultReturnValue(-1);
+        playerIds.defaultReturnValue(-1);
+    }
+
+    /**
+     * Registers a player and returns the listener that keeps their slots indexed.
+     * Pass it to {@link InventorySummary#track(com.hypixel.hytale.server.core.inventory.Inventory, InventorySummary.SlotListener)}.
+     */
+    public synchronized InventorySummary.SlotListener listenerFor(UUID playerId, String playerName) {
+        int player = playerIds.getInt(playerId);
+        if (player < 0) {
+            if (freePlayerIds.isEmpty()) {
+                player = playerUuids.size();
+                playerUuids.add(playerId);
+                playerNames.add(playerName);
+            } else {
+                player = freePlayerIds.popInt();
+                playerUuids.set(player, playerId);
+                playerNames.set(player, playerName);
+            }
+            playerIds.put(playerId, player);
+        }
+
+        int packedPlayer = player;
+        return (section, slot, oldItemId, newItemId, newQuantity) ->
+            onSlotChanged(packedPlayer, section, slot, oldItemId, newItemId, newQuantity);
+    }
+
+    /**
+     * Releases a player's id once their summary has been closed (which removes their slots).
+     */
+    public synchronized void removePlayer(UUID playerId) {
+        int player = playerIds.removeInt(playerId);
+        if (player >= 0) {
+            playerUuids.set(player, null);
+            playerNames.set(player, null);
+            freePlayerIds.add(player);
+        }
+    }
+
+    /**
+     * Lists where an item is held, across all indexed players.
+     *
+     * @param itemId the item id to look up
+     * @param limit maximum number of locations to return
+     * @return up to {@code limit} locations, in no particular order
+     */
+    public synchronized List<Location> find(String itemId, int limit) {
+        Long2IntOpenHashMap locations = postingsFor(itemId);
+        if (locations == null) {
+            return List.of();
+        }
+        List<Location> result = new ArrayList<>(Math.min(limit, locations.size()));
+        for (Long2IntMap.Entry entry : locations.long2IntEntrySet()) {
+            if (result.size() >= limit) {
+                break;
+            }
+            long location = entry.getLongKey();
+            int player = (int) (location >>> (SECTION_BITS + SLOT_BITS));
+            InventorySection section = InventorySection.byOrdinal((int) (location >>> SLOT_BITS) & ((1 << SECTION_BITS) - 1));
+            int slot = (int) location & ((1 << SLOT_BITS) - 1);
+            result.add(new Location(playerUuids.get(player), playerNames.get(player), section, slot, entry.getIntValue()));
+        }
+        return result;
+    }
+
+    /**
+     * Number of slots holding an item, across all indexed players.
+     */
+    public synchronized int countSlots(String itemId) {
+        Long2IntOpenHashMap locations = postingsFor(itemId);
+        return locations == null ? 0 : locations.size();
+    }
+
+    /**
+     * Total quantity of an item held across all indexed players.
+     */
+    public synchronized long countQuantity(String itemId) {
+        Long2IntOpenHashMap locations = postingsFor(itemId);
+        if (locations == null) {
+            return 0;
+        }
+        long total = 0;
+        for (Long2IntMap.Entry entry : locations.long2IntEntrySet()) {
+            total += entry.getIntValue();
+        }
+        return total;
+    }
+
+    public synchronized int getPlayerCount() {
+        return playerIds.size();
+    }
+
+    private Long2IntOpenHashMap postingsFor(String itemId) {
+        int item = itemIds.getInt(itemId);
+        return item < 0 ? null : postings.get(item);
+    }
+
+    private synchronized void onSlotChanged(int player, InventorySection section, int slot,
+                                            String oldItemId, String newItemId, int newQuantity) {
+        long location = ((long) player << (SECTION_BITS + SLOT_BITS))
+            | ((long) section.ordinal() << SLOT_BITS)
+            | slot;
+
+        if (oldItemId != null) {
+            Long2IntOpenHashMap locations = postingsFor(oldItemId);
+            if (locations != null) {
+                locations.remove(location);
+                if (locations.isEmpty()) {
+                    postings.remove(itemIds.getInt(oldItemId));
+                }
+            }
+        }
+        if (newItemId != null) {
+            int item = itemIds.getInt(newItemId);
+            if (item < 0) {
+                item = itemIds.size();
+                itemIds.put(newItemId, item);
+            }
+            Long2IntOpenHashMap locations = postings.get(item);
+            if (locations == null) {
+                locations = new Long2IntOpenHashMap(4);
+                postings.put(item, locations);
+            }
+            locations.put(location, newQuantity);
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package hytale.examples.inventory;
+
+import com.hypixel.hytale.server.core.universe.PlayerRef;
+
+import java.util.Collection;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * One {@link InventoryOperation} to apply to many players, worked through by the
+ * {@link InventoryJobQueue} over as many ticks as it takes.
+ *
+ * <p>Players move from pending to done exactly once: whichever world thread removes a
+ * player from the pending set applies the operation, so a player changing worlds
+ * mid-job is never processed twice. Counters are safe to read from any thread.
+ */
+public class InventoryJob {
+
+    public enum State { RUNNING, DONE, CANCELLED }
+
+    private final int id;
+    private final InventoryOperation operation;
+    private final PlayerRef owner;
+    private final long startedNanos = System.nanoTime();
+
+    private final Set<UUID> pending = ConcurrentHashMap.newKeySet();
+    private final Set<UUID> seen = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger applied = new AtomicInteger();
+    private final AtomicInteger failed = new AtomicInteger();
+    private final AtomicInteger skipped = new AtomicInteger();
+    private final AtomicInteger ticks = new AtomicInteger();
+
+    private volatile State state = State.RUNNING;
+    private volatile long finishedNanos;
+
+    InventoryJob(int id, InventoryOperation operation, PlayerRef owner, Collection<UUID> targets) {
+        this.id = id;
+        this.operation = operation;
+        this.owner = owner;
+        for (UUID target : targets) {
+            add(target);
+        }
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public InventoryOperation getOperation() {
+        return operation;
+    }
+
+    /**
+     * The player who started the job; told when it finishes.
+     */
+    public PlayerRef getOwner() {
+        return owner;
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    /** Players ever queued, including those who joined while the job was running. */
+    public int getTotal() {
+        return seen.size();
+    }
+
+    public int getPending() {
+        return pending.size();
+    }
+
+    public int getApplied() {
+        return applied.get();
+    }
+
+    /** Players whose operation could not complete and was rolled back. */
+    public int getFailed() {
+        return failed.get();
+    }
+
+    /** Players who disconnected before their turn. */
+    public int getSkipped() {
+        return skipped.get();
+    }
+
+    /** World ticks that processed at least one player of this job. */
+    public int getTicks() {
+        return ticks.get();
+    }
+
+    public long getElapsedNanos() {
+        return (state == State.RUNNING ? System.nanoTime() : finishedNanos) - startedNanos;
+    }
+
+    /**
+     * Queues a player unless they were already queued once.
+     */
+    boolean add(UUID playerId) {
+        return state == State.RUNNING && seen.add(playerId) && pending.add(playerId);
+    }
+
+    Set<UUID> pendingView() {
+        return pending;
+    }
+
+    /**
+     * Claims a pending player for processing.
+     *
+     * @return true if the caller now owns this player's operation
+     */
+    boolean claim(UUID playerId) {
+        return pending.remove(playerId);
+    }
+
+    void recordResult(boolean success) {
+        (success ? applied : failed).incrementAndGet();
+    }
+
+    void skip(UUID playerId) {
+        if (pending.remove(playerId)) {
+            skipped.incrementAndGet();
+        }
+    }
+
+    void countTick() {
+        ticks.incrementAndGet();
+    }
+
+    /**
+     * @return true if this call finished the job
+     */
+    boolean finishIfDrained() {
+        return pending.isEmpty() && finish(State.DONE);
+    }
+
+    boolean cancel() {
+        return finish(State.CANCELLED);
+    }
+
+    private synchronized boolean finish(State newState) {
+        if (state != State.RUNNING) {
+            return false;
+        }
+        finishedNanos = System.nanoTime();
+        state = newState;
+        return true;
+    }
+}
@@ -0,0 +1,259 @@
+package hytale.examples.inventory;
+
+import com.hypixel.hytale.component.Ref;
+import com.hypixel.hytale.component.Store;
+import com.hypixel.hytale.server.core.Message;
+import com.hypixel.hytale.server.core.command.system.CommandContext;
+import com.hypixel.hytale.server.core.command.system.arguments.system.OptionalArg;
+import com.hypixel.hytale.server.core.command.system.arguments.system.RequiredArg;
+import com.hypixel.hytale.server.core.command.system.arguments.types.ArgTypes;
+import com.hypixel.hytale.server.core.inventory.ItemStack;
+import com.hypixel.hytale.server.core.inventory.container.SortType;
+import com.hypixel.hytale.server.core.universe.PlayerRef;
+import com.hypixel.hytale.server.core.universe.world.World;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+import hytale.examples.shared.CommandOutput;
+import hytale.examples.shared.TimedPlayerCommand;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Apply an inventory operation to every online player, a little each tick.
+ * Usage:
+ *   /inv-job clear <section|all>       - empty a section for everyone
+ *   /inv-job kit <item[:qty]>...       - give everyone a kit, all or nothing per player
+ *   /inv-job sort <type> [sections]    - sort everyone's storage (or sections)
+ *   /inv-job status                    - progress of running and recent jobs
+ *   /inv-job cancel <id>               - stop a running job
+ *   /inv-job budget <ms>               - world-thread time per tick for jobs
+ * Examples:
+ *   /inv-job kit Weapon_Sword_Wood Food_Bread:5
+ *   /inv-job sort name storage,backpack
+ *
+ * Jobs are queued on the {@link InventoryJobQueue} and worked through by
+ * {@link InventoryJobSystem}, so a job covering hundreds of players never stalls a tick.
+ * Job changes are not recorded in the {@code /inv-undo} journal.
+ */
+public class InventoryJobCommand extends TimedPlayerCommand {
+
+    public InventoryJobCommand(InventoryJobQueue jobs, InventorySummaryIndex summaryIndex,
+                               ItemIdIndex itemIds, ItemCache itemCache) {
+        super("inv-job", "Run inventory operations for all players over many ticks");
+        requirePermission("hytale.examples.inventory.jobs");
+        addSubCommand(new ClearJobCommand(jobs, summaryIndex));
+        addSubCommand(new KitJobCommand(jobs, summaryIndex, itemIds, itemCache));
+        addSubCommand(new SortJobCommand(jobs, summaryIndex));
+        addSubCommand(new StatusCommand(jobs));
+        addSubCommand(new CancelCommand(jobs));
+        addSubCommand(new BudgetCommand(jobs));
+    }
+
+    @Override
+    protected void executeTimed(CommandContext ctx, Store<EntityStore> store,
+                               Ref<EntityStore> ref, PlayerRef playerRef, World world) {
+        playerRef.sendMessage(Message.raw("Usage: /inv-job <clear|kit|sort|status|cancel|budget>"));
+    }
+
+    private static void submit(InventoryJobQueue jobs, InventorySummaryIndex summaryIndex,
+                               InventoryOperation operation, PlayerRef playerRef) {
+        InventoryJob job = jobs.submit(operation, playerRef, summaryIndex.getPlayerIds());
+        playerRef.sendMessage(Message.raw("Started job #" + job.getId() + " (" + operation.describe() + ") for "
+            + job.getTotal() + " player(s); /inv-job status to follow it"));
+    }
+
+    /**
+     * /inv-job clear <section|all>
+     */
+    static class ClearJobCommand extends TimedPlayerCommand {
+
+        private final InventoryJobQueue jobs;
+        private final InventorySummaryIndex summaryIndex;
+        private final RequiredArg<String> sectionArg;
+
+        ClearJobCommand(InventoryJobQueue jobs, InventorySummaryIndex summaryIndex) {
+            super("clear", "Clear a section for every player");
+            this.jobs = jobs;
+            this.summaryIndex = summaryIndex;
+            sectionArg = withRequiredArg("section", "Section to clear (all/hotbar/storage/armor/utility/tools/backpack)",
+                ArgTypes.STRING);
+        }
+
+        @Override
+        protected void executeTimed(CommandContext ctx, Store<EntityStore> store,
+                                   Ref<EntityStore> ref, PlayerRef playerRef, World world) {
+            String section = ctx.get(sectionArg).toLowerCase();
+            if (section.equals("all")) {
+                submit(jobs, summaryIndex, InventoryOperation.clear(InventorySection.values()), playerRef);
+                return;
+            }
+            InventorySection target = InventorySection.byId(section);
+            if (target == null) {
+                playerRef.sendMessage(Message.raw("Unknown section: " + section
+                    + ". Valid sections: all, " + InventorySection.NAMES));
+                return;
+            }
+            submit(jobs, summaryIndex, InventoryOperation.clear(target), playerRef);
+        }
+    }
+
+    /**
+     * /inv-job kit <item[:qty]>...
+     */
+    static class KitJobCommand extends TimedPlayerCommand {
+
+        private final InventoryJobQueue jobs;
+        private final InventorySummaryIndex summaryIndex;
+        private final ItemIdIndex itemIds;
+        private final ItemCache itemCache;
+        private final RequiredArg<List<String>> itemsArg;
+
+        KitJobCommand(InventoryJobQueue jobs, InventorySummaryIndex summaryIndex,
+                      ItemIdIndex itemIds, ItemCache itemCache) {
+            super("kit", "Give every player a kit, all or nothing");
+            this.jobs = jobs;
+            this.summaryIndex = summaryIndex;
+            this.itemIds = itemIds;
+            this.itemCache = itemCache;
+            itemsArg = withListRequiredArg("items", "Items as id or id:quantity (e.g., Food_Bread:5)", ArgTypes.STRING);
+        }
+
+        @Override
+        protected void executeTimed(CommandContext ctx, Store<EntityStore> store,
+                                   Ref<EntityStore> ref, PlayerRef playerRef, World world) {
+            List<ItemStack> kit = GiveBatchCommand.parseItems(ctx.get(itemsArg), playerRef, itemIds, itemCache);
+            if (kit == null) {
+                return;
+            }
+            submit(jobs, summaryIndex, InventoryOperation.giveKit(kit), playerRef);
+        }
+    }
+
+    /**
+     * /inv-job sort <type> [sections]
+     */
+    static class SortJobCommand extends TimedPlayerCommand {
+
+        private final InventoryJobQueue jobs;
+        private final InventorySummaryIndex summaryIndex;
+        private final RequiredArg<String> sortTypeArg;
+        private final OptionalArg<String> sectionsArg;
+
+        SortJobCommand(InventoryJobQueue jobs, InventorySummaryIndex summaryIndex) {
+            super("sort", "Sort every player's inventory");
+            this.jobs = jobs;
+            this.summaryIndex = summaryIndex;
+            sortTypeArg = withRequiredArg("type", "Sort type (name/type/rarity)", ArgTypes.STRING);
+            sectionsArg = withOptionalArg("sections", "Sections to sort and compact together (e.g., hotbar,storage,backpack)",
+                ArgTypes.STRING);
+        }
+
+        @Override
+        protected void executeTimed(CommandContext ctx, Store<EntityStore> store,
+                                   Ref<EntityStore> ref, PlayerRef playerRef, World world) {
+            SortType sortType = SortCommand.parseSortType(ctx.get(sortTypeArg), playerRef);
+            if (sortType == null) {
+                return;
+            }
+            InventorySection[] sections = ctx.provided(sectionsArg)
+                ? SortCommand.parseSections(ctx.get(sectionsArg), playerRef)
+                : new InventorySection[] {InventorySection.STORAGE};
+            if (sections == null) {
+                return;
+            }
+            submit(jobs, summaryIndex, InventoryOperation.sort(sortType, sections), playerRef);
+        }
+    }
+
+    /**
+     * /inv-job status
+     */
+    static class StatusCommand extends TimedPlayerCommand {
+
+        private final InventoryJobQueue jobs;
+
+        StatusCommand(InventoryJobQueue jobs) {
+            super("status", "Show progress of inventory jobs");
+            this.jobs = jobs;
+        }
+
+        @Override
+        protected void executeTimed(CommandContext ctx, Store<EntityStore> store,
+                                   Ref<EntityStore> ref, PlayerRef playerRef, World world) {
+            List<InventoryJob> active = jobs.getActive();
+            List<InventoryJob> finished = jobs.getFinished();
+            CommandOutput output = appendBudget(CommandOutput.start().append("Tick budget: "), jobs.getTickBudgetNanos())
+                .append(" ms per world; ").append(active.size()).append(" job(s) running");
+            for (InventoryJob job : active) {
+                output.line("  ").append(InventoryJobQueue.describe(job));
+            }
+            if (!finished.isEmpty()) {
+                output.line("Recent:");
+                for (InventoryJob job : finished) {
+                    output.line("  ").append(InventoryJobQueue.describe(job));
+                }
+            }
+            output.send(playerRef);
+        }
+    }
+
+    /**
+     * /inv-job cancel <id>
+     */
+    static class CancelCommand extends TimedPlayerCommand {
+
+        private final InventoryJobQueue jobs;
+        private final RequiredArg<Integer> idArg;
+
+        CancelCommand(InventoryJobQueue jobs) {
+            super("cancel", "Stop a running inventory job");
+            this.jobs = jobs;
+            idArg = withRequiredArg("id", "Job id from /inv-job status", ArgTypes.INTEGER);
+        }
+
+        @Override
+        protected void executeTimed(CommandContext ctx, Store<EntityStore> store,
+                                   Ref<EntityStore> ref, PlayerRef playerRef, World world) {
+            int id = ctx.get(idArg);
+            InventoryJob job = jobs.cancel(id);
+            if (job == null) {
+                playerRef.sendMessage(Message.raw("No running job #" + id));
+            } else if (!job.getOwner().getUuid().equals(playerRef.getUuid())) {
+                // The owner was already told by the queue
+                playerRef.sendMessage(Message.raw(InventoryJobQueue.describe(job)));
+            }
+        }
+    }
+
+    /**
+     * /inv-job budget <ms>
+     */
+    static class BudgetCommand extends TimedPlayerCommand {
+
+        private final InventoryJobQueue jobs;
+        private final RequiredArg<Double> millisArg;
+
+        BudgetCommand(InventoryJobQueue jobs) {
+            super("budget", "Set world-thread time per tick for inventory jobs");
+            this.jobs = jobs;
+            millisArg = withRequiredArg("ms", "Milliseconds per tick per world (e.g., 2)", ArgTypes.DOUBLE);
+        }
+
+        @Override
+        protected void executeTimed(CommandContext ctx, Store<EntityStore> store,
+                                   Ref<EntityStore> ref, PlayerRef playerRef, World world) {
+            double millis = ctx.get(millisArg);
+            if (!(millis > 0) || millis > 50) {
+                playerRef.sendMessage(Message.raw("Budget must be between 0 and 50 ms"));
+                return;
+            }
+            jobs.setTickBudgetNanos((long) (millis * TimeUnit.MILLISECONDS.toNanos(1)));
+            appendBudget(CommandOutput.start().append("Inventory jobs now get "), jobs.getTickBudgetNanos())
+                .append(" ms per tick per world").send(playerRef);
+        }
+    }
+
+    private static CommandOutput appendBudget(CommandOutput output, long nanos) {
+        return output.append(nanos / 1_000_000.0, 2);
+    }
+}
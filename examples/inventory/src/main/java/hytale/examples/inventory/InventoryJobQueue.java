@@ -0,0 +1,183 @@
+package hytale.examples.inventory;
+
+import com.hypixel.hytale.component.Ref;
+import com.hypixel.hytale.component.Store;
+import com.hypixel.hytale.server.core.Message;
+import com.hypixel.hytale.server.core.entity.entities.Player;
+import com.hypixel.hytale.server.core.universe.PlayerRef;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs {@link InventoryJob}s over many ticks within a per-tick time budget.
+ *
+ * <p>{@link InventoryJobSystem} calls {@link #tick(Store)} once per tick in every world.
+ * Each call applies pending operations to players in that world until the budget is spent;
+ * players in other worlds are left for their own world's tick. A single player's
+ * operation always runs to completion inside one call, so it is atomic with respect to
+ * the game, and the budget can be exceeded by at most one operation.
+ *
+ * <p>Players who become ready while a job runs are added to it; players who disconnect
+ * before their turn are skipped.
+ */
+public class InventoryJobQueue {
+
+    /** Default per-tick budget per world: two milliseconds of world-thread time. */
+    public static final long DEFAULT_TICK_BUDGET_NANOS = TimeUnit.MILLISECONDS.toNanos(2);
+
+    /** Finished jobs kept for {@code /inv-job status}. */
+    private static final int MAX_FINISHED = 5;
+
+    private final List<InventoryJob> active = new CopyOnWriteArrayList<>();
+    private final Deque<InventoryJob> finished = new ConcurrentLinkedDeque<>();
+    private final AtomicInteger nextId = new AtomicInteger(1);
+
+    private volatile long tickBudgetNanos;
+
+    public InventoryJobQueue(long tickBudgetNanos) {
+        setTickBudgetNanos(tickBudgetNanos);
+    }
+
+    /**
+     * Starts a job for the given players.
+     *
+     * @param owner player to notify when the job finishes
+     */
+    public InventoryJob submit(InventoryOperation operation, PlayerRef owner, Collection<UUID> targets) {
+        InventoryJob job = new InventoryJob(nextId.getAndIncrement(), operation, owner, targets);
+        active.add(job);
+        return job;
+    }
+
+    /**
+     * Cancels a running job. Players already processed keep the change.
+     *
+     * @return the job, or null if no running job has that id
+     */
+    public InventoryJob cancel(int id) {
+        for (InventoryJob job : active) {
+            if (job.getId() == id && job.cancel()) {
+                retire(job);
+                return job;
+            }
+        }
+        return null;
+    }
+
+    public void onPlayerReady(UUID playerId) {
+        for (InventoryJob job : active) {
+            job.add(playerId);
+        }
+    }
+
+    public void onPlayerLeft(UUID playerId) {
+        for (InventoryJob job : active) {
+            job.skip(playerId);
+        }
+    }
+
+    /**
+     * Applies pending operations to players in this store's world until the budget is spent.
+     * Must be called on that world's thread.
+     */
+    public void tick(Store<EntityStore> store) {
+        if (active.isEmpty()) {
+            return;
+        }
+        EntityStore entities = store.getExternalData();
+        long deadline = System.nanoTime() + tickBudgetNanos;
+
+        for (InventoryJob job : active) {
+            boolean worked = false;
+            for (UUID playerId : job.pendingView()) {
+                if (System.nanoTime() - deadline >= 0) {
+                    break;
+                }
+                Ref<EntityStore> ref = entities.getRefFromUUID(playerId);
+                if (ref == null || !ref.isValid() || !job.claim(playerId)) {
+                    continue;
+                }
+                job.recordResult(apply(job, store, ref));
+                worked = true;
+            }
+            if (worked) {
+                job.countTick();
+            }
+            if (job.finishIfDrained()) {
+                retire(job);
+            }
+            if (System.nanoTime() - deadline >= 0) {
+                return;
+            }
+        }
+    }
+
+    public List<InventoryJob> getActive() {
+        return List.copyOf(active);
+    }
+
+    /**
+     * Recently finished or cancelled jobs, newest first.
+     */
+    public List<InventoryJob> getFinished() {
+        return new ArrayList<>(finished);
+    }
+
+    public long getTickBudgetNanos() {
+        return tickBudgetNanos;
+    }
+
+    public void setTickBudgetNanos(long tickBudgetNanos) {
+        if (tickBudgetNanos <= 0) {
+            throw new IllegalArgumentException("Tick budget must be positive: " + tickBudgetNanos);
+        }
+        this.tickBudgetNanos = tickBudgetNanos;
+    }
+
+    private static boolean apply(InventoryJob job, Store<EntityStore> store, Ref<EntityStore> ref) {
+        Player player = store.getComponent(ref, Player.getComponentType());
+        if (player == null) {
+            return false;
+        }
+        try {
+            return job.getOperation().apply(store, ref, player.getInventory());
+        } catch (RuntimeException e) {
+            InventoryPlugin.get().getLogger().atSevere().withCause(e)
+                .log("Inventory job #" + job.getId() + " failed for " + player.getPlayerRef().getUsername());
+            return false;
+        }
+    }
+
+    private void retire(InventoryJob job) {
+        active.remove(job);
+        finished.addFirst(job);
+        while (finished.size() > MAX_FINISHED) {
+            finished.pollLast();
+        }
+
+        String summary = describe(job);
+        InventoryPlugin.get().getLogger().atInfo().log(summary);
+        if (job.getOwner().isValid()) {
+            job.getOwner().sendMessage(Message.raw(summary));
+        }
+    }
+
+    /**
+     * One-line progress report, e.g. {@code "Job #3 clear storage: RUNNING, 450/1000 applied..."}.
+     */
+    public static String describe(InventoryJob job) {
+        return "Job #" + job.getId() + " " + job.getOperation().describe() + ": " + job.getState()
+            + ", " + job.getApplied() + "/" + job.getTotal() + " applied, " + job.getFailed() + " failed, "
+            + job.getSkipped() + " skipped, " + job.getPending() + " pending ("
+            + job.getTicks() + " ticks, " + TimeUnit.NANOSECONDS.toMillis(job.getElapsedNanos()) + " ms)";
+    }
+}
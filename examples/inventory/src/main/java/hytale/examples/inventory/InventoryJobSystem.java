@@ -0,0 +1,25 @@
+package hytale.examples.inventory;
+
+import com.hypixel.hytale.component.Store;
+import com.hypixel.hytale.component.system.tick.TickingSystem;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+
+/**
+ * Works through the {@link InventoryJobQueue} once per world tick.
+ *
+ * <p>Every world runs its own copy of this system, so the queue's tick budget is the
+ * most job work any single world thread will do per tick.
+ */
+public class InventoryJobSystem extends TickingSystem<EntityStore> {
+
+    private final InventoryJobQueue jobs;
+
+    public InventoryJobSystem(InventoryJobQueue jobs) {
+        this.jobs = jobs;
+    }
+
+    @Override
+    public void tick(float deltaTime, int systemIndex, Store<EntityStore> store) {
+        jobs.tick(store);
+    }
+}
@@ -0,0 +1,432 @@
+package hytale.examples.inventory;
+
+import com.hypixel.hytale.server.core.inventory.Inventory;
+import com.hypixel.hytale.server.core.inventory.ItemStack;
+import com.hypixel.hytale.server.core.inventory.container.ItemContainer;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Memory-bounded undo journal for destructive inventory commands.
+ *
+ * <p>Before {@code /inv-clear} or {@code /sort} touches a player's sections, the prior
+ * contents are recorded as an {@link Entry}. Each occupied slot is packed into two
+ * {@code long}s - section, slot and an interned item id index in one, the quantity in
+ * the other - plus its durability in a parallel {@code double} column, so a full
+ * inventory costs a few kilobytes at most. Stacks
+ * carrying metadata or a custom max durability cannot be packed and are kept by reference
+ * (stacks are immutable, so this is safe).
+ *
+ * <p>How an entry is undone depends on its {@link UndoMode}: a clear adds the removed
+ * stacks back next to whatever the player holds now, a sort only rearranges the items the
+ * sections hold at undo time into the recorded order, and an import takes back out the
+ * stacks it put in before restoring the old ones. None of them can bring back items the
+ * player has since dropped or traded, nor delete items gained since.
+ *
+ * <p>The journal keeps at most {@link #MAX_ENTRIES_PER_PLAYER} entries per player and a
+ * global byte budget across all players. When the budget is exceeded the least recently
+ * recorded entries are evicted first, whichever player they belong to.
+ *
+ * <p>Recording and undo run on world threads of possibly different worlds, so all
+ * access is synchronized on the journal.
+ */
+public class InventoryJournal {
+
+    /** Default global budget: 4 MiB of encoded snapshots. */
+    public static final long DEFAULT_MAX_BYTES = 4L * 1024 * 1024;
+
+    /** Undo depth per player. */
+    public static final int MAX_ENTRIES_PER_PLAYER = 8;
+
+    /** Approximate fixed cost of an entry: object headers, arrays and journal links. */
+    private static final int ENTRY_OVERHEAD_BYTES = 128;
+    /** Approximate cost of an unpacked stack kept by reference. */
+    private static final int REFERENCED_STACK_BYTES = 256;
+
+    private static final int NO_ITEM = -1;
+
+    /**
+     * How {@link Entry#restore} puts an entry back.
+     */
+    public enum UndoMode {
+        /** The recorded stacks are added back, keeping whatever the sections hold now (clear). */
+        MERGE,
+        /** The stacks the sections hold now are moved back into the recorded layout; nothing is added (sort). */
+        REORDER,
+        /**
+         * The stacks the command put in, given to {@link #recordApplied}, are taken back out
+         * and the recorded stacks added; anything else the sections hold is kept (import).
+         */
+        REPLACE
+    }
+
+    /**
+     * Outcome of {@link Entry#restore}.
+     *
+     * @param placed recorded stacks put back into their own slots; for a {@link UndoMode#REORDER}
+     *               entry, stacks no longer held are not counted
+     * @param leftOver stacks that fit nowhere in the inventory and must be dropped
+     */
+    public record Restored(int placed, List<ItemStack> leftOver) {
+    }
+
+    private final long maxBytes;
+    private final Map<UUID, ArrayDeque<Entry>> byPlayer = new HashMap<>();
+    private final LinkedHashSet<Entry> byAge = new LinkedHashSet<>();
+    private long usedBytes;
+    private long evictions;
+
+    private final Object2IntOpenHashMap<String> itemIndexes = new Object2IntOpenHashMap<>();
+    private final List<String> itemIds = new ArrayList<>();
+
+    public InventoryJournal(long maxBytes) {
+        if (maxBytes <= 0) {
+            throw new IllegalArgumentException("Journal budget must be positive: " + maxBytes);
+        }
+        this.maxBytes = maxBytes;
+        itemIndexes.defaultReturnValue(NO_ITEM);
+    }
+
+    /**
+     * Records the current contents of {@code sections} so they can be restored later.
+     *
+     * @param playerId owner of the inventory
+     * @param action what is about to happen, e.g. {@code "clear hotbar"}
+     * @param mode how the entry is undone
+     * @return true if the entry was kept, false if it alone exceeds the journal's budget and
+     *         cannot be undone
+     */
+    public synchronized boolean record(UUID playerId, String action, UndoMode mode,
+                                    Inventory inventory, InventorySection... sections) {
+        int occupied = 0;
+        for (InventorySection section : sections) {
+            ItemContainer container = section.getContainer(inventory);
+            for (short slot = 0; slot < container.getCapacity(); slot++) {
+                if (!ItemStack.isEmpty(container.getItemStack(slot))) {
+                    occupied++;
+                }
+            }
+        }
+
+        Entry entry = new Entry(playerId, action, mode, sections, occupied);
+        for (InventorySection section : sections) {
+            ItemContainer container = section.getContainer(inventory);
+            for (short slot = 0; slot < container.getCapacity(); slot++) {
+                ItemStack stack = container.getItemStack(slot);
+                if (!ItemStack.isEmpty(stack)) {
+                    entry.add(section, slot, stack);
+                }
+            }
+        }
+        if (entry.bytes > maxBytes) {
+            // Would only evict everyone else's entries and then itself
+            evictions++;
+            return false;
+        }
+
+        ArrayDeque<Entry> entries = byPlayer.computeIfAbsent(playerId, id -> new ArrayDeque<>());
+        entries.addLast(entry);
+        byAge.add(entry);
+        usedBytes += entry.bytes;
+
+        if (entries.size() > MAX_ENTRIES_PER_PLAYER) {
+            evict(entries.peekFirst());
+        }
+        trim();
+        return true;
+    }
+
+    /**
+     * Records what a {@link UndoMode#REPLACE} command just put into the sections of the
+     * player's most recent entry, so undo can take exactly that back out. Call right after
+     * the mutation, on the same thread as {@link #record}; does nothing if that entry was
+     * not kept.
+     */
+    public synchronized void recordApplied(UUID playerId, Inventory inventory) {
+        ArrayDeque<Entry> entries = byPlayer.get(playerId);
+        Entry entry = entries == null ? null : entries.peekLast();
+        if (entry == null || entry.mode != UndoMode.REPLACE || entry.applied != null) {
+            return;
+        }
+        List<ItemStack> applied = new ArrayList<>();
+        for (InventorySection section : entry.sections) {
+            ItemContainer container = section.getContainer(inventory);
+            for (short slot = 0; slot < container.getCapacity(); slot++) {
+                ItemStack stack = container.getItemStack(slot);
+                if (!ItemStack.isEmpty(stack)) {
+                    applied.add(stack);
+                }
+            }
+        }
+        entry.applied = applied.toArray(new ItemStack[0]);
+        // Stacks are shared with the inventory; only the array is new
+        long added = entry.applied.length * 8L;
+        entry.bytes += added;
+        usedBytes += added;
+        trim();
+    }
+
+    /**
+     * Removes and returns a player's most recent entry.
+     *
+     * @return the entry, or null if there is nothing to undo
+     */
+    public synchronized Entry pop(UUID playerId) {
+        ArrayDeque<Entry> entries = byPlayer.get(playerId);
+        if (entries == null || entries.isEmpty()) {
+            return null;
+        }
+        Entry entry = entries.peekLast();
+        evict(entry);
+        return entry;
+    }
+
+    /**
+     * Number of undo steps available for a player.
+     */
+    public synchronized int depth(UUID playerId) {
+        ArrayDeque<Entry> entries = byPlayer.get(playerId);
+        return entries == null ? 0 : entries.size();
+    }
+
+    public synchronized long getUsedBytes() {
+        return usedBytes;
+    }
+
+    public long getMaxBytes() {
+        return maxBytes;
+    }
+
+    public synchronized int getEntryCount() {
+        return byAge.size();
+    }
+
+    /**
+     * Entries evicted to stay within the byte budget since startup.
+     */
+    public synchronized long getEvictions() {
+        return evictions;
+    }
+
+    /**
+     * Evicts the least recently recorded entries until the budget is met.
+     */
+    private void trim() {
+        Iterator<Entry> oldest = byAge.iterator();
+        while (usedBytes > maxBytes && oldest.hasNext()) {
+            Entry victim = oldest.next();
+            oldest.remove();
+            forget(victim);
+            evictions++;
+        }
+    }
+
+    private void evict(Entry entry) {
+        byAge.remove(entry);
+        forget(entry);
+    }
+
+    private void forget(Entry entry) {
+        usedBytes -= entry.bytes;
+        ArrayDeque<Entry> entries = byPlayer.get(entry.playerId);
+        if (entries != null) {
+            entries.remove(entry);
+            if (entries.isEmpty()) {
+                byPlayer.remove(entry.playerId);
+            }
+        }
+    }
+
+    private int intern(String itemId) {
+        int index = itemIndexes.getInt(itemId);
+        if (index == NO_ITEM) {
+            index = itemIds.size();
+            itemIds.add(itemId);
+            itemIndexes.put(itemId, index);
+        }
+        return index;
+    }
+
+    private synchronized String itemId(int index) {
+        return itemIds.get(index);
+    }
+
+    /**
+     * One recorded snapshot of some sections of a player's inventory.
+     */
+    public final class Entry {
+        private final UUID playerId;
+        private final String action;
+        private final UndoMode mode;
+        private final InventorySection[] sections;
+
+        /** Two longs per slot: [section:8 | slot:16 | item index:32] and the quantity (or referenced index). */
+        private final long[] slots;
+        /** Durability per slot, kept exact. */
+        private final double[] durabilities;
+        private int size;
+        private ItemStack[] referenced;
+        private int referencedCount;
+        /** What a {@link UndoMode#REPLACE} command put in, or null until {@link #recordApplied}. */
+        private ItemStack[] applied;
+        private long bytes;
+
+        private Entry(UUID playerId, String action, UndoMode mode, InventorySection[] sections, int occupied) {
+            this.playerId = playerId;
+            this.action = action;
+            this.mode = mode;
+            this.sections = sections.clone();
+            this.slots = new long[occupied * 2];
+            this.durabilities = new double[occupied];
+            this.bytes = ENTRY_OVERHEAD_BYTES + slots.length * 8L + durabilities.length * 8L;
+        }
+
+        public String getAction() {
+            return action;
+        }
+
+        public int getStackCount() {
+            return size;
+        }
+
+        private void add(InventorySection section, short slot, ItemStack stack) {
+            long head = ((long) section.ordinal() << 48) | ((long) slot << 32);
+            long body;
+
+            boolean packable = stack.getMetadata() == null
+                && stack.getMaxDurability() == stack.getItem().getMaxDurability();
+            if (packable) {
+                head |= intern(stack.getItemId());
+                body = stack.getQuantity();
+                durabilities[size] = stack.getDurability();
+            } else {
+                if (referenced == null) {
+                    referenced = new ItemStack[4];
+                } else if (referencedCount == referenced.length) {
+                    referenced = Arrays.copyOf(referenced, referencedCount * 2);
+                }
+                head |= NO_ITEM & 0xFFFFFFFFL;
+                body = referencedCount;
+                referenced[referencedCount++] = stack;
+                bytes += REFERENCED_STACK_BYTES;
+            }
+
+            slots[size * 2] = head;
+            slots[size * 2 + 1] = body;
+            size++;
+        }
+
+        /**
+         * Puts the entry back into {@code inventory}.
+         *
+         * <p>Recorded sections are emptied and refilled slot by slot. For a {@link UndoMode#MERGE}
+         * entry, whatever the sections held just before the undo is added back afterwards so
+         * nothing gained since is lost. For a {@link UndoMode#REORDER} entry each slot is
+         * filled only from the stacks the sections hold now, taking stacks of the same kind up
+         * to the recorded quantity; what is left over is added back, and recorded stacks that
+         * are no longer there are simply missing. For a {@link UndoMode#REPLACE} entry the
+         * applied stacks still present are removed first, then it is undone like a merge.
+         *
+         * @return how many recorded stacks went back into their slots, and the stacks that
+         *         could not be put back anywhere (normally none)
+         */
+        public Restored restore(Inventory inventory) {
+            List<ItemStack> current = new ArrayList<>();
+            for (InventorySection section : sections) {
+                for (ItemStack stack : section.getContainer(inventory).removeAllItemStacks()) {
+                    if (!ItemStack.isEmpty(stack)) {
+                        current.add(stack);
+                    }
+                }
+            }
+            if (mode == UndoMode.REPLACE && applied != null) {
+                for (ItemStack stack : applied) {
+                    take(current, stack);
+                }
+            }
+
+            int placed = 0;
+            for (int i = 0; i < size; i++) {
+                long head = slots[i * 2];
+                long body = slots[i * 2 + 1];
+                ItemContainer container = InventorySection.byOrdinal((int) (head >>> 48)).getContainer(inventory);
+                short slot = (short) (head >>> 32);
+                ItemStack stack = decode((int) head, body, durabilities[i]);
+                if (mode == UndoMode.REORDER) {
+                    stack = take(current, stack);
+                    if (stack == null) {
+                        continue;
+                    }
+                }
+
+                if (slot < container.getCapacity()) {
+                    container.setItemStackForSlot(slot, stack);
+                    placed++;
+                } else {
+                    // Section shrank since the snapshot (e.g. smaller backpack)
+                    current.add(stack);
+                }
+            }
+
+            List<ItemStack> leftOver = new ArrayList<>();
+
+            for (ItemStack stack : current) {
+                if (!ItemStack.isEmpty(stack)) {
+                    ItemStack remainder = inventory.getCombinedHotbarFirst().addItemStack(stack).getRemainder();
+                    if (!ItemStack.isEmpty(remainder)) {
+                        leftOver.add(remainder);
+                    }
+                }
+            }
+            return new Restored(placed, leftOver);
+        }
+
+        /**
+         * Removes up to {@code wanted}'s quantity of stacks like it from {@code pool}.
+         *
+         * @return the stack taken, or null if the pool holds none
+         */
+        private static ItemStack take(List<ItemStack> pool, ItemStack wanted) {
+            int needed = wanted.getQuantity();
+            int taken = 0;
+            ItemStack prototype = null;
+            for (int i = 0; i < pool.size() && taken < needed; i++) {
+                ItemStack candidate = pool.get(i);
+                if (candidate == null || !candidate.isStackableWith(wanted)) {
+                    continue;
+                }
+                int quantity = Math.min(needed - taken, candidate.getQuantity());
+                pool.set(i, quantity == candidate.getQuantity() ? null
+                    : candidate.withQuantity(candidate.getQuantity() - quantity));
+                prototype = candidate;
+                taken += quantity;
+            }
+            pool.removeIf(Objects::isNull);
+            if (prototype == null) {
+                return null;
+            }
+            return prototype.getQuantity() == taken ? prototype : prototype.withQuantity(taken);
+        }
+
+        private ItemStack decode(int item, long body, double durability) {
+            if (item == NO_ITEM) {
+                return referenced[(int) body];
+            }
+            ItemStack stack = new ItemStack(itemId(item), (int) body);
+            if (stack.getMaxDurability() > 0 && durability != stack.getMaxDurability()) {
+                stack = stack.withDurability(durability);
+            }
+            return stack;
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package hytale.examples.inventory;
+
+import com.hypixel.hytale.server.core.inventory.Inventory;
+import com.hypixel.hytale.server.core.inventory.ItemStack;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event for one inventory mutation made by a command
+ * ({@code /give}, {@code /inv-clear}, {@code /sort}).
+ *
+ * <p>Disabled by default; enable {@code hytale.examples.inventory.Mutation} in the
+ * recording settings. Occupied slots are only counted when the event is enabled, so a
+ * disabled event costs nothing.
+ *
+ * <pre>{@code
+ * InventoryMutationEvent event = InventoryMutationEvent.start("clear", inventory, sections);
+ * ...mutate...
+ * event.finish(inventory);
+ * }</pre>
+ */
+@Name("hytale.examples.inventory.Mutation")
+@Label("Inventory Mutation")
+@Category({"Hytale Examples", "Inventory"})
+@Description("Inventory change made by an example command")
+@Enabled(false)
+@StackTrace(false)
+class InventoryMutationEvent extends Event {
+
+    @Label("Action")
+    String action;
+
+    @Label("Sections")
+    String sections;
+
+    @Label("Occupied Slots Before")
+    int slotsBefore;
+
+    @Label("Occupied Slots After")
+    int slotsAfter;
+
+    private transient InventorySection[] touched;
+
+    /**
+     * Creates the event and, if enabled, counts the occupied slots and starts timing.
+     */
+    static InventoryMutationEvent start(String action, Inventory inventory, InventorySection... sections) {
+        InventoryMutationEvent event = new InventoryMutationEvent();
+        if (event.isEnabled()) {
+            event.action = action;
+            event.touched = sections;
+            event.slotsBefore = countOccupied(inventory, sections);
+            event.begin();
+        }
+        return event;
+    }
+
+    /**
+     * Stops timing and commits, counting the occupied slots again.
+     */
+    void finish(Inventory inventory) {
+        if (!isEnabled()) {
+            return;
+        }
+        end();
+        if (shouldCommit()) {
+            StringBuilder names = new StringBuilder();
+            for (InventorySection section : touched) {
+                if (!names.isEmpty()) {
+                    names.append(',');
+                }
+                names.append(section.getId());
+            }
+            sections = names.toString();
+            slotsAfter = countOccupied(inventory, touched);
+            commit();
+        }
+    }
+
+    private static int countOccupied(Inventory inventory, InventorySection[] sections) {
+        int[] occupied = new int[1];
+        for (InventorySection section : sections) {
+            section.getContainer(inventory).forEach((slot, stack) -> {
+                if (!ItemStack.isEmpty(stack)) {
+                    occupied[0]++;
+                }
+            });
+        }
+        return occupied[0];
+    }
+}
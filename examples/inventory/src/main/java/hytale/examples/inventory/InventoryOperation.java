@@ -0,0 +1,134 @@
+package hytale.examples.inventory;
+
+import com.hypixel.hytale.component.Ref;
+import com.hypixel.hytale.component.Store;
+import com.hypixel.hytale.server.core.inventory.Inventory;
+import com.hypixel.hytale.server.core.inventory.ItemStack;
+import com.hypixel.hytale.server.core.inventory.container.CombinedItemContainer;
+import com.hypixel.hytale.server.core.inventory.container.ItemContainer;
+import com.hypixel.hytale.server.core.inventory.container.SimpleItemContainer;
+import com.hypixel.hytale.server.core.inventory.container.SortType;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+
+import java.util.List;
+
+/**
+ * One change applied to a single player's inventory by an {@link InventoryJob}.
+ *
+ * <p>{@link #apply} runs on the world thread that owns the inventory, in one call, so no
+ * other code sees the inventory half-changed. An operation that cannot complete must
+ * leave the inventory as it found it and return false.
+ */
+public interface InventoryOperation {
+
+    /**
+     * Short description for progress reports, e.g. {@code "clear storage"}.
+     */
+    String describe();
+
+    /**
+     * @param store store holding the player, for stacks that have to be dropped at their feet
+     * @param ref   the player whose {@code inventory} this is
+     * @return true if applied, false if the inventory was left unchanged
+     */
+    boolean apply(Store<EntityStore> store, Ref<EntityStore> ref, Inventory inventory);
+
+    /**
+     * Empties the given sections.
+     */
+    static InventoryOperation clear(InventorySection... sections) {
+        return new InventoryOperation() {
+            @Override
+            public String describe() {
+                return "clear " + names(sections);
+            }
+
+            @Override
+            public boolean apply(Store<EntityStore> store, Ref<EntityStore> ref, Inventory inventory) {
+                for (InventorySection section : sections) {
+                    section.getContainer(inventory).clear();
+                }
+                return true;
+            }
+        };
+    }
+
+    /**
+     * Gives every stack, hotbar first, or nothing at all if they do not all fit.
+     */
+    static InventoryOperation giveKit(List<ItemStack> kit) {
+        return new InventoryOperation() {
+            @Override
+            public String describe() {
+                StringBuilder description = new StringBuilder("give");
+                for (ItemStack stack : kit) {
+                    description.append(' ').append(stack.getItemId()).append(':').append(stack.getQuantity());
+                }
+                return description.toString();
+            }
+
+            @Override
+            public boolean apply(Store<EntityStore> store, Ref<EntityStore> ref, Inventory inventory) {
+                ItemContainer[] containers = {inventory.getHotbar(), inventory.getStorage()};
+                ItemStack[][] before = new ItemStack[containers.length][];
+                for (int i = 0; i < containers.length; i++) {
+                    before[i] = new ItemStack[containers[i].getCapacity()];
+                    for (short slot = 0; slot < before[i].length; slot++) {
+                        before[i][slot] = containers[i].getItemStack(slot);
+                    }
+                }
+
+                CombinedItemContainer combined = inventory.getCombinedHotbarFirst();
+                for (ItemStack stack : kit) {
+                    if (!ItemStack.isEmpty(combined.addItemStack(stack).getRemainder())) {
+                        // Did not fit: put back the exact previous layout (stacks are immutable)
+                        for (int i = 0; i < containers.length; i++) {
+                            containers[i].removeAllItemStacks();
+                            for (short slot = 0; slot < before[i].length; slot++) {
+                                if (!ItemStack.isEmpty(before[i][slot])) {
+                                    containers[i].setItemStackForSlot(slot, before[i][slot]);
+                                }
+                            }
+                        }
+                        return false;
+                    }
+                }
+                return true;
+            }
+        };
+    }
+
+    /**
+     * Sorts and compacts the given sections with the {@link InventorySorter}. Stacks that no
+     * longer fit the sections go to the rest of the inventory or are dropped.
+     */
+    static InventoryOperation sort(SortType sortType, InventorySection... sections) {
+        return new InventoryOperation() {
+            @Override
+            public String describe() {
+                return "sort " + names(sections) + " by " + sortType.name().toLowerCase();
+            }
+
+            @Override
+            public boolean apply(Store<EntityStore> store, Ref<EntityStore> ref, Inventory inventory) {
+                InventorySorter.Result result = InventorySorter.forCurrentThread().sort(inventory, sortType, sections);
+                if (!result.leftOver().isEmpty()) {
+                    SimpleItemContainer.addOrDropItemStacks(store, ref, inventory.getCombinedHotbarFirst(),
+                        result.leftOver());
+                }
+                return true;
+            }
+        };
+    }
+
+    private static String names(InventorySection[] sections) {
+        StringBuilder names = new StringBuilder();
+        for (InventorySection section : sections) {
+            if (!names.isEmpty()) {
+                names.append(',');
+            }
+            names.append(section.getId());
+        }
+        return names.toString();
+    }
+}
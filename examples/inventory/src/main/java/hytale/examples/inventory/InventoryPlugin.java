@@ -1,21 +1,210 @@
 package hytale.examples.inventory;
 
+import com.hypixel.hytale.server.core.asset.AssetPackRegisterEvent;
+import com.hypixel.hytale.server.core.asset.AssetPackUnregisterEvent;
+import com.hypixel.hytale.server.core.asset.LoadAssetEvent;
+import com.hypixel.hytale.server.core.entity.entities.Player;
+import com.hypixel.hytale.server.core.event.events.player.PlayerDisconnectEvent;
+import com.hypixel.hytale.server.core.event.events.player.PlayerReadyEvent;
 import com.hypixel.hytale.server.core.plugin.JavaPlugin;
 import com.hypixel.hytale.server.core.plugin.JavaPluginInit;
+import hytale.examples.shared.CommandRateLimiter;
+import hytale.examples.shared.PerfCommand;
+import hytale.examples.shared.Translations;
+
+import java.nio.file.Path;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 
 public class InventoryPlugin extends JavaPlugin {
 
+    /** How often refilled rate-limit buckets are dropped, in seconds. */
+    private static final long RATE_LIMIT_SWEEP_INTERVAL_SECONDS = 60;
+
+    /** Classpath folder holding the {@code <locale>.lang} message files. */
+    private static final String LANG_RESOURCE_ROOT = "hytale/examples/inventory/lang/";
+
+    private static InventoryPlugin instance;
+
+    private final ItemCache itemCache = new ItemCache();
+    private final ItemIdIndex itemIds = new ItemIdIndex();
+    private final InventoryJournal journal = new InventoryJournal(InventoryJournal.DEFAULT_MAX_BYTES);
+    private final InventoryItemIndex itemIndex = new InventoryItemIndex();
+    private final InventorySummaryIndex summaryIndex = new InventorySummaryIndex(itemIndex);
+    private final CommandRateLimiter rateLimiter = new CommandRateLimiter();
+    private final InventoryJobQueue jobs = new InventoryJobQueue(InventoryJobQueue.DEFAULT_TICK_BUDGET_NANOS);
+    private final Translations translations = new Translations(InventoryPlugin.class.getClassLoader(),
+        LANG_RESOURCE_ROOT, Translations.DEFAULT_MAX_LOCALES, Translations.DEFAULT_IDLE_NANOS);
+    private ExecutorService offThreadExecutor;
+    private ScheduledExecutorService scheduler;
+
     public InventoryPlugin(JavaPluginInit init) {
         super(init);
+        instance = this;
     }
 
     @Override
     protected void setup() {
-        getCommandRegistry().registerCommand(new GiveCommand());
-        getCommandRegistry().registerCommand(new ClearCommand());
-        getCommandRegistry().registerCommand(new InspectCommand());
-        getCommandRegistry().registerCommand(new SortCommand());
+        offThreadExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+        // Commands that do inventory work per call: burst size, then sustained calls per second
+        rateLimiter.limit("give", 5, 2.0);
+        rateLimiter.limit("give-batch", 2, 0.2);
+        rateLimiter.limit("sort", 3, 1.0);
+
+        getCommandRegistry().registerCommand(new GiveCommand(itemCache, itemIds));
+        getCommandRegistry().registerCommand(new GiveBatchCommand(itemCache, itemIds));
+        getCommandRegistry().registerCommand(new ClearCommand(journal));
+        getCommandRegistry().registerCommand(new InspectCommand(summaryIndex));
+        getCommandRegistry().registerCommand(new SortCommand(journal));
+        getCommandRegistry().registerCommand(new SortBenchCommand(journal));
+        getCommandRegistry().registerCommand(new FindCommand(itemIndex, itemIds));
+        getCommandRegistry().registerCommand(new UndoCommand(journal));
+        getCommandRegistry().registerCommand(new InventoryReportCommand());
+        getCommandRegistry().registerCommand(new RateLimitsCommand(rateLimiter));
+        getCommandRegistry().registerCommand(new InventoryJobCommand(jobs, summaryIndex, itemIds, itemCache));
+        getCommandRegistry().registerCommand(new InventoryExportCommand());
+        getCommandRegistry().registerCommand(new InventoryImportCommand(journal));
+        getCommandRegistry().registerCommand(new PerfCommand("inventory", "inv-perf"));
+
+        // Bulk inventory jobs advance a little every world tick
+        getEntityStoreRegistry().registerSystem(new InventoryJobSystem(jobs));
+
+        // Index every online player so /inv-find covers the whole server, and queue them
+        // for any running /inv-job
+        getEventRegistry().registerGlobal(PlayerReadyEvent.class, event -> {
+            Player player = event.getPlayer();
+            summaryIndex.get(player.getPlayerRef(), player.getInventory());
+            jobs.onPlayerReady(player.getPlayerRef().getUuid());
+        });
+
+        // Release per-player inventory summaries, their change listeners and index entries
+        getEventRegistry().register(PlayerDisconnectEvent.class, event -> {
+            summaryIndex.remove(event.getPlayerRef().getUuid());
+            jobs.onPlayerLeft(event.getPlayerRef().getUuid());
+        });
+
+        // Resolved items and the id index go stale whenever the item assets change
+        getEventRegistry().register(LoadAssetEvent.PRIORITY_LOAD_LATE, LoadAssetEvent.class,
+            event -> onItemAssetsChanged());
+        getEventRegistry().register(AssetPackRegisterEvent.class, event -> onItemAssetsChanged());
+        getEventRegistry().register(AssetPackUnregisterEvent.class, event -> onItemAssetsChanged());
+
+        // Forget players whose buckets have refilled, and unload locales nobody is using
+        scheduler = Executors.newSingleThreadScheduledExecutor();
+        @SuppressWarnings("unchecked")
+        ScheduledFuture<Void> sweep = (ScheduledFuture<Void>) scheduler.scheduleWithFixedDelay(this::sweep,
+            RATE_LIMIT_SWEEP_INTERVAL_SECONDS, RATE_LIMIT_SWEEP_INTERVAL_SECONDS, TimeUnit.SECONDS);
+        getTaskRegistry().registerTask(sweep);
 
         getLogger().atInfo().log("InventoryExample plugin loaded!");
     }
+
+    @Override
+    protected void start() {
+        itemIds.rebuild();
+        getLogger().atInfo().log("Indexed " + itemIds.size() + " item ids");
+    }
+
+    @Override
+    protected void shutdown() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+        if (offThreadExecutor != null) {
+            offThreadExecutor.shutdownNow();
+        }
+    }
+
+    private void sweep() {
+        // An exception escaping a scheduleWithFixedDelay task cancels every later run
+        try {
+            rateLimiter.evictIdle();
+            translations.evictIdle();
+        } catch (RuntimeException e) {
+            getLogger().atSevere().withCause(e).log("Periodic sweep failed");
+        }
+    }
+
+    private void onItemAssetsChanged() {
+        itemCache.clear();
+        itemIds.rebuild();
+    }
+
+    public static InventoryPlugin get() {
+        return instance;
+    }
+
+    /**
+     * Virtual threads for the compute phase of {@link OffThreadPlayerCommand}s.
+     */
+    public ExecutorService getOffThreadExecutor() {
+        return offThreadExecutor;
+    }
+
+    /**
+     * Folder holding {@code /inv-export} archives.
+     */
+    public Path getExportDirectory() {
+        return getDataDirectory().resolve("exports");
+    }
+
+    /**
+     * Per-player rate limits for /give, /give-batch and /sort.
+     */
+    public CommandRateLimiter getRateLimiter() {
+        return rateLimiter;
+    }
+
+    /**
+     * Localized feedback for /give, /inv-clear and /sort.
+     */
+    public Translations getTranslations() {
+        return translations;
+    }
+
+    /**
+     * Tick-budgeted bulk operations started with /inv-job.
+     */
+    public InventoryJobQueue getJobs() {
+        return jobs;
+    }
+
+    /**
+     * Resolved item ids shared by the give commands.
+     */
+    public ItemCache getItemCache() {
+        return itemCache;
+    }
+
+    /**
+     * Sorted item ids for validation and tab completion.
+     */
+    public ItemIdIndex getItemIds() {
+        return itemIds;
+    }
+
+    /**
+     * Undo journal for /inv-clear and /sort.
+     */
+    public InventoryJournal getJournal() {
+        return journal;
+    }
+
+    /**
+     * Per-player inventory summaries for O(1) "how many X does this player have" queries.
+     */
+    public InventorySummaryIndex getSummaryIndex() {
+        return summaryIndex;
+    }
+
+    /**
+     * Server-wide item id to (player, section, slot) index.
+     */
+    public InventoryItemIndex getItemIndex() {
+        return itemIndex;
+    }
 }
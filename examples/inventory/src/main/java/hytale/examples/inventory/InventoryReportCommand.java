@@ -0,0 +1,130 @@
+package hytale.examples.inventory;
+
+import com.hypixel.hytale.component.Ref;
+import com.hypixel.hytale.component.Store;
+import com.hypixel.hytale.server.core.command.system.CommandContext;
+import com.hypixel.hytale.server.core.command.system.arguments.system.DefaultArg;
+import com.hypixel.hytale.server.core.command.system.arguments.types.ArgTypes;
+import com.hypixel.hytale.server.core.entity.entities.Player;
+import com.hypixel.hytale.server.core.inventory.Inventory;
+import com.hypixel.hytale.server.core.inventory.ItemStack;
+import com.hypixel.hytale.server.core.universe.PlayerRef;
+import com.hypixel.hytale.server.core.universe.world.World;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Admin report over every inventory in the world.
+ * Usage: /inv-report [top]
+ * Examples:
+ *   /inv-report - Most held items and fullest inventories, top 10 each
+ *   /inv-report 3
+ *
+ * Built on {@link OffThreadPlayerCommand}: the world thread only copies each player's
+ * occupied slots; totals, ranking and formatting happen on a virtual thread.
+ */
+public class InventoryReportCommand extends OffThreadPlayerCommand<InventoryReportCommand.Snapshot> {
+
+    /** Occupied slots of one player, copied on the world thread. */
+    record PlayerSlots(String playerName, String[] itemIds, int[] quantities, int capacity) {
+    }
+
+    record Snapshot(String worldName, List<PlayerSlots> players, int top) {
+    }
+
+    private final DefaultArg<Integer> topArg;
+
+    public InventoryReportCommand() {
+        super("inv-report", "Summarize every inventory in this world");
+        requirePermission("hytale.examples.inventory.report");
+        topArg = withDefaultArg("top", "Rows per ranking", ArgTypes.INTEGER, 10, "10");
+    }
+
+    @Override
+    protected Snapshot snapshot(CommandContext ctx, Store<EntityStore> store,
+                                Ref<EntityStore> ref, PlayerRef playerRef, World world) {
+        List<PlayerSlots> players = new ArrayList<>();
+        for (PlayerRef target : world.getPlayerRefs()) {
+            Ref<EntityStore> targetRef = target.getReference();
+            if (targetRef == null || !targetRef.isValid()) {
+                continue;
+            }
+            Player player = store.getComponent(targetRef, Player.getComponentType());
+            players.add(copySlots(target.getUsername(), player.getInventory()));
+        }
+        return new Snapshot(world.getName(), players, Math.max(1, ctx.get(topArg)));
+    }
+
+    @Override
+    protected Reply compute(Snapshot snapshot) {
+        Reply reply = new Reply();
+        List<PlayerSlots> players = snapshot.players();
+        if (players.isEmpty()) {
+            return reply.line("No players in " + snapshot.worldName());
+        }
+
+        Object2IntOpenHashMap<String> totals = new Object2IntOpenHashMap<>();
+        Object2IntOpenHashMap<String> holders = new Object2IntOpenHashMap<>();
+        long totalItems = 0;
+        for (PlayerSlots slots : players) {
+            Set<String> seen = new HashSet<>();
+            for (int i = 0; i < slots.itemIds().length; i++) {
+                totals.addTo(slots.itemIds()[i], slots.quantities()[i]);
+                totalItems += slots.quantities()[i];
+                if (seen.add(slots.itemIds()[i])) {
+                    holders.addTo(slots.itemIds()[i], 1);
+                }
+            }
+        }
+
+        reply.line(snapshot.worldName() + ": " + players.size() + " player(s), " + totalItems
+            + " items, " + totals.size() + " distinct");
+
+        List<Object2IntMap.Entry<String>> items = new ArrayList<>(totals.object2IntEntrySet());
+        items.sort(Comparator.comparingInt((Object2IntMap.Entry<String> entry) -> entry.getIntValue()).reversed()
+            .thenComparing(Object2IntMap.Entry::getKey));
+        reply.line("Most held items:");
+        for (Object2IntMap.Entry<String> entry : items.subList(0, Math.min(snapshot.top(), items.size()))) {
+            reply.line("  " + entry.getKey() + ": " + entry.getIntValue() + " (" + holders.getInt(entry.getKey())
+                + " player(s))");
+        }
+
+        PlayerSlots[] fullest = players.toArray(PlayerSlots[]::new);
+        Arrays.sort(fullest, Comparator.comparingDouble((PlayerSlots slots) ->
+            (double) slots.itemIds().length / slots.capacity()).reversed());
+        reply.line("Fullest inventories:");
+        for (PlayerSlots slots : Arrays.asList(fullest).subList(0, Math.min(snapshot.top(), fullest.length))) {
+            reply.line("  " + slots.playerName() + ": " + slots.itemIds().length + "/" + slots.capacity() + " slots");
+        }
+        return reply;
+    }
+
+    private static PlayerSlots copySlots(String playerName, Inventory inventory) {
+        int capacity = 0;
+        for (InventorySection section : InventorySection.values()) {
+            capacity += section.getContainer(inventory).getCapacity();
+        }
+        String[] itemIds = new String[capacity];
+        int[] quantities = new int[capacity];
+        int[] occupied = new int[1];
+        for (InventorySection section : InventorySection.values()) {
+            section.getContainer(inventory).forEach((slot, stack) -> {
+                if (!ItemStack.isEmpty(stack)) {
+                    itemIds[occupied[0]] = stack.getItemId();
+                    quantities[occupied[0]] = stack.getQuantity();
+                    occupied[0]++;
+                }
+            });
+        }
+        return new PlayerSlots(playerName, Arrays.copyOf(itemIds, occupied[0]),
+            Arrays.copyOf(quantities, occupied[0]), Math.max(1, capacity));
+    }
+}
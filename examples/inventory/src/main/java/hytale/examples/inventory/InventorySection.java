@@ -0,0 +1,66 @@
+package hytale.examples.inventory;
+
+import com.hypixel.hytale.server.core.inventory.Inventory;
+import com.hypixel.hytale.server.core.inventory.container.ItemContainer;
+
+import java.util.function.Function;
+
+/**
+ * The player inventory sections used by the commands in this example, with their
+ * command-line names and accessors.
+ */
+public enum InventorySection {
+    HOTBAR("hotbar", Inventory::getHotbar),
+    STORAGE("storage", Inventory::getStorage),
+    ARMOR("armor", Inventory::getArmor),
+    UTILITY("utility", Inventory::getUtility),
+    TOOLS("tools", Inventory::getTools),
+    BACKPACK("backpack", Inventory::getBackpack);
+
+    private static final InventorySection[] VALUES = values();
+
+    /** Comma-separated section names for usage and error messages. */
+    public static final String NAMES = "hotbar, storage, armor, utility, tools, backpack";
+
+    private final String id;
+    private final Function<Inventory, ItemContainer> accessor;
+
+    InventorySection(String id, Function<Inventory, ItemContainer> accessor) {
+        this.id = id;
+        this.accessor = accessor;
+    }
+
+    /**
+     * Lower-case name used in commands, e.g. {@code hotbar}.
+     */
+    public String getId() {
+        return id;
+    }
+
+    public ItemContainer getContainer(Inventory inventory) {
+        return accessor.apply(inventory);
+    }
+
+    /**
+     * Looks up a section by its command-line name.
+     *
+     * @param id section name, case-insensitive
+     * @return the section, or null if unknown
+     */
+    public static InventorySection byId(String id) {
+        for (InventorySection section : VALUES) {
+            if (section.id.equalsIgnoreCase(id)) {
+                return section;
+            }
+        }
+        return null;
+    }
+
+    public static InventorySection byOrdinal(int ordinal) {
+        return VALUES[ordinal];
+    }
+
+    public static int count() {
+        return VALUES.length;
+    }
+}
@@ -0,0 +1,211 @@
+package hytale.examples.inventory;
+
+import com.hypixel.hytale.server.core.inventory.Inventory;
+import com.hypixel.hytale.server.core.inventory.ItemStack;
+import com.hypixel.hytale.server.core.inventory.container.ItemContainer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Plain copy of every section of one player's inventory, as written to and read from an
+ * {@link InventoryArchive}.
+ *
+ * <p>Each occupied slot is kept column-wise: section, slot, item id, quantity and
+ * durability in parallel arrays. Durability is {@link #DEFAULT_DURABILITY} for stacks at
+ * their item's default, so only damaged items carry a value. Item metadata is not copied.
+ *
+ * <p>Capture and restore touch the inventory and must run on the world thread; everything
+ * else only reads the copy and is safe anywhere once the snapshot has been handed over.
+ */
+public final class InventorySnapshot {
+
+    /** Durability of a stack that is at its item's default. */
+    public static final double DEFAULT_DURABILITY = Double.NaN;
+
+    private final UUID playerId;
+    private final String playerName;
+    private final int[] capacities = new int[InventorySection.count()];
+
+    private byte[] sections;
+    private short[] slots;
+    private String[] itemIds;
+    private int[] quantities;
+    private double[] durabilities;
+    private int size;
+
+    public InventorySnapshot(UUID playerId, String playerName) {
+        this(playerId, playerName, 16);
+    }
+
+    private InventorySnapshot(UUID playerId, String playerName, int expectedStacks) {
+        this.playerId = playerId;
+        this.playerName = playerName;
+        int length = Math.max(1, expectedStacks);
+        sections = new byte[length];
+        slots = new short[length];
+        itemIds = new String[length];
+        quantities = new int[length];
+        durabilities = new double[length];
+    }
+
+    /**
+     * Copies every section of {@code inventory}. Runs on the world thread.
+     */
+    public static InventorySnapshot capture(UUID playerId, String playerName, Inventory inventory) {
+        int occupied = 0;
+        for (InventorySection section : InventorySection.values()) {
+            ItemContainer container = section.getContainer(inventory);
+            for (short slot = 0; slot < container.getCapacity(); slot++) {
+                if (!ItemStack.isEmpty(container.getItemStack(slot))) {
+                    occupied++;
+                }
+            }
+        }
+
+        InventorySnapshot snapshot = new InventorySnapshot(playerId, playerName, occupied);
+        for (InventorySection section : InventorySection.values()) {
+            ItemContainer container = section.getContainer(inventory);
+            snapshot.setCapacity(section, container.getCapacity());
+            for (short slot = 0; slot < container.getCapacity(); slot++) {
+                ItemStack stack = container.getItemStack(slot);
+                if (!ItemStack.isEmpty(stack)) {
+                    double durability = stack.getDurability() == stack.getMaxDurability()
+                        ? DEFAULT_DURABILITY : stack.getDurability();
+                    snapshot.add(section, slot, stack.getItemId(), stack.getQuantity(), durability);
+                }
+            }
+        }
+        return snapshot;
+    }
+
+    /**
+     * Replaces the contents of every section of {@code inventory} with this snapshot.
+     * Runs on the world thread.
+     *
+     * <p>Stacks recorded for slots a section no longer has (e.g. a smaller backpack) are
+     * added wherever they fit.
+     *
+     * @return stacks that did not fit anywhere, normally empty
+     */
+    public List<ItemStack> restore(Inventory inventory) {
+        List<ItemStack> displaced = new ArrayList<>();
+        for (InventorySection section : InventorySection.values()) {
+            section.getContainer(inventory).removeAllItemStacks();
+        }
+        for (int i = 0; i < size; i++) {
+            ItemContainer container = getSection(i).getContainer(inventory);
+            ItemStack stack = toItemStack(i);
+            if (slots[i] < container.getCapacity()) {
+                container.setItemStackForSlot(slots[i], stack);
+            } else {
+                displaced.add(stack);
+            }
+        }
+
+        List<ItemStack> leftOver = new ArrayList<>();
+        for (ItemStack stack : displaced) {
+            ItemStack remainder = inventory.getCombinedHotbarFirst().addItemStack(stack).getRemainder();
+            if (!ItemStack.isEmpty(remainder)) {
+                leftOver.add(remainder);
+            }
+        }
+        return leftOver;
+    }
+
+    public UUID getPlayerId() {
+        return playerId;
+    }
+
+    public String getPlayerName() {
+        return playerName;
+    }
+
+    /**
+     * Slot count the section had when captured.
+     */
+    public int getCapacity(InventorySection section) {
+        return capacities[section.ordinal()];
+    }
+
+    /** Number of occupied slots across all sections. */
+    public int getStackCount() {
+        return size;
+    }
+
+    public InventorySection getSection(int index) {
+        return InventorySection.byOrdinal(sections[index]);
+    }
+
+    public int getSlot(int index) {
+        return slots[index];
+    }
+
+    public String getItemId(int index) {
+        return itemIds[index];
+    }
+
+    public int getQuantity(int index) {
+        return quantities[index];
+    }
+
+    /**
+     * @return the stack's durability, or {@link #DEFAULT_DURABILITY}
+     */
+    public double getDurability(int index) {
+        return durabilities[index];
+    }
+
+    void setCapacity(InventorySection section, int capacity) {
+        capacities[section.ordinal()] = capacity;
+    }
+
+    /**
+     * Appends an occupied slot. Slots must be added in section, then slot order.
+     */
+    void add(InventorySection section, int slot, String itemId, int quantity, double durability) {
+        if (size == slots.length) {
+            int length = size * 2;
+            sections = Arrays.copyOf(sections, length);
+            slots = Arrays.copyOf(slots, length);
+            itemIds = Arrays.copyOf(itemIds, length);
+            quantities = Arrays.copyOf(quantities, length);
+            durabilities = Arrays.copyOf(durabilities, length);
+        }
+        sections[size] = (byte) section.ordinal();
+        slots[size] = (short) slot;
+        itemIds[size] = itemId;
+        quantities[size] = quantity;
+        durabilities[size] = durability;
+        size++;
+    }
+
+    private ItemStack toItemStack(int index) {
+        ItemStack stack = new ItemStack(itemIds[index], quantities[index]);
+        return Double.isNaN(durabilities[index]) ? stack : stack.withDurability(durabilities[index]);
+    }
+
+    /**
+     * Same player, capacities and slot contents.
+     */
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof InventorySnapshot other
+            && playerId.equals(other.playerId)
+            && playerName.equals(other.playerName)
+            && Arrays.equals(capacities, other.capacities)
+            && size == other.size
+            && Arrays.equals(sections, 0, size, other.sections, 0, size)
+            && Arrays.equals(slots, 0, size, other.slots, 0, size)
+            && Arrays.equals(itemIds, 0, size, other.itemIds, 0, size)
+            && Arrays.equals(quantities, 0, size, other.quantities, 0, size)
+            && Arrays.equals(durabilities, 0, size, other.durabilities, 0, size);
+    }
+
+    @Override
+    public int hashCode() {
+        return playerId.hashCode() * 31 + size;
+    }
+}
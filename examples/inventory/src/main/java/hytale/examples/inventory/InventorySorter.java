@@ -0,0 +1,226 @@
+package hytale.examples.inventory;
+
+import com.hypixel.hytale.server.core.asset.type.item.config.Item;
+import com.hypixel.hytale.server.core.inventory.Inventory;
+import com.hypixel.hytale.server.core.inventory.ItemStack;
+import com.hypixel.hytale.server.core.inventory.container.CombinedItemContainer;
+import com.hypixel.hytale.server.core.inventory.container.ItemContainer;
+import com.hypixel.hytale.server.core.inventory.container.SortType;
+import it.unimi.dsi.fastutil.ints.IntArrays;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Sorts and compacts several inventory sections as one.
+ *
+ * <p>{@link Inventory#sortStorage(SortType)} orders the storage section only and leaves
+ * partial stacks of the same item scattered. This sorter empties the chosen sections,
+ * groups their stacks by item in a single hash pass, merges partial stacks up to each
+ * item's max stack size, orders the groups by a sort key computed once per group and
+ * writes them back, filling the sections in the order given.
+ *
+ * <p>Stacks that are not stackable with the first stack of their item (different
+ * durability or metadata) keep their own group and are written back unmerged.
+ *
+ * <p>Stacks that no longer fit the sections are not written anywhere else: they are
+ * returned in {@link Result#leftOver()}, and the caller must place or drop them.
+ *
+ * <p>All scratch state is reused between calls, so an instance must stay on one thread.
+ * Use {@link #forCurrentThread()} to get the calling world thread's instance.
+ */
+public class InventorySorter {
+
+    /** Sections that accept any item and can therefore be sorted together. */
+    public static final InventorySection[] SORTABLE = {
+        InventorySection.HOTBAR, InventorySection.STORAGE, InventorySection.BACKPACK
+    };
+
+    private static final ThreadLocal<InventorySorter> PER_THREAD = ThreadLocal.withInitial(InventorySorter::new);
+
+    private final Object2IntOpenHashMap<String> groupByItem = new Object2IntOpenHashMap<>();
+    private final List<ItemStack> output = new ArrayList<>();
+
+    private int groupCount;
+    private ItemStack[] prototypes = new ItemStack[64];
+    private long[] quantities = new long[64];
+    private int[] maxStacks = new int[64];
+    private int[] typeRanks = new int[64];
+    private int[] qualities = new int[64];
+    private int[] order = new int[64];
+
+    public InventorySorter() {
+        groupByItem.defaultReturnValue(-1);
+    }
+
+    public static InventorySorter forCurrentThread() {
+        return PER_THREAD.get();
+    }
+
+    /**
+     * Outcome of one {@link #sort} call.
+     *
+     * @param leftOver stacks taken out of the sections that did not fit back; empty unless a
+     *                 section held stacks above their item's max stack size
+     */
+    public record Result(int stacksBefore, int stacksAfter, List<ItemStack> leftOver) {
+
+        /** Total item count of {@link #leftOver()}. */
+        public int leftOverQuantity() {
+            int quantity = 0;
+            for (ItemStack stack : leftOver) {
+                quantity += stack.getQuantity();
+            }
+            return quantity;
+        }
+    }
+
+    /**
+     * Sorts and compacts {@code sections} of {@code inventory} as one continuous container.
+     *
+     * @param sections sections to sort, in fill order; each must be one of {@link #SORTABLE}
+     * @return stack counts before and after, plus the stacks that could not be written back
+     */
+    public Result sort(Inventory inventory, SortType sortType, InventorySection... sections) {
+        try {
+            return sortAndCompact(inventory, sortType, sections);
+        } finally {
+            reset();
+        }
+    }
+
+    private Result sortAndCompact(Inventory inventory, SortType sortType, InventorySection[] sections) {
+        ItemContainer[] containers = new ItemContainer[sections.length];
+        int stacksBefore = 0;
+
+        // Single pass: empty every section and fold its stacks into per-item groups
+        for (int i = 0; i < sections.length; i++) {
+            containers[i] = sections[i].getContainer(inventory);
+            for (ItemStack stack : containers[i].removeAllItemStacks()) {
+                if (!ItemStack.isEmpty(stack)) {
+                    stacksBefore++;
+                    add(stack);
+                }
+            }
+        }
+
+        // Order groups by their precomputed keys
+        for (int i = 0; i < groupCount; i++) {
+            order[i] = i;
+        }
+        IntArrays.quickSort(order, 0, groupCount, (a, b) -> compare(sortType, a, b));
+
+        // Split each group back into full stacks, in sorted order
+        for (int i = 0; i < groupCount; i++) {
+            int group = order[i];
+            ItemStack prototype = prototypes[group];
+            long remaining = quantities[group];
+            int maxStack = maxStacks[group];
+            while (remaining > 0) {
+                int quantity = (int) Math.min(remaining, maxStack);
+                output.add(quantity == prototype.getQuantity() ? prototype : prototype.withQuantity(quantity));
+                remaining -= quantity;
+            }
+        }
+
+        // Compaction only needs more slots than before when a section held over-sized stacks,
+        // which are split to their max stack size. What does not fit goes back to the caller.
+        int capacity = 0;
+        for (ItemContainer container : containers) {
+            capacity += container.getCapacity();
+        }
+        List<ItemStack> leftOver = List.of();
+        if (output.size() > capacity) {
+            List<ItemStack> excess = output.subList(capacity, output.size());
+            leftOver = List.copyOf(excess);
+            excess.clear();
+        }
+
+        int stacksAfter = output.size();
+        new CombinedItemContainer(containers).addItemStacksOrdered(output);
+        return new Result(stacksBefore, stacksAfter, leftOver);
+    }
+
+    private void add(ItemStack stack) {
+        String itemId = stack.getItemId();
+        int group = groupByItem.getInt(itemId);
+        if (group >= 0 && maxStacks[group] > 1 && prototypes[group].isStackableWith(stack)) {
+            quantities[group] += stack.getQuantity();
+            return;
+        }
+
+        group = newGroup(stack);
+        if (groupByItem.getInt(itemId) < 0) {
+            groupByItem.put(itemId, group);
+        }
+    }
+
+    private int newGroup(ItemStack stack) {
+        if (groupCount == prototypes.length) {
+            int capacity = groupCount * 2;
+            prototypes = Arrays.copyOf(prototypes, capacity);
+            quantities = Arrays.copyOf(quantities, capacity);
+            maxStacks = Arrays.copyOf(maxStacks, capacity);
+            typeRanks = Arrays.copyOf(typeRanks, capacity);
+            qualities = Arrays.copyOf(qualities, capacity);
+            order = Arrays.copyOf(order, capacity);
+        }
+
+        int group = groupCount++;
+        Item item = stack.getItem();
+        prototypes[group] = stack;
+        quantities[group] = stack.getQuantity();
+        maxStacks[group] = Math.max(1, item.getMaxStack());
+        typeRanks[group] = typeRank(item);
+        qualities[group] = item.getQualityIndex();
+        return group;
+    }
+
+    private int compare(SortType sortType, int a, int b) {
+        int result = switch (sortType) {
+            case TYPE -> Integer.compare(typeRanks[a], typeRanks[b]);
+            case RARITY -> Integer.compare(qualities[b], qualities[a]);
+            default -> 0;
+        };
+        if (result == 0) {
+            result = prototypes[a].getItemId().compareTo(prototypes[b].getItemId());
+        }
+        // Keep unmerged variants of one item in their original relative order
+        return result != 0 ? result : Integer.compare(a, b);
+    }
+
+    /**
+     * Coarse category used for {@link SortType#TYPE}: equipment first, then consumables,
+     * then placeable blocks, then everything else.
+     */
+    private static int typeRank(Item item) {
+        if (item.getWeapon() != null) {
+            return 0;
+        }
+        if (item.getTool() != null) {
+            return 1;
+        }
+        if (item.getArmor() != null) {
+            return 2;
+        }
+        if (item.getUtility() != null || item.getGlider() != null) {
+            return 3;
+        }
+        if (item.isConsumable()) {
+            return 4;
+        }
+        if (item.hasBlockType()) {
+            return 5;
+        }
+        return 6;
+    }
+
+    private void reset() {
+        Arrays.fill(prototypes, 0, groupCount, null);
+        groupCount = 0;
+        groupByItem.clear();
+        output.clear();
+    }
+}
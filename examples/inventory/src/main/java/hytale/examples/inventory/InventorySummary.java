@@ -0,0 +1,258 @@
+package hytale.examples.inventory;
+
+import com.hypixel.hytale.event.EventRegistration;
+import com.hypixel.hytale.server.core.inventory.Inventory;
+import com.hypixel.hytale.server.core.inventory.ItemStack;
+import com.hypixel.hytale.server.core.inventory.container.ItemContainer;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Incrementally maintained summary of one player's inventory.
+ *
+ * <p>Keeps, for every {@link InventorySection}, the number of occupied slots and the total
+ * item quantity, plus a count per item id across all sections. Reads are O(1); the summary
+ * is kept current by change listeners on each section's {@link ItemContainer}.
+ *
+ * <p>A change event only says which container changed, so the listener re-reads that one
+ * section and diffs it against a per-slot shadow copy. Only slots that actually differ
+ * touch the counters, and no other section is scanned.
+ *
+ * <p>Not thread-safe: inventory changes and queries both happen on the world thread.
+ */
+public class InventorySummary {
+
+    /**
+     * Receives every slot difference the summary applies, so other indexes can be
+     * maintained from the same diff without scanning again.
+     */
+    @FunctionalInterface
+    public interface SlotListener {
+        /**
+         * @param section the section containing the slot
+         * @param slot the slot index
+         * @param oldItemId the previous item id, or null if the slot was empty
+         * @param newItemId the new item id, or null if the slot is now empty
+         * @param newQuantity the new quantity, 0 if empty
+         */
+        void onSlotChanged(InventorySection section, int slot, String oldItemId, String newItemId, int newQuantity);
+    }
+
+    private static final SlotListener NO_LISTENER = (section, slot, oldItemId, newItemId, newQuantity) -> {};
+
+    private final Inventory inventory;
+    private final SlotListener listener;
+    private final ItemContainer[] containers = new ItemContainer[InventorySection.count()];
+    private final SectionState[] sections = new SectionState[InventorySection.count()];
+    private final Object2IntOpenHashMap<String> itemCounts = new Object2IntOpenHashMap<>();
+    private final EventRegistration<?, ?>[] registrations = new EventRegistration<?, ?>[InventorySection.count()];
+
+    /**
+     * Builds the summary with one full scan and starts listening for changes.
+     * Call {@link #close()} to stop listening.
+     */
+    public static InventorySummary track(Inventory inventory) {
+        return track(inventory, NO_LISTENER);
+    }
+
+    /**
+     * Like {@link #track(Inventory)}, also reporting every slot change - including the
+     * initial contents - to {@code listener}.
+     */
+    public static InventorySummary track(Inventory inventory, SlotListener listener) {
+        InventorySummary summary = new InventorySummary(inventory, listener);
+        // Registered only once the summary is fully built, so no event sees it half-initialized
+        summary.listen();
+        return summary;
+    }
+
+    private InventorySummary(Inventory inventory, SlotListener listener) {
+        this.inventory = inventory;
+        this.listener = listener;
+        itemCounts.defaultReturnValue(0);
+
+        for (int i = 0; i < sections.length; i++) {
+            InventorySection section = InventorySection.byOrdinal(i);
+            ItemContainer container = section.getContainer(inventory);
+            containers[i] = container;
+            sections[i] = new SectionState(container.getCapacity());
+            refresh(section, container);
+        }
+    }
+
+    private void listen() {
+        for (int i = 0; i < containers.length; i++) {
+            int index = i;
+            registrations[i] = containers[i].registerChangeEvent(event ->
+                refresh(InventorySection.byOrdinal(index), event.container()));
+        }
+    }
+
+    /**
+     * The inventory this summary tracks.
+     */
+    public Inventory getInventory() {
+        return inventory;
+    }
+
+    /**
+     * Returns false if any section container was replaced or resized since this summary
+     * was built (e.g. a backpack resize), in which case it must be rebuilt.
+     */
+    public boolean isCurrent() {
+        for (int i = 0; i < containers.length; i++) {
+            ItemContainer container = InventorySection.byOrdinal(i).getContainer(inventory);
+            if (container != containers[i] || container.getCapacity() != sections[i].ids.length) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public int getOccupiedSlots(InventorySection section) {
+        return sections[section.ordinal()].occupied;
+    }
+
+    public int getCapacity(InventorySection section) {
+        return sections[section.ordinal()].ids.length;
+    }
+
+    public int getTotalQuantity(InventorySection section) {
+        return sections[section.ordinal()].total;
+    }
+
+    /**
+     * Total quantity of an item across all tracked sections.
+     *
+     * @param itemId the item id, e.g. {@code Food_Bread}
+     * @return the quantity held, or 0
+     */
+    public int getCount(String itemId) {
+        return itemCounts.getInt(itemId);
+    }
+
+    /**
+     * Number of distinct item ids held across all tracked sections.
+     */
+    public int getDistinctItems() {
+        return itemCounts.size();
+    }
+
+    /**
+     * Re-reads one section and applies any slot differences to the counters.
+     */
+    void refresh(InventorySection section, ItemContainer container) {
+        SectionState state = sections[section.ordinal()];
+        int capacity = Math.min(container.getCapacity(), state.ids.length);
+
+        for (short slot = 0; slot < capacity; slot++) {
+            ItemStack stack = container.getItemStack(slot);
+            String id = ItemStack.isEmpty(stack) ? null : stack.getItemId();
+            int quantity = id == null ? 0 : stack.getQuantity();
+
+            String oldId = state.ids[slot];
+            int oldQuantity = state.quantities[slot];
+            if (quantity == oldQuantity && (id == null ? oldId == null : id.equals(oldId))) {
+                continue;
+            }
+
+            if (oldId != null) {
+                state.occupied--;
+                state.total -= oldQuantity;
+                if (itemCounts.addTo(oldId, -oldQuantity) == oldQuantity) {
+                    itemCounts.removeInt(oldId);
+                }
+            }
+            if (id != null) {
+                state.occupied++;
+                state.total += quantity;
+                itemCounts.addTo(id, quantity);
+            }
+            state.ids[slot] = id;
+            state.quantities[slot] = quantity;
+            listener.onSlotChanged(section, slot, oldId, id, quantity);
+        }
+    }
+
+    /**
+     * Compares the summary against a full scan of the inventory.
+     *
+     * <p>Intended for testing: a non-empty result means the incremental updates drifted.
+     *
+     * @return human-readable descriptions of every mismatch, empty if consistent
+     */
+    public List<String> verify() {
+        List<String> mismatches = new ArrayList<>();
+        Object2IntOpenHashMap<String> scannedCounts = new Object2IntOpenHashMap<>();
+
+        for (InventorySection section : InventorySection.values()) {
+            ItemContainer container = section.getContainer(inventory);
+            int[] scanned = new int[2];
+            container.forEach((slot, stack) -> {
+                if (!ItemStack.isEmpty(stack)) {
+                    scanned[0]++;
+                    scanned[1] += stack.getQuantity();
+                    scannedCounts.addTo(stack.getItemId(), stack.getQuantity());
+                }
+            });
+
+            SectionState state = sections[section.ordinal()];
+            if (state.occupied != scanned[0] || state.total != scanned[1]) {
+                mismatches.add(section.getId() + ": index has " + state.occupied + " slots/" + state.total
+                    + " items, scan has " + scanned[0] + " slots/" + scanned[1] + " items");
+            }
+        }
+
+        for (Object2IntMap.Entry<String> entry : scannedCounts.object2IntEntrySet()) {
+            int indexed = itemCounts.getInt(entry.getKey());
+            if (indexed != entry.getIntValue()) {
+                mismatches.add(entry.getKey() + ": index has " + indexed + ", scan has " + entry.getIntValue());
+            }
+        }
+        for (Object2IntMap.Entry<String> entry : itemCounts.object2IntEntrySet()) {
+            if (!scannedCounts.containsKey(entry.getKey())) {
+                mismatches.add(entry.getKey() + ": index has " + entry.getIntValue() + ", scan has 0");
+            }
+        }
+        return mismatches;
+    }
+
+    /**
+     * Stops listening for container changes and reports every occupied slot as emptied,
+     * so listeners can drop what they indexed for this inventory.
+     */
+    public void close() {
+        for (EventRegistration<?, ?> registration : registrations) {
+            if (registration != null && registration.isRegistered()) {
+                registration.unregister();
+            }
+        }
+        for (int i = 0; i < sections.length; i++) {
+            String[] ids = sections[i].ids;
+            for (int slot = 0; slot < ids.length; slot++) {
+                if (ids[slot] != null) {
+                    listener.onSlotChanged(InventorySection.byOrdinal(i), slot, ids[slot], null, 0);
+                    ids[slot] = null;
+                }
+            }
+        }
+    }
+
+    /**
+     * Per-section counters plus a shadow copy of each slot's item id and quantity.
+     */
+    private static final class SectionState {
+        final String[] ids;
+        final int[] quantities;
+        int occupied;
+        int total;
+
+        SectionState(int capacity) {
+            ids = new String[capacity];
+            quantities = new int[capacity];
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package hytale.examples.inventory;
+
+import com.hypixel.hytale.server.core.inventory.Inventory;
+import com.hypixel.hytale.server.core.universe.PlayerRef;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Holds an {@link InventorySummary} per online player.
+ *
+ * <p>Summaries are kept current by container change events, so "how many X does this
+ * player have" is answered without scanning:
+ * <pre>{@code
+ * InventorySummary summary = InventoryPlugin.get().getSummaryIndex().get(playerRef, inventory);
+ * int bread = summary.getCount("Food_Bread");
+ * }</pre>
+ *
+ * <p>Every summary also feeds the server-wide {@link InventoryItemIndex}.
+ * {@link InventoryPlugin} starts tracking players when they are ready and removes
+ * them when they disconnect.
+ */
+public class InventorySummaryIndex {
+
+    private final Map<UUID, InventorySummary> summaries = new ConcurrentHashMap<>();
+    private final InventoryItemIndex itemIndex;
+
+    public InventorySummaryIndex(InventoryItemIndex itemIndex) {
+        this.itemIndex = itemIndex;
+    }
+
+    /**
+     * Gets the player's summary, building it if missing or if the inventory was replaced.
+     * Must be called on the world thread that owns the inventory.
+     *
+     * @param playerRef the player
+     * @param inventory the player's current inventory
+     * @return an up-to-date summary
+     */
+    public InventorySummary get(PlayerRef playerRef, Inventory inventory) {
+        UUID playerId = playerRef.getUuid();
+        InventorySummary summary = summaries.get(playerId);
+        if (summary != null && summary.getInventory() == inventory && summary.isCurrent()) {
+            return summary;
+        }
+        if (summary != null) {
+            summary.close();
+        }
+        summary = InventorySummary.track(inventory, itemIndex.listenerFor(playerId, playerRef.getUsername()));
+        summaries.put(playerId, summary);
+        return summary;
+    }
+
+    /**
+     * Gets the player's summary only if one is already being maintained.
+     *
+     * @return the summary, or null
+     */
+    public InventorySummary getIfPresent(UUID playerId) {
+        return summaries.get(playerId);
+    }
+
+    /**
+     * Stops tracking a player, releasing their change listeners and item index entries.
+     */
+    public void remove(UUID playerId) {
+        InventorySummary summary = summaries.remove(playerId);
+        if (summary != null) {
+            summary.close();
+        }
+        itemIndex.removePlayer(playerId);
+    }
+
+    /**
+     * Live view of the tracked players, i.e. everyone online.
+     */
+    public Set<UUID> getPlayerIds() {
+        return Collections.unmodifiableSet(summaries.keySet());
+    }
+
+    public InventoryItemIndex getItemIndex() {
+        return itemIndex;
+    }
+
+    public int size() {
+        return summaries.size();
+    }
+}
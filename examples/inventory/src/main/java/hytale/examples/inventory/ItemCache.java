@@ -0,0 +1,55 @@
+package hytale.examples.inventory;
+
+import com.hypixel.hytale.server.core.asset.type.item.config.Item;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Shared cache of resolved item ids.
+ *
+ * <p>Validating an id by building a throwaway {@code ItemStack} and comparing
+ * {@code getItem()} to {@link Item#UNKNOWN} repeats the asset lookup on every call. This
+ * cache resolves each id against the item asset map once and hands out the {@link Item}
+ * afterwards. Only known ids are cached, so typos cannot grow it.
+ *
+ * <p>{@link InventoryPlugin} clears it when item assets are reloaded.
+ */
+public class ItemCache {
+
+    private final Map<String, Item> items = new ConcurrentHashMap<>();
+
+    /**
+     * Resolves an item id.
+     *
+     * @param itemId the item id, e.g. {@code Food_Bread}
+     * @return the item, or null if no such item exists
+     */
+    public Item resolve(String itemId) {
+        Item item = items.get(itemId);
+        if (item != null) {
+            return item;
+        }
+        item = Item.getAssetMap().getAsset(itemId);
+        if (item == null || item == Item.UNKNOWN) {
+            return null;
+        }
+        items.put(itemId, item);
+        return item;
+    }
+
+    public boolean isValid(String itemId) {
+        return resolve(itemId) != null;
+    }
+
+    /**
+     * Forgets all resolved items, e.g. after an asset reload.
+     */
+    public void clear() {
+        items.clear();
+    }
+
+    public int size() {
+        return items.size();
+    }
+}
@@ -0,0 +1,59 @@
+package hytale.examples.inventory;
+
+import com.hypixel.hytale.server.core.Message;
+import com.hypixel.hytale.server.core.command.system.CommandSender;
+import com.hypixel.hytale.server.core.command.system.ParseResult;
+import com.hypixel.hytale.server.core.command.system.arguments.types.SingleArgumentType;
+import com.hypixel.hytale.server.core.command.system.suggestion.SuggestionResult;
+
+import java.util.List;
+
+/**
+ * Command argument holding a registered item id.
+ *
+ * <p>Parsing accepts any capitalization and yields the registered spelling; unknown ids
+ * fail with "did you mean" hints. Tab completion lists ids starting with what has been
+ * typed, straight from the {@link ItemIdIndex} array.
+ */
+public class ItemIdArgType extends SingleArgumentType<String> {
+
+    /** Maximum number of completions offered per keystroke. */
+    private static final int MAX_SUGGESTIONS = 20;
+
+    private final ItemIdIndex index;
+
+    public ItemIdArgType(ItemIdIndex index) {
+        super("item", Message.raw("Item ID (e.g., Weapon_Sword_Wood)"), "Weapon_Sword_Wood", "Food_Bread");
+        this.index = index;
+    }
+
+    @Override
+    public String parse(String input, ParseResult result) {
+        String itemId = index.canonical(input);
+        if (itemId == null) {
+            result.fail(Message.raw(unknownItemMessage(index, input)));
+        }
+        return itemId;
+    }
+
+    @Override
+    public void suggest(CommandSender sender, String input, int cursor, SuggestionResult result) {
+        String[] ids = index.snapshot();
+        int start = ItemIdIndex.lowerBound(ids, input);
+        int end = Math.min(ids.length, start + MAX_SUGGESTIONS);
+        for (int i = start; i < end && ItemIdIndex.hasPrefix(ids[i], input); i++) {
+            result.suggest(ids[i]);
+        }
+    }
+
+    /**
+     * "Unknown item: X" plus any "did you mean" hints.
+     */
+    static String unknownItemMessage(ItemIdIndex index, String itemId) {
+        List<String> hints = index.didYouMean(itemId);
+        if (hints.isEmpty()) {
+            return "Unknown item: " + itemId;
+        }
+        return "Unknown item: " + itemId + " (did you mean " + String.join(", ", hints) + "?)";
+    }
+}
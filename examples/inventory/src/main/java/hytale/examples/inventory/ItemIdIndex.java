@@ -0,0 +1,151 @@
+package hytale.examples.inventory;
+
+import com.hypixel.hytale.server.core.asset.type.item.config.Item;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Sorted index over every registered item id, for validation, "did you mean" hints and
+ * tab completion.
+ *
+ * <p>Ids are kept in one array sorted case-insensitively, so an exact lookup or a prefix
+ * range is a binary search with no allocation - completion runs for every keystroke.
+ * {@link #rebuild()} swaps in a new array, so readers on any thread always see a
+ * complete snapshot. {@link InventoryPlugin} rebuilds it at startup and on asset reload.
+ */
+public class ItemIdIndex {
+
+    /** Maximum number of "did you mean" hints. */
+    private static final int MAX_HINTS = 3;
+
+    private volatile String[] ids = new String[0];
+
+    /**
+     * Re-reads all item ids from the item asset map.
+     */
+    public void rebuild() {
+        String[] rebuilt = Item.getAssetMap().getAssetMap().keySet().toArray(new String[0]);
+        Arrays.sort(rebuilt, String.CASE_INSENSITIVE_ORDER);
+        ids = rebuilt;
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    /**
+     * Looks up an id ignoring case.
+     *
+     * @param itemId the id as typed
+     * @return the registered spelling of the id, or null if unknown
+     */
+    public String canonical(String itemId) {
+        String[] snapshot = ids;
+        int index = Arrays.binarySearch(snapshot, itemId, String.CASE_INSENSITIVE_ORDER);
+        return index >= 0 ? snapshot[index] : null;
+    }
+
+    /**
+     * Current sorted ids. The array is never modified; callers must not modify it either.
+     */
+    String[] snapshot() {
+        return ids;
+    }
+
+    /**
+     * Index of the first id in {@code snapshot} that is not less than {@code prefix},
+     * ignoring case. Ids starting with {@code prefix} follow contiguously from there.
+     */
+    static int lowerBound(String[] snapshot, String prefix) {
+        int low = 0;
+        int high = snapshot.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (String.CASE_INSENSITIVE_ORDER.compare(snapshot[mid], prefix) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    static boolean hasPrefix(String id, String prefix) {
+        return id.regionMatches(true, 0, prefix, 0, prefix.length());
+    }
+
+    /**
+     * Closest registered ids to an unknown one, for error messages. Ids sharing the typed
+     * prefix come first, then ids within a small edit distance. Only called on failure,
+     * so it may scan and allocate.
+     */
+    public List<String> didYouMean(String itemId) {
+        String[] snapshot = ids;
+        List<String> hints = new ArrayList<>(MAX_HINTS);
+
+        for (int i = lowerBound(snapshot, itemId); i < snapshot.length && hints.size() < MAX_HINTS; i++) {
+            if (!hasPrefix(snapshot[i], itemId)) {
+                break;
+            }
+            hints.add(snapshot[i]);
+        }
+        if (hints.size() >= MAX_HINTS) {
+            return hints;
+        }
+
+        int maxDistance = Math.max(2, itemId.length() / 4);
+        String[] best = new String[MAX_HINTS];
+        int[] bestDistance = new int[MAX_HINTS];
+        Arrays.fill(bestDistance, Integer.MAX_VALUE);
+        int[] previous = new int[itemId.length() + 1];
+        int[] current = new int[itemId.length() + 1];
+
+        for (String candidate : snapshot) {
+            if (Math.abs(candidate.length() - itemId.length()) > maxDistance || hints.contains(candidate)) {
+                continue;
+            }
+            int distance = distance(itemId, candidate, previous, current);
+            if (distance > maxDistance) {
+                continue;
+            }
+            // Insert into the small sorted best-list
+            for (int slot = 0; slot < MAX_HINTS; slot++) {
+                if (distance < bestDistance[slot]) {
+                    System.arraycopy(best, slot, best, slot + 1, MAX_HINTS - slot - 1);
+                    System.arraycopy(bestDistance, slot, bestDistance, slot + 1, MAX_HINTS - slot - 1);
+                    best[slot] = candidate;
+                    bestDistance[slot] = distance;
+                    break;
+                }
+            }
+        }
+
+        for (int slot = 0; slot < MAX_HINTS && hints.size() < MAX_HINTS && best[slot] != null; slot++) {
+            hints.add(best[slot]);
+        }
+        return hints;
+    }
+
+    /**
+     * Case-insensitive Levenshtein distance using two caller-supplied rows.
+     */
+    private static int distance(String a, String b, int[] previous, int[] current) {
+        for (int i = 0; i <= a.length(); i++) {
+            previous[i] = i;
+        }
+        for (int j = 1; j <= b.length(); j++) {
+            current[0] = j;
+            char cb = Character.toLowerCase(b.charAt(j - 1));
+            for (int i = 1; i <= a.length(); i++) {
+                int cost = Character.toLowerCase(a.charAt(i - 1)) == cb ? 0 : 1;
+                current[i] = Math.min(Math.min(current[i - 1] + 1, previous[i] + 1), previous[i - 1] + cost);
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[a.length()];
+    }
+}
@@ -0,0 +1,120 @@
+package hytale.examples.inventory;
+
+import com.hypixel.hytale.component.Ref;
+import com.hypixel.hytale.component.Store;
+import com.hypixel.hytale.server.core.Message;
+import com.hypixel.hytale.server.core.command.system.CommandContext;
+import com.hypixel.hytale.server.core.universe.PlayerRef;
+import com.hypixel.hytale.server.core.universe.world.World;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+import hytale.examples.shared.TimedPlayerCommand;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Player command that keeps heavy read-only work off the world thread.
+ *
+ * <p>A run has three phases:
+ * <ol>
+ *   <li>{@link #snapshot} on the world thread: copy the component data the command needs
+ *       into a plain value. Everything is read in one go, so the copy is consistent.</li>
+ *   <li>{@link #compute} on a virtual thread: aggregate, sort and format from the snapshot,
+ *       producing a {@link Reply}.</li>
+ *   <li>back on the world thread: the reply's messages are sent and its mutations run,
+ *       unless the player left in the meantime.</li>
+ * </ol>
+ * The off-thread task is registered with the plugin's task registry, so it is cancelled
+ * when the plugin is disabled.
+ *
+ * <p><b>Thread-safety contract for {@code compute}.</b> It may only touch:
+ * <ul>
+ *   <li>the snapshot - Strings, primitives, arrays and collections it owns, and immutable
+ *       values such as {@code ItemStack}</li>
+ *   <li>plugin services documented as thread-safe ({@link InventoryItemIndex},
+ *       {@link ItemIdIndex}, {@link ItemCache})</li>
+ * </ul>
+ * It must not touch {@code Store}, {@code Ref}, {@code World}, {@code Player},
+ * {@code Inventory}, {@code ItemContainer} or {@link InventorySummary}: they belong to the
+ * world thread and may change under it. Anything that needs them goes into
+ * {@link Reply#then(Runnable)}, which runs back on the world thread.
+ *
+ * @param <S> the snapshot type
+ */
+public abstract class OffThreadPlayerCommand<S> extends TimedPlayerCommand {
+
+    protected OffThreadPlayerCommand(String name, String description) {
+        super(name, description);
+    }
+
+    /**
+     * Copies what {@link #compute} needs. Runs on the world thread.
+     *
+     * @return the snapshot, or null to stop here (e.g. after sending a usage error)
+     */
+    protected abstract S snapshot(CommandContext ctx, Store<EntityStore> store,
+                                  Ref<EntityStore> ref, PlayerRef playerRef, World world);
+
+    /**
+     * Builds the reply from the snapshot. Runs on a virtual thread; see the class
+     * documentation for what may be touched here.
+     */
+    protected abstract Reply compute(S snapshot);
+
+    @Override
+    protected final void executeTimed(CommandContext ctx, Store<EntityStore> store,
+                                      Ref<EntityStore> ref, PlayerRef playerRef, World world) {
+        S snapshot = snapshot(ctx, store, ref, playerRef, world);
+        if (snapshot == null) {
+            return;
+        }
+
+        InventoryPlugin plugin = InventoryPlugin.get();
+        CompletableFuture<Void> task = CompletableFuture
+            .supplyAsync(() -> compute(snapshot), plugin.getOffThreadExecutor())
+            .exceptionally(e -> {
+                plugin.getLogger().atSevere().withCause(e).log("/" + getName() + " failed off-thread");
+                return new Reply().line("/" + getName() + " failed: " + e.getMessage());
+            })
+            .thenAcceptAsync(reply -> {
+                if (ref.isValid()) {
+                    reply.deliver(playerRef);
+                }
+            }, world);
+        plugin.getTaskRegistry().registerTask(task);
+    }
+
+    /**
+     * Result of {@link #compute}: chat lines to send and world-thread work to run, in order.
+     * Built off-thread and handed over once, so it needs no synchronization.
+     */
+    public static final class Reply {
+
+        private final List<Message> messages = new ArrayList<>();
+        private final List<Runnable> mutations = new ArrayList<>();
+
+        public Reply line(String text) {
+            messages.add(Message.raw(text));
+            return this;
+        }
+
+        /**
+         * Queues work that needs world-thread state, e.g. changing an inventory.
+         * It runs after the messages are sent and must re-check anything the snapshot assumed.
+         */
+        public Reply then(Runnable mutation) {
+            mutations.add(mutation);
+            return this;
+        }
+
+        void deliver(PlayerRef playerRef) {
+            for (Message message : messages) {
+                playerRef.sendMessage(message);
+            }
+            for (Runnable mutation : mutations) {
+                mutation.run();
+            }
+        }
+    }
+}
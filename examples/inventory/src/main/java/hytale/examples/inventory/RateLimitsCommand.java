@@ -0,0 +1,55 @@
+package hytale.examples.inventory;
+
+import com.hypixel.hytale.component.Ref;
+import com.hypixel.hytale.component.Store;
+import com.hypixel.hytale.server.core.Message;
+import com.hypixel.hytale.server.core.command.system.CommandContext;
+import com.hypixel.hytale.server.core.universe.PlayerRef;
+import com.hypixel.hytale.server.core.universe.world.World;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+import hytale.examples.shared.CommandRateLimiter;
+import hytale.examples.shared.TimedPlayerCommand;
+
+import java.util.List;
+
+/**
+ * Show rate-limited commands and who is hitting the limits.
+ * Usage: /inv-limits
+ *
+ * Lists every limit registered with the {@link CommandRateLimiter}, with allowed and
+ * rejected call counts, followed by the players with the most rejected calls.
+ */
+public class RateLimitsCommand extends TimedPlayerCommand {
+
+    /** Maximum number of players listed. */
+    private static final int MAX_OFFENDERS = 10;
+
+    private final CommandRateLimiter rateLimiter;
+
+    public RateLimitsCommand(CommandRateLimiter rateLimiter) {
+        super("inv-limits", "Show command rate limits and rejected calls");
+        this.rateLimiter = rateLimiter;
+        requirePermission("hytale.examples.inventory.limits");
+    }
+
+    @Override
+    protected void executeTimed(CommandContext ctx, Store<EntityStore> store,
+                               Ref<EntityStore> ref, PlayerRef playerRef, World world) {
+        for (CommandRateLimiter.Stats stats : rateLimiter.stats()) {
+            playerRef.sendMessage(Message.raw("/" + stats.command() + " (burst " + stats.burst() + ", "
+                + stats.perSecond() + "/s): " + stats.allowed() + " allowed, " + stats.rejected()
+                + " rejected, " + stats.trackedPlayers() + " player(s) tracked"));
+        }
+
+        List<CommandRateLimiter.Offender> offenders = rateLimiter.topOffenders(MAX_OFFENDERS);
+        if (offenders.isEmpty()) {
+            playerRef.sendMessage(Message.raw("No active player is being rate limited"));
+            return;
+        }
+        playerRef.sendMessage(Message.raw("Most rejected (active players):"));
+        for (CommandRateLimiter.Offender offender : offenders) {
+            playerRef.sendMessage(Message.raw("  " + offender.playerName() + " - /" + offender.command()
+                + ": " + offender.rejected()));
+        }
+    }
+}
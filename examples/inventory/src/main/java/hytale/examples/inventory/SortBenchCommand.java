@@ -0,0 +1,103 @@
+package hytale.examples.inventory;
+
+import com.hypixel.hytale.component.Ref;
+import com.hypixel.hytale.component.Store;
+import com.hypixel.hytale.server.core.Message;
+import com.hypixel.hytale.server.core.command.system.CommandContext;
+import com.hypixel.hytale.server.core.command.system.arguments.system.DefaultArg;
+import com.hypixel.hytale.server.core.command.system.arguments.system.RequiredArg;
+import com.hypixel.hytale.server.core.command.system.arguments.types.ArgTypes;
+import com.hypixel.hytale.server.core.entity.entities.Player;
+import com.hypixel.hytale.server.core.inventory.Inventory;
+import com.hypixel.hytale.server.core.inventory.container.SimpleItemContainer;
+import com.hypixel.hytale.server.core.inventory.container.SortType;
+import com.hypixel.hytale.server.core.universe.PlayerRef;
+import com.hypixel.hytale.server.core.universe.world.World;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+import hytale.examples.shared.CommandOutput;
+import hytale.examples.shared.TimedPlayerCommand;
+
+/**
+ * Microbenchmark: built-in storage sort vs. the single-pass {@link InventorySorter}.
+ * Usage: /sort-bench <type> [iterations]
+ * Examples:
+ *   /sort-bench name
+ *   /sort-bench rarity 300
+ *
+ * Runs both on your own storage section, warming each up first, and reports the average
+ * time per call. Both sorts are idempotent after the first run, so the inventory is only
+ * reordered, never changed in content. The order before the first run is recorded in the
+ * journal like a {@code /sort}, so {@code /inv-undo} puts it back.
+ *
+ * Admin only: requires {@code hytale.examples.inventory.sortbench}.
+ *
+ * The runs happen on the world thread, which stalls the tick while they last, so the
+ * iteration counts are kept to a few hundred. For steady-state numbers use the JMH
+ * benchmarks in examples/benchmarks instead.
+ */
+public class SortBenchCommand extends TimedPlayerCommand {
+
+    private static final int WARMUP_ITERATIONS = 20;
+    private static final int MAX_ITERATIONS = 500;
+
+    private final InventoryJournal journal;
+    private final RequiredArg<String> sortTypeArg;
+    private final DefaultArg<Integer> iterationsArg;
+
+    public SortBenchCommand(InventoryJournal journal) {
+        super("sort-bench", "Compare sortStorage with the single-pass sorter");
+        this.journal = journal;
+        requirePermission("hytale.examples.inventory.sortbench");
+        sortTypeArg = withRequiredArg("type", "Sort type (name/type/rarity)", ArgTypes.STRING);
+        iterationsArg = withDefaultArg("iterations", "Timed iterations per sorter", ArgTypes.INTEGER, 100, "100");
+    }
+
+    @Override
+    protected void executeTimed(CommandContext ctx, Store<EntityStore> store,
+                               Ref<EntityStore> ref, PlayerRef playerRef, World world) {
+        SortType sortType = SortCommand.parseSortType(ctx.get(sortTypeArg), playerRef);
+        if (sortType == null) {
+            return;
+        }
+        int iterations = ctx.get(iterationsArg);
+        if (iterations < 1 || iterations > MAX_ITERATIONS) {
+            playerRef.sendMessage(Message.raw("Iterations must be between 1 and " + MAX_ITERATIONS));
+            return;
+        }
+
+        Player player = store.getComponent(ref, Player.getComponentType());
+        Inventory inventory = player.getInventory();
+        journal.record(playerRef.getUuid(), "sort-bench " + sortType.name().toLowerCase(),
+            InventoryJournal.UndoMode.REORDER, inventory, InventorySection.STORAGE);
+        InventorySorter sorter = InventorySorter.forCurrentThread();
+
+        Runnable builtIn = () -> inventory.sortStorage(sortType);
+        Runnable singlePass = () -> {
+            InventorySorter.Result result = sorter.sort(inventory, sortType, InventorySection.STORAGE);
+            if (!result.leftOver().isEmpty()) {
+                SimpleItemContainer.addOrDropItemStacks(store, ref, inventory.getCombinedHotbarFirst(),
+                    result.leftOver());
+            }
+        };
+
+        long builtInNanos = time(builtIn, iterations);
+        long singlePassNanos = time(singlePass, iterations);
+
+        CommandOutput.start()
+            .append("Sort ").append(sortType.name().toLowerCase()).append(", ").append(iterations).append(" iterations:")
+            .line("  sortStorage:  ").append(builtInNanos / iterations / 1000.0, 1).append(" us per call")
+            .line("  single-pass:  ").append(singlePassNanos / iterations / 1000.0, 1).append(" us per call")
+            .send(playerRef);
+    }
+
+    private static long time(Runnable sort, int iterations) {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            sort.run();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            sort.run();
+        }
+        return System.nanoTime() - start;
+    }
+}
@@ -2,53 +2,146 @@ package hytale.examples.inventory;
 
 import com.hypixel.hytale.component.Ref;
 import com.hypixel.hytale.component.Store;
-import com.hypixel.hytale.server.core.Message;
 import com.hypixel.hytale.server.core.command.system.CommandContext;
+import com.hypixel.hytale.server.core.command.system.arguments.system.OptionalArg;
 import com.hypixel.hytale.server.core.command.system.arguments.system.RequiredArg;
 import com.hypixel.hytale.server.core.command.system.arguments.types.ArgTypes;
-import com.hypixel.hytale.server.core.command.system.basecommands.AbstractPlayerCommand;
 import com.hypixel.hytale.server.core.entity.entities.Player;
 import com.hypixel.hytale.server.core.inventory.Inventory;
+import com.hypixel.hytale.server.core.inventory.container.SimpleItemContainer;
 import com.hypixel.hytale.server.core.inventory.container.SortType;
 import com.hypixel.hytale.server.core.universe.PlayerRef;
 import com.hypixel.hytale.server.core.universe.world.World;
 import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+import hytale.examples.shared.TimedPlayerCommand;
+import hytale.examples.shared.Translations;
+
+import java.util.Arrays;
 
 /**
- * Sort the storage inventory.
- * Usage: /sort <type>
+ * Sort the storage inventory, or sort and compact several sections as one.
+ * Usage: /sort <type> [sections]
  * Examples:
- *   /sort name - Sort alphabetically
- *   /sort type - Sort by item type
- *   /sort rarity - Sort by rarity
+ *   /sort name - Sort storage alphabetically
+ *   /sort type - Sort storage by item type
+ *   /sort rarity - Sort storage by rarity
+ *   /sort name storage,backpack - Merge partial stacks and sort storage and backpack together
+ *
+ * With sections, the {@link InventorySorter} is used instead of
+ * {@link Inventory#sortStorage(SortType)}. Either way the previous layout is recorded in
+ * the {@link InventoryJournal} for {@code /inv-undo}.
  */
-public class SortCommand extends AbstractPlayerCommand {
+public class SortCommand extends TimedPlayerCommand {
+
+    private static final Translations.Key SORTED_STORAGE = new Translations.Key("inventory.sort.storage",
+        Translations.Param.text("type"));
+    private static final Translations.Key SORTED_SECTIONS = new Translations.Key("inventory.sort.sections",
+        Translations.Param.text("sections"), Translations.Param.text("type"),
+        Translations.Param.number("before"), Translations.Param.number("after"));
+    private static final Translations.Key LEFT_OVER = new Translations.Key("inventory.sort.left_over",
+        Translations.Param.number("count"));
+    private static final Translations.Key UNKNOWN_TYPE = new Translations.Key("inventory.sort.unknown_type",
+        Translations.Param.text("type"));
+    private static final Translations.Key UNSORTABLE_SECTION = new Translations.Key("inventory.sort.unsortable_section",
+        Translations.Param.text("section"));
+    private static final Translations.Key DUPLICATE_SECTION = new Translations.Key("inventory.sort.duplicate_section",
+        Translations.Param.text("section"));
 
+    private final InventoryJournal journal;
     private final RequiredArg<String> sortTypeArg;
+    private final OptionalArg<String> sectionsArg;
 
-    public SortCommand() {
+    public SortCommand(InventoryJournal journal) {
         super("sort", "Sort storage inventory");
+        this.journal = journal;
         sortTypeArg = withRequiredArg("type", "Sort type (name/type/rarity)", ArgTypes.STRING);
+        sectionsArg = withOptionalArg("sections", "Sections to sort and compact together (e.g., hotbar,storage,backpack)",
+            ArgTypes.STRING);
     }
 
     @Override
-    protected void execute(CommandContext ctx, Store<EntityStore> store,
-                          Ref<EntityStore> ref, PlayerRef playerRef, World world) {
-        String sortTypeStr = ctx.get(sortTypeArg).toUpperCase();
+    protected void executeTimed(CommandContext ctx, Store<EntityStore> store,
+                               Ref<EntityStore> ref, PlayerRef playerRef, World world) {
+        if (!InventoryPlugin.get().getRateLimiter().tryAcquire(getName(), playerRef)) {
+            return;
+        }
 
-        SortType sortType;
-        try {
-            sortType = SortType.valueOf(sortTypeStr);
-        } catch (IllegalArgumentException e) {
-            playerRef.sendMessage(Message.raw("Unknown sort type: " + sortTypeStr.toLowerCase()
-                + ". Valid types: name, type, rarity"));
+        SortType sortType = parseSortType(ctx.get(sortTypeArg), playerRef);
+        if (sortType == null) {
             return;
         }
 
         Player player = store.getComponent(ref, Player.getComponentType());
         Inventory inventory = player.getInventory();
 
-        inventory.sortStorage(sortType);
-        playerRef.sendMessage(Message.raw("Sorted storage by " + sortType.name().toLowerCase()));
+        if (!ctx.provided(sectionsArg)) {
+            journal.record(playerRef.getUuid(), "sort storage", InventoryJournal.UndoMode.REORDER, inventory,
+                InventorySection.STORAGE);
+            InventoryMutationEvent event = InventoryMutationEvent.start("sort", inventory, InventorySection.STORAGE);
+            inventory.sortStorage(sortType);
+            event.finish(inventory);
+            InventoryPlugin.get().getTranslations().format(playerRef, SORTED_STORAGE)
+                .arg(sortType.name().toLowerCase()).send(playerRef);
+            return;
+        }
+
+        InventorySection[] sections = parseSections(ctx.get(sectionsArg), playerRef);
+        if (sections == null) {
+            return;
+        }
+
+        journal.record(playerRef.getUuid(), "sort " + ctx.get(sectionsArg), InventoryJournal.UndoMode.REORDER, inventory,
+            sections);
+        InventoryMutationEvent event = InventoryMutationEvent.start("sort", inventory, sections);
+        InventorySorter.Result result = InventorySorter.forCurrentThread().sort(inventory, sortType, sections);
+        event.finish(inventory);
+        Translations translations = InventoryPlugin.get().getTranslations();
+        translations.format(playerRef, SORTED_SECTIONS).arg(ctx.get(sectionsArg)).arg(sortType.name().toLowerCase())
+            .arg(result.stacksBefore()).arg(result.stacksAfter()).send(playerRef);
+        if (!result.leftOver().isEmpty()) {
+            SimpleItemContainer.addOrDropItemStacks(store, ref, inventory.getCombinedHotbarFirst(), result.leftOver());
+            translations.format(playerRef, LEFT_OVER).arg(result.leftOverQuantity()).send(playerRef);
+        }
+    }
+
+    /**
+     * Parses a sort type name, sending an error to {@code playerRef} if it is unknown.
+     *
+     * @return the sort type, or null if unknown
+     */
+    static SortType parseSortType(String name, PlayerRef playerRef) {
+        try {
+            return SortType.valueOf(name.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            InventoryPlugin.get().getTranslations().format(playerRef, UNKNOWN_TYPE)
+                .arg(name.toLowerCase()).send(playerRef);
+            return null;
+        }
+    }
+
+    /**
+     * Parses a comma-separated list of sortable sections, sending an error to
+     * {@code playerRef} if any is unknown or repeated.
+     *
+     * @return the sections, or null if invalid
+     */
+    static InventorySection[] parseSections(String names, PlayerRef playerRef) {
+        String[] parts = names.split(",");
+        InventorySection[] sections = new InventorySection[parts.length];
+        for (int i = 0; i < parts.length; i++) {
+            InventorySection section = InventorySection.byId(parts[i].trim());
+            if (section == null || !Arrays.asList(InventorySorter.SORTABLE).contains(section)) {
+                InventoryPlugin.get().getTranslations().format(playerRef, UNSORTABLE_SECTION)
+                    .arg(parts[i].trim()).send(playerRef);
+                return null;
+            }
+            if (Arrays.asList(sections).subList(0, i).contains(section)) {
+                InventoryPlugin.get().getTranslations().format(playerRef, DUPLICATE_SECTION)
+                    .arg(section.getId()).send(playerRef);
+                return null;
+            }
+            sections[i] = section;
+        }
+        return sections;
     }
 }
@@ -0,0 +1,60 @@
+package hytale.examples.inventory;
+
+import com.hypixel.hytale.component.Ref;
+import com.hypixel.hytale.component.Store;
+import com.hypixel.hytale.server.core.Message;
+import com.hypixel.hytale.server.core.command.system.CommandContext;
+import com.hypixel.hytale.server.core.entity.entities.Player;
+import com.hypixel.hytale.server.core.inventory.Inventory;
+import com.hypixel.hytale.server.core.inventory.ItemStack;
+import com.hypixel.hytale.server.core.inventory.container.SimpleItemContainer;
+import com.hypixel.hytale.server.core.universe.PlayerRef;
+import com.hypixel.hytale.server.core.universe.world.World;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+import hytale.examples.shared.TimedPlayerCommand;
+
+import java.util.List;
+
+/**
+ * Undo the most recent /inv-clear, /sort or /inv-import.
+ * Usage: /inv-undo
+ *
+ * Restores the sections recorded in the {@link InventoryJournal}. Older steps can be
+ * undone by running it again, until the journal's per-player depth or memory budget
+ * has dropped them. Stacks that no longer fit in the inventory are dropped at the
+ * player's feet rather than lost.
+ */
+public class UndoCommand extends TimedPlayerCommand {
+
+    private final InventoryJournal journal;
+
+    public UndoCommand(InventoryJournal journal) {
+        super("inv-undo", "Undo the last inventory clear, sort or import");
+        this.journal = journal;
+        requirePermission("hytale.examples.inventory.undo");
+    }
+
+    @Override
+    protected void executeTimed(CommandContext ctx, Store<EntityStore> store,
+                               Ref<EntityStore> ref, PlayerRef playerRef, World world) {
+        InventoryJournal.Entry entry = journal.pop(playerRef.getUuid());
+        if (entry == null) {
+            playerRef.sendMessage(Message.raw("Nothing to undo"));
+            return;
+        }
+
+        Player player = store.getComponent(ref, Player.getComponentType());
+        Inventory inventory = player.getInventory();
+        InventoryJournal.Restored restored = entry.restore(inventory);
+        List<ItemStack> leftOver = restored.leftOver();
+        if (!leftOver.isEmpty()) {
+            SimpleItemContainer.addOrDropItemStacks(store, ref, inventory.getCombinedHotbarFirst(), leftOver);
+        }
+
+        playerRef.sendMessage(Message.raw("Undid " + entry.getAction() + " (" + restored.placed() + " of "
+            + entry.getStackCount() + " stacks restored, " + journal.depth(playerRef.getUuid()) + " more undo steps)"));
+        if (!leftOver.isEmpty()) {
+            playerRef.sendMessage(Message.raw("  " + leftOver.size() + " stack(s) did not fit and were dropped"));
+        }
+    }
+}
@@ -0,0 +1,8 @@
+@echo off
+echo Building jfr-report tool...
+call ./gradlew.bat build
+if %ERRORLEVEL% EQU 0 (
+    echo Build successful! JAR located at: build\libs\jfr-report.jar
+) else (
+    echo Build failed!
+)
@@ -0,0 +1,193 @@
+package hytale.examples.jfr;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingFile;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Summarises a Flight Recorder file into a per-plugin cost report.
+ * Usage: java -jar jfr-report.jar <recording.jfr> [top=10]
+ *
+ * <p>Two sources are combined:
+ * <ul>
+ *   <li>the examples' own events ({@code hytale.examples.<plugin>.*}), grouped by plugin
+ *       and then by command, action or HUD, with count, total, p50, p99 and max duration;
+ *       events shared by all plugins name theirs in a {@code plugin} field</li>
+ *   <li>{@code jdk.ExecutionSample} CPU samples, each attributed to the plugin owning the
+ *       innermost {@code hytale.examples.<plugin>} frame on its stack, skipping shared
+ *       classes</li>
+ * </ul>
+ * The custom events are disabled by default, so the first part is empty unless the
+ * recording enabled them.
+ */
+public class JfrReport {
+
+    private static final String EVENT_PREFIX = "hytale.examples.";
+    private static final String PACKAGE_PREFIX = "hytale.examples.";
+    /** Sources compiled into every plugin; their frames belong to whichever plugin called them. */
+    private static final String SHARED_PACKAGE = "hytale.examples.shared.";
+
+    /** Durations for one plugin/key pair. */
+    private static final class Stats {
+        private long[] nanos = new long[16];
+        private int count;
+
+        void add(long value) {
+            if (count == nanos.length) {
+                nanos = Arrays.copyOf(nanos, count * 2);
+            }
+            nanos[count++] = value;
+        }
+
+        long total() {
+            long total = 0;
+            for (int i = 0; i < count; i++) {
+                total += nanos[i];
+            }
+            return total;
+        }
+
+        long percentile(double quantile) {
+            Arrays.sort(nanos, 0, count);
+            return nanos[Math.max(0, (int) Math.ceil(quantile * count) - 1)];
+        }
+    }
+
+    private final Map<String, Map<String, Stats>> events = new TreeMap<>();
+    private final Map<String, Integer> samples = new TreeMap<>();
+    private int totalSamples;
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("Usage: java -jar jfr-report.jar <recording.jfr> [top=10]");
+            System.exit(2);
+        }
+        Path file = Path.of(args[0]);
+        if (!Files.isRegularFile(file)) {
+            System.err.println("No such file: " + file);
+            System.exit(2);
+        }
+        int top = args.length > 1 ? Integer.parseInt(args[1]) : 10;
+
+        JfrReport report = new JfrReport();
+        try (RecordingFile recording = new RecordingFile(file)) {
+            while (recording.hasMoreEvents()) {
+                report.accept(recording.readEvent());
+            }
+        }
+        report.print(top);
+    }
+
+    void accept(RecordedEvent event) {
+        String type = event.getEventType().getName();
+        if (type.startsWith(EVENT_PREFIX)) {
+            String plugin = event.hasField("plugin") && event.getString("plugin") != null
+                ? event.getString("plugin")
+                : type.substring(EVENT_PREFIX.length(), type.indexOf('.', EVENT_PREFIX.length()));
+            events.computeIfAbsent(plugin, key -> new TreeMap<>())
+                .computeIfAbsent(keyOf(event), key -> new Stats())
+                .add(event.getDuration().toNanos());
+        } else if (type.equals("jdk.ExecutionSample")) {
+            totalSamples++;
+            String plugin = pluginOf(event.getStackTrace());
+            if (plugin != null) {
+                samples.merge(plugin, 1, Integer::sum);
+            }
+        }
+    }
+
+    void print(int top) {
+        System.out.println("== Plugin events ==");
+        if (events.isEmpty()) {
+            System.out.println("(none - enable the hytale.examples.* events in the recording settings)");
+        }
+        for (Map.Entry<String, Map<String, Stats>> plugin : events.entrySet()) {
+            long pluginTotal = 0;
+            int pluginCount = 0;
+            for (Stats stats : plugin.getValue().values()) {
+                pluginTotal += stats.total();
+                pluginCount += stats.count;
+            }
+            System.out.println(plugin.getKey() + ": " + pluginCount + " events, " + format(pluginTotal) + " total");
+
+            List<Map.Entry<String, Stats>> rows = new ArrayList<>(plugin.getValue().entrySet());
+            rows.sort(Comparator.comparingLong((Map.Entry<String, Stats> row) -> row.getValue().total()).reversed());
+            for (Map.Entry<String, Stats> row : rows.subList(0, Math.min(top, rows.size()))) {
+                Stats stats = row.getValue();
+                System.out.println(String.format("  %-32s %7d  total %10s  p50 %10s  p99 %10s  max %10s",
+                    row.getKey(), stats.count, format(stats.total()), format(stats.percentile(0.50)),
+                    format(stats.percentile(0.99)), format(stats.percentile(1.0))));
+            }
+        }
+
+        System.out.println();
+        System.out.println("== CPU samples ==");
+        if (totalSamples == 0) {
+            System.out.println("(no jdk.ExecutionSample events in the recording)");
+            return;
+        }
+        for (Map.Entry<String, Integer> plugin : samples.entrySet()) {
+            System.out.println(String.format("  %-32s %7d  %5.1f%%", plugin.getKey(), plugin.getValue(),
+                100.0 * plugin.getValue() / totalSamples));
+        }
+        System.out.println(String.format("  %-32s %7d", "(all samples)", totalSamples));
+    }
+
+    /**
+     * Groups events by their command, action or HUD field, whichever the type has.
+     */
+    private static String keyOf(RecordedEvent event) {
+        for (String field : new String[] {"command", "action", "hud"}) {
+            if (event.hasField(field)) {
+                String value = event.getString(field);
+                return event.getEventType().getLabel() + " " + (value != null ? value : "?");
+            }
+        }
+        return event.getEventType().getLabel();
+    }
+
+    /**
+     * Plugin owning the innermost example frame, e.g. {@code inventory} for
+     * {@code hytale.examples.inventory.InventorySorter}. Frames in the shared package are
+     * skipped, so time in e.g. {@code CommandOutput} counts for the plugin calling it.
+     */
+    private static String pluginOf(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return null;
+        }
+        for (RecordedFrame frame : stackTrace.getFrames()) {
+            if (!frame.isJavaFrame()) {
+                continue;
+            }
+            String className = frame.getMethod().getType().getName();
+            if (className.startsWith(PACKAGE_PREFIX) && !className.startsWith(SHARED_PACKAGE)) {
+                int end = className.indexOf('.', PACKAGE_PREFIX.length());
+                return end < 0 ? null : className.substring(PACKAGE_PREFIX.length(), end);
+            }
+        }
+        return null;
+    }
+
+    private static String format(long nanos) {
+        Duration duration = Duration.ofNanos(nanos);
+        if (nanos < 1_000_000) {
+            return String.format("%.1f us", nanos / 1_000.0);
+        }
+        if (duration.toSeconds() < 10) {
+            return String.format("%.2f ms", nanos / 1_000_000.0);
+        }
+        return String.format("%.1f s", nanos / 1_000_000_000.0);
+    }
+}
@@ -0,0 +1,42 @@
+package hytale.examples.shared;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event for one run of a {@link TimedPlayerCommand}; its duration is the
+ * time the command held the world thread.
+ *
+ * <p>Every example plugin emits it under this one name; the {@code plugin} field tells them
+ * apart, and jfr-report groups by it.
+ *
+ * <p>Disabled by default. Enable it in a recording with
+ * {@code -XX:StartFlightRecording:settings=default,+hytale.examples.shared.Command#enabled=true}
+ * or from JDK Mission Control. While disabled, the JIT removes the allocation and the
+ * field writes, so an idle event costs nothing.
+ */
+@Name("hytale.examples.shared.Command")
+@Label("Command")
+@Category({"Hytale Examples", "Commands"})
+@Description("Synchronous part of a player command")
+@Enabled(false)
+@StackTrace(false)
+class CommandEvent extends Event {
+
+    @Label("Plugin")
+    String plugin;
+
+    @Label("Command")
+    String command;
+
+    @Label("Player")
+    String player;
+
+    @Label("World")
+    String world;
+}
@@ -0,0 +1,167 @@
+package hytale.examples.shared;
+
+import com.hypixel.hytale.server.core.Message;
+import com.hypixel.hytale.server.core.universe.PlayerRef;
+
+import java.util.Locale;
+
+/**
+ * Reusable builder for a command's reply, sent as one multi-line message.
+ *
+ * <p>Numbers are written digit by digit into a per-thread buffer, so appending an
+ * {@code int}, a {@code long} or a {@code double} at fixed precision boxes nothing and
+ * builds no intermediate strings, unlike concatenation or {@code String.format}. The only
+ * allocations per reply are the final text and its {@link Message}, and a command that
+ * used to send six lines now sends one message.
+ * <pre>{@code
+ * CommandOutput.start()
+ *     .append("Teleported to ").append(x, 1).append(", ").append(y, 1)
+ *     .line("Chunks loaded: ").append(loaded)
+ *     .send(playerRef);
+ * }</pre>
+ *
+ * <p>{@link #start()} hands out the calling thread's builder, cleared. Finish a reply with
+ * {@link #send} or {@link #toMessage()} before calling code that may start another one on
+ * the same thread. Not thread-safe; never pass a builder to another thread.
+ */
+public final class CommandOutput {
+
+    /** Buffers that grew past this are dropped after use rather than kept per thread. */
+    private static final int MAX_RETAINED_CAPACITY = 4096;
+
+    private static final ThreadLocal<CommandOutput> CURRENT = ThreadLocal.withInitial(CommandOutput::new);
+
+    private static final long[] POWERS_OF_TEN = {
+        1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L, 10_000_000L, 100_000_000L, 1_000_000_000L
+    };
+
+    /**
+     * Largest scaled value ({@code |value| * 10^decimals}) written digit by digit, checked per
+     * call since it depends on {@code decimals}. The long cannot overflow below 9.2e18, but
+     * from about 1e12 the rounding error of the multiplication starts to change the last
+     * digit compared to {@link String#format}.
+     */
+    private static final double MAX_SCALED = 1e12;
+
+    private StringBuilder text = new StringBuilder(256);
+
+    private CommandOutput() {
+    }
+
+    /**
+     * Returns this thread's builder, emptied.
+     */
+    public static CommandOutput start() {
+        CommandOutput output = CURRENT.get();
+        output.text.setLength(0);
+        return output;
+    }
+
+    /**
+     * Starts a new line, unless nothing has been written yet.
+     */
+    public CommandOutput line() {
+        if (!text.isEmpty()) {
+            text.append('\n');
+        }
+        return this;
+    }
+
+    /**
+     * Starts a new line with {@code value}.
+     */
+    public CommandOutput line(CharSequence value) {
+        return line().append(value);
+    }
+
+    public CommandOutput append(CharSequence value) {
+        text.append(value);
+        return this;
+    }
+
+    public CommandOutput append(char value) {
+        text.append(value);
+        return this;
+    }
+
+    public CommandOutput append(int value) {
+        text.append(value);
+        return this;
+    }
+
+    public CommandOutput append(long value) {
+        text.append(value);
+        return this;
+    }
+
+    /**
+     * Appends {@code value} rounded half up to {@code decimals} places, always showing
+     * that many, like {@code String.format("%.<decimals>f")} in the root locale. Negative
+     * values that round to zero are written without a sign.
+     *
+     * @param decimals 0 to 9
+     */
+    public CommandOutput append(double value, int decimals) {
+        if (decimals < 0 || decimals >= POWERS_OF_TEN.length) {
+            throw new IllegalArgumentException("decimals must be 0-9: " + decimals);
+        }
+        long scale = POWERS_OF_TEN[decimals];
+        double scaledValue = Math.abs(value) * scale;
+        if (Double.isNaN(value) || scaledValue >= MAX_SCALED) {
+            // Rare enough to take the allocating path; also covers infinities
+            text.append(String.format(Locale.ROOT, "%." + decimals + "f", value));
+            return this;
+        }
+
+        long scaled = Math.round(scaledValue);
+        if (value < 0 && scaled != 0) {
+            text.append('-');
+        }
+        text.append(scaled / scale);
+        if (decimals > 0) {
+            text.append('.');
+            long fraction = scaled % scale;
+            for (long digit = scale / 10; digit > 0; digit /= 10) {
+                text.append((char) ('0' + fraction / digit % 10));
+            }
+        }
+        return this;
+    }
+
+    public boolean isEmpty() {
+        return text.isEmpty();
+    }
+
+    /**
+     * Builds the reply as one message and empties the builder.
+     */
+    public Message toMessage() {
+        Message message = Message.raw(text.toString());
+        release();
+        return message;
+    }
+
+    /**
+     * Sends the reply to {@code playerRef} as one message and empties the builder.
+     * Sends nothing if nothing was written.
+     */
+    public void send(PlayerRef playerRef) {
+        if (text.isEmpty()) {
+            return;
+        }
+        playerRef.sendMessage(toMessage());
+    }
+
+    @Override
+    public String toString() {
+        return text.toString();
+    }
+
+    private void release() {
+        if (text.capacity() > MAX_RETAINED_CAPACITY) {
+            text = new StringBuilder(256);
+        } else {
+            text.setLength(0);
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package hytale.examples.shared;
+
+import com.hypixel.hytale.server.core.Message;
+import com.hypixel.hytale.server.core.universe.PlayerRef;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-player token-bucket rate limits for commands.
+ *
+ * <p>A plugin owns one instance, registers limits by command name in {@code setup()}:
+ * <pre>{@code
+ * rateLimiter.limit("give", 5, 2.0);   // bursts of 5, then 2 per second
+ * }</pre>
+ * and checks them at the top of {@code execute}:
+ * <pre>{@code
+ * if (!InventoryPlugin.get().getRateLimiter().tryAcquire(getName(), playerRef)) {
+ *     return;
+ * }
+ * }</pre>
+ * Names without a registered limit are always allowed. Limits need not be command names;
+ * the UI example limits a subcommand as {@code "statushud update"}.
+ *
+ * <p>Each bucket is a single {@code long} - the time at which it will be full again
+ * (the GCRA form of a token bucket) - updated with one CAS, so the check path takes no
+ * locks. A bucket that has refilled carries no information, so {@link #evictIdle()} drops
+ * it; call that periodically to bound memory by the number of recently active players.
+ */
+public class CommandRateLimiter {
+
+    /** Counters for one limited command. */
+    public record Stats(String command, int burst, double perSecond, long allowed, long rejected, int trackedPlayers) {
+    }
+
+    /** A player with rejected calls whose bucket has not refilled yet. */
+    public record Offender(String command, UUID playerId, String playerName, int rejected) {
+    }
+
+    private final Map<String, Limit> limits = new ConcurrentHashMap<>();
+
+    /**
+     * Limits a command to bursts of {@code burst} calls, refilling at {@code perSecond}.
+     * Replaces any previous limit for the name.
+     *
+     * @param command the name passed to {@link #tryAcquire}, e.g. {@code "give"}
+     */
+    public void limit(String command, int burst, double perSecond) {
+        if (burst < 1 || !(perSecond > 0)) {
+            throw new IllegalArgumentException("Invalid rate limit for " + command + ": " + burst + " @ " + perSecond + "/s");
+        }
+        limits.put(command, new Limit(command, burst, perSecond));
+    }
+
+    /**
+     * Takes one token for the player, or tells them how long to wait.
+     *
+     * @return true if the command may run
+     */
+    public boolean tryAcquire(String command, PlayerRef playerRef) {
+        Limit limit = limits.get(command);
+        if (limit == null) {
+            return true;
+        }
+        long retryNanos = limit.tryAcquire(playerRef);
+        if (retryNanos == 0) {
+            return true;
+        }
+        playerRef.sendMessage(Message.raw("Slow down - /" + command + " is limited to " + limit.describe()
+            + ". Try again in " + String.format("%.1f", Math.ceil(retryNanos / 100_000_000.0) / 10) + "s"));
+        return false;
+    }
+
+    /**
+     * Drops the buckets of players who have fully refilled.
+     *
+     * @return number of buckets removed
+     */
+    public int evictIdle() {
+        long now = System.nanoTime();
+        int removed = 0;
+        for (Limit limit : limits.values()) {
+            int before = limit.buckets.size();
+            // A call racing with its removal lands on the dropped bucket; the next call
+            // gets a new full one, which is what the dropped bucket held anyway
+            limit.buckets.values().removeIf(bucket -> bucket.get() - now <= 0);
+            removed += before - limit.buckets.size();
+        }
+        return removed;
+    }
+
+    public List<Stats> stats() {
+        List<Stats> stats = new ArrayList<>();
+        for (Limit limit : limits.values()) {
+            stats.add(new Stats(limit.command, limit.burst, limit.perSecond,
+                limit.allowed.sum(), limit.rejected.sum(), limit.buckets.size()));
+        }
+        stats.sort(Comparator.comparing(Stats::command));
+        return stats;
+    }
+
+    /**
+     * Tracked players with the most rejected calls, across all commands.
+     */
+    public List<Offender> topOffenders(int count) {
+        List<Offender> offenders = new ArrayList<>();
+        for (Limit limit : limits.values()) {
+            for (Map.Entry<UUID, Bucket> entry : limit.buckets.entrySet()) {
+                int rejected = entry.getValue().rejected.get();
+                if (rejected > 0) {
+                    offenders.add(new Offender(limit.command, entry.getKey(), entry.getValue().playerName, rejected));
+                }
+            }
+        }
+        offenders.sort(Comparator.comparingInt(Offender::rejected).reversed());
+        return offenders.size() > count ? offenders.subList(0, count) : offenders;
+    }
+
+    private static final class Limit {
+        final String command;
+        final int burst;
+        final double perSecond;
+        /** Time one token takes to refill. */
+        final long intervalNanos;
+        /** How far ahead of now a bucket's full-again time may be and still admit a call. */
+        final long toleranceNanos;
+        final Map<UUID, Bucket> buckets = new ConcurrentHashMap<>();
+        final LongAdder allowed = new LongAdder();
+        final LongAdder rejected = new LongAdder();
+
+        Limit(String command, int burst, double perSecond) {
+            this.command = command;
+            this.burst = burst;
+            this.perSecond = perSecond;
+            this.intervalNanos = Math.max(1, (long) (TimeUnit.SECONDS.toNanos(1) / perSecond));
+            this.toleranceNanos = (burst - 1) * intervalNanos;
+        }
+
+        /**
+         * @return 0 if a token was taken, otherwise nanoseconds until one is available
+         */
+        long tryAcquire(PlayerRef playerRef) {
+            long now = System.nanoTime();
+            Bucket bucket = buckets.get(playerRef.getUuid());
+            if (bucket == null) {
+                bucket = buckets.computeIfAbsent(playerRef.getUuid(), id -> new Bucket(now, playerRef.getUsername()));
+            }
+            while (true) {
+                long fullAt = bucket.get();
+                long start = fullAt - now > 0 ? fullAt : now;
+                long wait = start - now - toleranceNanos;
+                if (wait > 0) {
+                    rejected.increment();
+                    bucket.rejected.incrementAndGet();
+                    return wait;
+                }
+                if (bucket.compareAndSet(fullAt, start + intervalNanos)) {
+                    allowed.increment();
+                    return 0;
+                }
+            }
+        }
+
+        String describe() {
+            if (perSecond >= 1) {
+                return burst + " at once, then " + formatRate(perSecond) + " per second";
+            }
+            return burst + " at once, then 1 every " + formatRate(1 / perSecond) + "s";
+        }
+
+        private static String formatRate(double value) {
+            return value == Math.rint(value) ? Long.toString((long) value) : String.format("%.1f", value);
+        }
+    }
+
+    /**
+     * One player's bucket: the {@code nanoTime} at which it is full again.
+     */
+    private static final class Bucket extends AtomicLong {
+        final String playerName;
+        final AtomicInteger rejected = new AtomicInteger();
+
+        Bucket(long fullAt, String playerName) {
+            super(fullAt);
+            this.playerName = playerName;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package hytale.examples.shared;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-command latency histograms, keyed by fully qualified command name
+ * (e.g. {@code "waypoint set"}).
+ *
+ * <p>Histograms are created on a command's first run and kept for the life of the plugin;
+ * {@link #reset()} clears their contents to start a new measurement window.
+ *
+ * <p>{@link #get()} is the instance every {@link TimedPlayerCommand} records into. It is
+ * static, so there is one per class loader: each example jar compiles its own copy of
+ * this class, which gives each plugin its own statistics and its own {@link PerfCommand}.
+ */
+public class CommandStats {
+
+    private static final CommandStats INSTANCE = new CommandStats();
+
+    /** One command's statistics for the current window. */
+    public record Entry(String command, LatencyHistogram.Snapshot stats) {
+    }
+
+    private final Map<String, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+
+    /**
+     * Statistics for the commands of the plugin that loaded this class.
+     */
+    public static CommandStats get() {
+        return INSTANCE;
+    }
+
+    /**
+     * Returns the histogram for a command, creating it on first use.
+     * Callers should keep the result instead of looking it up per invocation.
+     */
+    public LatencyHistogram histogram(String command) {
+        return histograms.computeIfAbsent(command, key -> new LatencyHistogram());
+    }
+
+    /**
+     * Commands that held their thread longest in total during the current window.
+     *
+     * @param limit maximum number of entries
+     * @return entries with at least one invocation, by total time descending
+     */
+    public List<Entry> top(int limit) {
+        List<Entry> entries = new ArrayList<>(histograms.size());
+        for (Map.Entry<String, LatencyHistogram> entry : histograms.entrySet()) {
+            LatencyHistogram.Snapshot stats = entry.getValue().snapshot();
+            if (stats.count() > 0) {
+                entries.add(new Entry(entry.getKey(), stats));
+            }
+        }
+        entries.sort(Comparator.comparingLong((Entry entry) -> entry.stats().totalNanos()).reversed());
+        return entries.size() > limit ? entries.subList(0, limit) : entries;
+    }
+
+    /**
+     * Starts a new window for every command.
+     */
+    public void reset() {
+        for (LatencyHistogram histogram : histograms.values()) {
+            histogram.reset();
+        }
+    }
+}
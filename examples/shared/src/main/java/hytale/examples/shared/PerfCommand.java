@@ -0,0 +1,130 @@
+package hytale.examples.shared;
+
+import com.hypixel.hytale.component.Ref;
+import com.hypixel.hytale.component.Store;
+import com.hypixel.hytale.server.core.Message;
+import com.hypixel.hytale.server.core.command.system.CommandContext;
+import com.hypixel.hytale.server.core.command.system.arguments.system.DefaultArg;
+import com.hypixel.hytale.server.core.command.system.arguments.types.ArgTypes;
+import com.hypixel.hytale.server.core.universe.PlayerRef;
+import com.hypixel.hytale.server.core.universe.world.World;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+
+import java.util.List;
+
+/**
+ * Report how long this plugin's commands hold the world thread.
+ * Usage, for a command registered as {@code /perf}:
+ *   /perf commands [limit]   - commands by total time this window, with p50/p99/max
+ *   /perf reset              - start a new window
+ *
+ * Covers every command of the registering plugin built on {@link TimedPlayerCommand},
+ * read from {@link CommandStats#get()}. Each plugin registers its own copy under its
+ * own name, guarded by {@code hytale.examples.<plugin>.perf}.
+ */
+public class PerfCommand extends TimedPlayerCommand {
+
+    private final String plugin;
+
+    /**
+     * @param plugin registering example, e.g. {@code "inventory"}
+     * @param name   command name, e.g. {@code "perf"} or {@code "inv-perf"}
+     */
+    public PerfCommand(String plugin, String name) {
+        super(name, "Show command latency statistics");
+        this.plugin = plugin;
+        requirePermission("hytale.examples." + plugin + ".perf");
+        addSubCommand(new CommandsCommand(plugin, CommandStats.get()));
+        addSubCommand(new ResetCommand(plugin, CommandStats.get()));
+    }
+
+    @Override
+    protected String pluginName() {
+        return plugin;
+    }
+
+    @Override
+    protected void executeTimed(CommandContext ctx, Store<EntityStore> store,
+                               Ref<EntityStore> ref, PlayerRef playerRef, World world) {
+        playerRef.sendMessage(Message.raw("Usage: /" + getName() + " <commands|reset>"));
+    }
+
+    /**
+     * {@code /<name> commands [limit]}
+     */
+    static class CommandsCommand extends TimedPlayerCommand {
+
+        private final String plugin;
+        private final CommandStats stats;
+        private final DefaultArg<Integer> limitArg;
+
+        CommandsCommand(String plugin, CommandStats stats) {
+            super("commands", "List the commands that held the world thread longest");
+            this.plugin = plugin;
+            this.stats = stats;
+            limitArg = withDefaultArg("limit", "Number of commands to list", ArgTypes.INTEGER, 10, "10");
+        }
+
+        @Override
+        protected String pluginName() {
+            return plugin;
+        }
+
+        @Override
+        protected void executeTimed(CommandContext ctx, Store<EntityStore> store,
+                                   Ref<EntityStore> ref, PlayerRef playerRef, World world) {
+            List<CommandStats.Entry> top = stats.top(Math.max(1, ctx.get(limitArg)));
+            if (top.isEmpty()) {
+                playerRef.sendMessage(Message.raw("No commands run since the last reset"));
+                return;
+            }
+            CommandOutput output = CommandOutput.start().append("Command: runs, total, p50 / p99 / max");
+            for (CommandStats.Entry entry : top) {
+                LatencyHistogram.Snapshot s = entry.stats();
+                output.line("  /").append(entry.command()).append(": ").append(s.count()).append(", ");
+                appendNanos(output, s.totalNanos()).append(", ");
+                appendNanos(output, s.p50()).append(" / ");
+                appendNanos(output, s.p99()).append(" / ");
+                appendNanos(output, s.max());
+            }
+            output.send(playerRef);
+        }
+    }
+
+    /**
+     * {@code /<name> reset}
+     */
+    static class ResetCommand extends TimedPlayerCommand {
+
+        private final String plugin;
+        private final CommandStats stats;
+
+        ResetCommand(String plugin, CommandStats stats) {
+            super("reset", "Start a new command latency window");
+            this.plugin = plugin;
+            this.stats = stats;
+        }
+
+        @Override
+        protected String pluginName() {
+            return plugin;
+        }
+
+        @Override
+        protected void executeTimed(CommandContext ctx, Store<EntityStore> store,
+                                   Ref<EntityStore> ref, PlayerRef playerRef, World world) {
+            stats.reset();
+            playerRef.sendMessage(Message.raw("Command latency statistics reset"));
+        }
+    }
+
+    static CommandOutput appendNanos(CommandOutput output, long nanos) {
+        if (nanos < 1_000) {
+            return output.append(nanos).append(" ns");
+        }
+        if (nanos < 1_000_000) {
+            return output.append(nanos / 1_000.0, 1).append(" us");
+        }
+        return output.append(nanos / 1_000_000.0, 2).append(" ms");
+    }
+}
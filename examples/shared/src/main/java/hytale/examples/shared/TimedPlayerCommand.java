@@ -0,0 +1,78 @@
+package hytale.examples.shared;
+
+import com.hypixel.hytale.component.Ref;
+import com.hypixel.hytale.component.Store;
+import com.hypixel.hytale.server.core.command.system.CommandContext;
+import com.hypixel.hytale.server.core.command.system.basecommands.AbstractPlayerCommand;
+import com.hypixel.hytale.server.core.universe.PlayerRef;
+import com.hypixel.hytale.server.core.universe.world.World;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+
+/**
+ * {@link AbstractPlayerCommand} that records how long each run holds the world thread
+ * into the plugin's {@link CommandStats#get()}. Subclasses implement {@link #executeTimed}
+ * instead of {@code execute}.
+ *
+ * <p>Each run is also emitted as a {@link CommandEvent} when Flight Recorder has that
+ * event enabled.
+ *
+ * <p>Only the synchronous part is measured: work a command queues for later (e.g. a
+ * teleport after chunk prefetch) is not included.
+ */
+public abstract class TimedPlayerCommand extends AbstractPlayerCommand {
+
+    private LatencyHistogram histogram;
+
+    protected TimedPlayerCommand(String name, String description) {
+        super(name, description);
+    }
+
+    @Override
+    protected final void execute(CommandContext ctx, Store<EntityStore> store,
+                                 Ref<EntityStore> ref, PlayerRef playerRef, World world) {
+        CommandEvent event = new CommandEvent();
+        event.begin();
+        long start = System.nanoTime();
+        try {
+            executeTimed(ctx, store, ref, playerRef, world);
+        } finally {
+            histogram().record(System.nanoTime() - start);
+            event.end();
+            if (event.shouldCommit()) {
+                event.plugin = pluginName();
+                event.command = getFullyQualifiedName();
+                event.player = playerRef.getUsername();
+                event.world = world.getName();
+                event.commit();
+            }
+        }
+    }
+
+    /**
+     * Runs the command on the world thread, like {@code AbstractPlayerCommand.execute}.
+     */
+    protected abstract void executeTimed(CommandContext ctx, Store<EntityStore> store,
+                                         Ref<EntityStore> ref, PlayerRef playerRef, World world);
+
+    /**
+     * Example plugin this command belongs to, recorded with each {@link CommandEvent}.
+     * Defaults to the package below {@code hytale.examples}, e.g. {@code inventory} for
+     * {@code hytale.examples.inventory.GiveCommand}; commands declared in this shared
+     * package override it.
+     */
+    protected String pluginName() {
+        String packageName = getClass().getPackageName();
+        return packageName.substring(packageName.lastIndexOf('.') + 1);
+    }
+
+    private LatencyHistogram histogram() {
+        // Resolved on first run: a subcommand only knows its full name once added to its parent.
+        // Racing worlds both get the same histogram from computeIfAbsent.
+        LatencyHistogram result = histogram;
+        if (result == null) {
+            result = CommandStats.get().histogram(getFullyQualifiedName());
+            histogram = result;
+        }
+        return result;
+    }
+}
@@ -0,0 +1,377 @@
+package hytale.examples.shared;
+
+import com.hypixel.hytale.server.core.Message;
+import com.hypixel.hytale.server.core.universe.PlayerRef;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Player-facing text in each player's language, rendered from templates that are parsed
+ * once per locale.
+ *
+ * <p>Strings live in {@code <resourceRoot><locale>.lang}, one {@code key = text} line each,
+ * under the same namespaced translation keys the i18n system uses (e.g.
+ * {@code inventory.give.added = Added {count}x {item}}). Code refers to a string through a
+ * {@link Key}, which declares its parameters and their types:
+ * <pre>{@code
+ * static final Translations.Key ADDED = new Translations.Key("inventory.give.added",
+ *     Translations.Param.number("count"), Translations.Param.text("item"));
+ *
+ * translations.format(playerRef, ADDED).arg(quantity).arg(itemId).send(playerRef);
+ * }</pre>
+ *
+ * <p>The first time a key is used in a locale its text is split into literal parts and
+ * slots, each slot bound to a parameter index, and the result is kept with the locale.
+ * After that, rendering fills the slots in order into a per-thread buffer: no lookup by
+ * name, no parsing and no boxing of numbers. Keys missing from a locale fall back to
+ * {@link #DEFAULT_LOCALE}, and keys missing there render as the key itself.
+ *
+ * <p>A locale's file is read when a player using it first needs a string. At most
+ * {@code maxLocales} locales stay loaded - the least recently used is dropped to make room -
+ * and {@link #evictIdle()} drops locales nobody has used for {@code idleNanos}. The default
+ * locale is always loaded.
+ *
+ * <p>Thread-safe. {@link #format} hands out the calling thread's {@link Formatter}; finish
+ * it before formatting another message on the same thread.
+ */
+public final class Translations {
+
+    /** Locale used for players with no language, and for keys a locale does not define. */
+    public static final String DEFAULT_LOCALE = "en-US";
+
+    /** Locales kept loaded at once, including the default. */
+    public static final int DEFAULT_MAX_LOCALES = 8;
+
+    /** How long an unused locale stays loaded. */
+    public static final long DEFAULT_IDLE_NANOS = TimeUnit.MINUTES.toNanos(10);
+
+    /** Most parameters a key can declare. */
+    public static final int MAX_PARAMS = 8;
+
+    /** Type of a parameter slot. */
+    public enum ParamType { NUMBER, TEXT }
+
+    /**
+     * A named, typed parameter of a {@link Key}; {@code {name}} in a translation marks its slot.
+     */
+    public record Param(String name, ParamType type) {
+
+        public static Param number(String name) {
+            return new Param(name, ParamType.NUMBER);
+        }
+
+        public static Param text(String name) {
+            return new Param(name, ParamType.TEXT);
+        }
+    }
+
+    /**
+     * A translation key and the parameters its text may use, in the order
+     * {@link Formatter#arg} takes them. Keys are compared by identity; declare each once,
+     * as a constant.
+     */
+    public static final class Key {
+
+        private final String id;
+        private final Param[] params;
+
+        public Key(String id, Param... params) {
+            if (params.length > MAX_PARAMS) {
+                throw new IllegalArgumentException(id + " declares " + params.length + " parameters, at most "
+                    + MAX_PARAMS + " are allowed");
+            }
+            this.id = id;
+            this.params = params.clone();
+        }
+
+        public String getId() {
+            return id;
+        }
+
+        int indexOf(String name) {
+            for (int i = 0; i < params.length; i++) {
+                if (params[i].name().equals(name)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        public String toString() {
+            return id;
+        }
+    }
+
+    private final ClassLoader classLoader;
+    private final String resourceRoot;
+    private final int maxLocales;
+    private final long idleNanos;
+    private final Catalog defaultCatalog;
+    private final Map<String, Catalog> catalogs = new ConcurrentHashMap<>();
+    private final ThreadLocal<Formatter> formatters = ThreadLocal.withInitial(Formatter::new);
+
+    /**
+     * @param resourceRoot classpath folder holding the {@code .lang} files, ending in {@code /}
+     * @param maxLocales locales kept loaded at once, at least 1
+     * @param idleNanos how long {@link #evictIdle()} keeps an unused locale
+     */
+    public Translations(ClassLoader classLoader, String resourceRoot, int maxLocales, long idleNanos) {
+        this.classLoader = classLoader;
+        this.resourceRoot = resourceRoot;
+        this.maxLocales = Math.max(1, maxLocales);
+        this.idleNanos = idleNanos;
+        Properties texts = load(DEFAULT_LOCALE);
+        if (texts == null) {
+            throw new IllegalStateException("Missing " + resourceRoot + DEFAULT_LOCALE + ".lang");
+        }
+        defaultCatalog = new Catalog(texts, null);
+    }
+
+    /**
+     * Starts rendering {@code key} in {@code playerRef}'s language.
+     */
+    public Formatter format(PlayerRef playerRef, Key key) {
+        return format(playerRef.getLanguage(), key);
+    }
+
+    /**
+     * Starts rendering {@code key} in {@code locale}, e.g. {@code "de-DE"}; null means
+     * {@link #DEFAULT_LOCALE}.
+     */
+    public Formatter format(String locale, Key key) {
+        Formatter formatter = formatters.get();
+        formatter.start(key, catalog(locale).template(key));
+        return formatter;
+    }
+
+    /**
+     * Drops locales that have not been used for the idle time. Call periodically.
+     *
+     * @return the number of locales dropped
+     */
+    public int evictIdle() {
+        long cutoff = System.nanoTime() - idleNanos;
+        int evicted = 0;
+        for (Map.Entry<String, Catalog> entry : catalogs.entrySet()) {
+            if (entry.getValue().lastUsed < cutoff && catalogs.remove(entry.getKey(), entry.getValue())) {
+                evicted++;
+            }
+        }
+        return evicted;
+    }
+
+    /**
+     * Locales currently loaded, not counting the default.
+     */
+    public int getLoadedLocales() {
+        return catalogs.size();
+    }
+
+    private Catalog catalog(String locale) {
+        if (locale == null || locale.equals(DEFAULT_LOCALE)) {
+            return defaultCatalog;
+        }
+        Catalog catalog = catalogs.get(locale);
+        if (catalog == null) {
+            catalog = catalogs.computeIfAbsent(locale, this::loadCatalog);
+            if (catalogs.size() > maxLocales - 1) {
+                evictLeastRecentlyUsed(locale);
+            }
+        }
+        catalog.lastUsed = System.nanoTime();
+        return catalog;
+    }
+
+    private Catalog loadCatalog(String locale) {
+        // A locale without a file is remembered too, so it is not looked up again on every call
+        Properties texts = load(locale);
+        return new Catalog(texts != null ? texts : new Properties(), defaultCatalog);
+    }
+
+    private void evictLeastRecentlyUsed(String keep) {
+        String oldest = null;
+        long oldestUse = Long.MAX_VALUE;
+        for (Map.Entry<String, Catalog> entry : catalogs.entrySet()) {
+            if (!entry.getKey().equals(keep) && entry.getValue().lastUsed < oldestUse) {
+                oldest = entry.getKey();
+                oldestUse = entry.getValue().lastUsed;
+            }
+        }
+        if (oldest != null) {
+            catalogs.remove(oldest);
+        }
+    }
+
+    private Properties load(String locale) {
+        try (InputStream in = classLoader.getResourceAsStream(resourceRoot + locale + ".lang")) {
+            if (in == null) {
+                return null;
+            }
+            Properties texts = new Properties();
+            texts.load(new InputStreamReader(in, StandardCharsets.UTF_8));
+            return texts;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read " + resourceRoot + locale + ".lang", e);
+        }
+    }
+
+    /**
+     * One locale's raw texts and the templates parsed from them so far.
+     */
+    private static final class Catalog {
+
+        private final Properties texts;
+        private final Catalog fallback;
+        private final Map<Key, Template> templates = new ConcurrentHashMap<>();
+        private volatile long lastUsed = System.nanoTime();
+
+        Catalog(Properties texts, Catalog fallback) {
+            this.texts = texts;
+            this.fallback = fallback;
+        }
+
+        Template template(Key key) {
+            Template template = templates.get(key);
+            if (template == null) {
+                template = templates.computeIfAbsent(key, this::compile);
+            }
+            return template;
+        }
+
+        private Template compile(Key key) {
+            String text = texts.getProperty(key.getId());
+            if (text == null) {
+                return fallback != null ? fallback.template(key) : Template.parse(key, key.getId());
+            }
+            return Template.parse(key, text);
+        }
+    }
+
+    /**
+     * A translation split into literal parts with parameter slots between them:
+     * {@code literals[0] slot[0] literals[1] ... slot[n-1] literals[n]}.
+     */
+    private record Template(String[] literals, int[] slots) {
+
+        static Template parse(Key key, String text) {
+            List<String> literals = new ArrayList<>();
+            int[] slots = new int[0];
+            StringBuilder literal = new StringBuilder();
+            int i = 0;
+            while (i < text.length()) {
+                int open = text.indexOf('{', i);
+                int close = open < 0 ? -1 : text.indexOf('}', open);
+                if (close < 0) {
+                    literal.append(text, i, text.length());
+                    break;
+                }
+                literal.append(text, i, open);
+                int param = key.indexOf(text.substring(open + 1, close));
+                if (param < 0) {
+                    // Not one of this key's parameters: keep the brace as text and look for a
+                    // placeholder right after it, as in "{ {count}"
+                    literal.append('{');
+                    i = open + 1;
+                } else {
+                    literals.add(literal.toString());
+                    literal.setLength(0);
+                    slots = Arrays.copyOf(slots, slots.length + 1);
+                    slots[slots.length - 1] = param;
+                    i = close + 1;
+                }
+            }
+            literals.add(literal.toString());
+            return new Template(literals.toArray(new String[0]), slots);
+        }
+    }
+
+    /**
+     * Collects the arguments for one message and renders it. Arguments are given in the
+     * order the {@link Key} declares its parameters, with the declared type.
+     */
+    public static final class Formatter {
+
+        private final long[] numbers = new long[MAX_PARAMS];
+        private final String[] texts = new String[MAX_PARAMS];
+        private final StringBuilder text = new StringBuilder(128);
+        private Key key;
+        private Template template;
+        private int count;
+
+        private Formatter() {
+        }
+
+        private void start(Key key, Template template) {
+            this.key = key;
+            this.template = template;
+            count = 0;
+        }
+
+        public Formatter arg(long value) {
+            next(ParamType.NUMBER);
+            numbers[count++] = value;
+            return this;
+        }
+
+        public Formatter arg(String value) {
+            next(ParamType.TEXT);
+            texts[count++] = value;
+            return this;
+        }
+
+        /**
+         * Renders the text. Every declared parameter must have been given.
+         */
+        public String toText() {
+            if (count != key.params.length) {
+                throw new IllegalStateException(key + " takes " + key.params.length + " arguments, got " + count);
+            }
+            text.setLength(0);
+            String[] literals = template.literals();
+            int[] slots = template.slots();
+            for (int i = 0; i < slots.length; i++) {
+                text.append(literals[i]);
+                int slot = slots[i];
+                if (key.params[slot].type() == ParamType.NUMBER) {
+                    text.append(numbers[slot]);
+                } else {
+                    text.append(texts[slot]);
+                }
+            }
+            text.append(literals[slots.length]);
+            Arrays.fill(texts, 0, count, null);
+            return text.toString();
+        }
+
+        public Message toMessage() {
+            return Message.raw(toText());
+        }
+
+        public void send(PlayerRef playerRef) {
+            playerRef.sendMessage(toMessage());
+        }
+
+        private void next(ParamType type) {
+            if (count >= key.params.length) {
+                throw new IllegalStateException(key + " takes " + key.params.length + " arguments");
+            }
+            Param param = key.params[count];
+            if (param.type() != type) {
+                throw new IllegalArgumentException(key + " parameter " + param.name() + " is " + param.type()
+                    + ", got " + type);
+            }
+        }
+    }
+}
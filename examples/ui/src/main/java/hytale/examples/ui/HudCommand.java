@@ -1,48 +1,134 @@
 package hytale.examples.ui;
 
+import com.hypixel.hytale.component.ComponentType;
 import com.hypixel.hytale.component.Ref;
 import com.hypixel.hytale.component.Store;
-import com.hypixel.hytale.protocol.packets.interface_.HudComponent;
-import com.hypixel.hytale.server.core.Message;
+import com.hypixel.hytale.component.query.Query;
 import com.hypixel.hytale.server.core.command.system.CommandContext;
+import com.hypixel.hytale.server.core.command.system.arguments.system.OptionalArg;
 import com.hypixel.hytale.server.core.command.system.arguments.system.RequiredArg;
 import com.hypixel.hytale.server.core.command.system.arguments.types.ArgTypes;
-import com.hypixel.hytale.server.core.command.system.basecommands.AbstractPlayerCommand;
 import com.hypixel.hytale.server.core.entity.entities.Player;
 import com.hypixel.hytale.server.core.universe.PlayerRef;
 import com.hypixel.hytale.server.core.universe.world.World;
 import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+import hytale.examples.shared.TimedPlayerCommand;
+import hytale.examples.shared.Translations;
 
 /**
- * Toggles HUD components on/off.
- * Usage: /hud <show|hide>
+ * Toggles HUD components on/off, for yourself or for a whole world.
+ *
+ * <p>Usage: /hud &lt;show|hide|world|release&gt; [layout]
+ * <ul>
+ *   <li>{@code show} / {@code hide} - your own layout, remembered across sessions</li>
+ *   <li>{@code world <layout>} - imposes a {@link HudLayout} on every player in this world</li>
+ *   <li>{@code release} - returns every player in this world to their own layout</li>
+ * </ul>
+ *
+ * <p>Visibility is tracked per player in {@link HudVisibility}, so players who already
+ * see the wanted components are sent nothing. The world modes visit every player in one
+ * pass over the entity store.
  */
-public class HudCommand extends AbstractPlayerCommand {
+public class HudCommand extends TimedPlayerCommand {
 
-    private enum Mode { show, hide }
+    private enum Mode { show, hide, world, release }
+
+    /** Permission required for {@code world} and {@code release}. */
+    public static final String WORLD_PERMISSION = "hytale.examples.ui.hud.world";
+
+    private static final Translations.Key SHOWN = new Translations.Key("ui.hud.shown");
+    private static final Translations.Key HIDDEN = new Translations.Key("ui.hud.hidden");
+    private static final Translations.Key UNCHANGED = new Translations.Key("ui.hud.unchanged");
+    private static final Translations.Key SAVED_DURING_OVERRIDE = new Translations.Key("ui.hud.saved_during_override",
+        Translations.Param.text("layout"));
+    private static final Translations.Key LAYOUT_REQUIRED = new Translations.Key("ui.hud.layout_required");
+    private static final Translations.Key NO_WORLD_PERMISSION = new Translations.Key("ui.hud.no_world_permission");
+    private static final Translations.Key WORLD_APPLIED = new Translations.Key("ui.hud.world_applied",
+        Translations.Param.text("layout"), Translations.Param.number("players"), Translations.Param.number("sent"));
+    private static final Translations.Key WORLD_RELEASED = new Translations.Key("ui.hud.world_released",
+        Translations.Param.number("players"), Translations.Param.number("sent"));
 
     private final RequiredArg<Mode> modeArg;
+    private final OptionalArg<HudLayout> layoutArg;
 
     public HudCommand() {
         super("hud", "Toggle HUD visibility");
-        modeArg = withRequiredArg("mode", "show or hide", ArgTypes.forEnum("mode", Mode.class));
+        modeArg = withRequiredArg("mode", "show, hide, world, or release", ArgTypes.forEnum("mode", Mode.class));
+        layoutArg = withOptionalArg("layout", "Layout for world: standard, hidden, cinematic, or minigame",
+            ArgTypes.forEnum("layout", HudLayout.class));
     }
 
     @Override
-    protected void execute(CommandContext ctx, Store<EntityStore> store,
-                          Ref<EntityStore> ref, PlayerRef playerRef, World world) {
+    protected void executeTimed(CommandContext ctx, Store<EntityStore> store,
+                               Ref<EntityStore> ref, PlayerRef playerRef, World world) {
         Mode mode = ctx.get(modeArg);
         Player player = store.getComponent(ref, Player.getComponentType());
+        Translations translations = UIPlugin.get().getTranslations();
+
+        if (mode == Mode.show || mode == Mode.hide) {
+            HudVisibility visibility = store.ensureAndGetComponent(ref, HudVisibility.getComponentType());
+            visibility.setPreferred(mode == Mode.show ? HudLayout.standard : HudLayout.hidden);
+            boolean sent = visibility.apply(player.getHudManager(), playerRef);
+            if (visibility.getOverride() != null) {
+                translations.format(playerRef, SAVED_DURING_OVERRIDE).arg(visibility.getOverride().name())
+                    .send(playerRef);
+            } else if (!sent) {
+                translations.format(playerRef, UNCHANGED).send(playerRef);
+            } else {
+                translations.format(playerRef, mode == Mode.show ? SHOWN : HIDDEN).send(playerRef);
+            }
+            return;
+        }
 
-        if (mode == Mode.show) {
-            player.getHudManager().setVisibleHudComponents(playerRef,
-                HudComponent.Hotbar,
-                HudComponent.Health,
-                HudComponent.Reticle);
-            playerRef.sendMessage(Message.raw("HUD components shown"));
+        if (!player.hasPermission(WORLD_PERMISSION)) {
+            translations.format(playerRef, NO_WORLD_PERMISSION).send(playerRef);
+            return;
+        }
+        if (mode == Mode.world && !ctx.provided(layoutArg)) {
+            translations.format(playerRef, LAYOUT_REQUIRED).send(playerRef);
+            return;
+        }
+
+        HudLayout layout = mode == Mode.world ? ctx.get(layoutArg) : null;
+        WorldResult result = applyToWorld(store, layout);
+        if (layout != null) {
+            translations.format(playerRef, WORLD_APPLIED).arg(layout.name()).arg(result.players()).arg(result.sent())
+                .send(playerRef);
         } else {
-            player.getHudManager().setVisibleHudComponents(playerRef);
-            playerRef.sendMessage(Message.raw("HUD components hidden"));
+            translations.format(playerRef, WORLD_RELEASED).arg(result.players()).arg(result.sent()).send(playerRef);
         }
     }
+
+    /**
+     * Outcome of {@link #applyToWorld}.
+     *
+     * @param players players whose layout was set
+     * @param sent players whose client had to be updated
+     */
+    record WorldResult(int players, int sent) {
+    }
+
+    /**
+     * Sets or clears the override of every tracked player in {@code store} and applies it,
+     * in one pass over the store.
+     *
+     * @param layout the layout to impose, or null to return players to their own
+     */
+    static WorldResult applyToWorld(Store<EntityStore> store, HudLayout layout) {
+        ComponentType<EntityStore, HudVisibility> visibilityType = HudVisibility.getComponentType();
+        Query<EntityStore> players = Query.and(Player.getComponentType(), PlayerRef.getComponentType(), visibilityType);
+        int[] counts = new int[2];
+        store.forEachChunk(players, (chunk, buffer) -> {
+            for (int i = 0; i < chunk.getCount(); i++) {
+                HudVisibility visibility = chunk.getComponent(i, visibilityType);
+                visibility.setOverride(layout);
+                Player target = chunk.getComponent(i, Player.getComponentType());
+                if (visibility.apply(target.getHudManager(), chunk.getComponent(i, PlayerRef.getComponentType()))) {
+                    counts[1]++;
+                }
+                counts[0]++;
+            }
+        });
+        return new WorldResult(counts[0], counts[1]);
+    }
 }
@@ -0,0 +1,59 @@
+package hytale.examples.ui;
+
+import com.hypixel.hytale.protocol.packets.interface_.HudComponent;
+
+/**
+ * Named sets of native HUD components for {@code /hud}.
+ *
+ * <p>Each layout's bitmask and component array are built once, so applying a layout to
+ * every player in a world shares one array and compares one {@code long} per player.
+ */
+public enum HudLayout {
+
+    /** What {@code /hud show} shows. */
+    standard(HudComponent.Hotbar, HudComponent.Health, HudComponent.Reticle),
+
+    /** Nothing; what {@code /hud hide} shows. */
+    hidden(),
+
+    /** Cutscenes: titles, chat and notifications only. */
+    cinematic(HudComponent.EventTitle, HudComponent.Chat, HudComponent.Notifications),
+
+    /** Rounds of a minigame: combat essentials, objectives and the kill feed. */
+    minigame(HudComponent.Hotbar, HudComponent.Health, HudComponent.Stamina, HudComponent.Reticle,
+        HudComponent.KillFeed, HudComponent.EventTitle, HudComponent.ObjectivePanel, HudComponent.Chat);
+
+    private final long mask;
+    private final HudComponent[] components;
+
+    HudLayout(HudComponent... components) {
+        this.components = components;
+        this.mask = HudVisibility.maskOf(components);
+    }
+
+    /**
+     * One bit per component, see {@link HudVisibility#maskOf}.
+     */
+    public long getMask() {
+        return mask;
+    }
+
+    /**
+     * The components, shared; do not modify.
+     */
+    HudComponent[] components() {
+        return components;
+    }
+
+    /**
+     * Looks up a layout by name, or null if there is none, e.g. after a rename.
+     */
+    public static HudLayout byName(String name) {
+        for (HudLayout layout : values()) {
+            if (layout.name().equals(name)) {
+                return layout;
+            }
+        }
+        return null;
+    }
+}
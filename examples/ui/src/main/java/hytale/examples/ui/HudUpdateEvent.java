@@ -0,0 +1,38 @@
+package hytale.examples.ui;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event for one {@link StatusHud} payload: a full {@code build()} or an
+ * incremental {@code update()}.
+ *
+ * <p>Disabled by default; enable {@code hytale.examples.ui.HudUpdate} in the recording
+ * settings. A disabled event is removed by the JIT and costs nothing.
+ */
+@Name("hytale.examples.ui.HudUpdate")
+@Label("HUD Update")
+@Category({"Hytale Examples", "UI"})
+@Description("Custom HUD payload built for one player")
+@Enabled(false)
+@StackTrace(false)
+class HudUpdateEvent extends Event {
+
+    @Label("HUD")
+    String hud;
+
+    @Label("Player")
+    String player;
+
+    @Label("Full Rebuild")
+    boolean rebuild;
+
+    @Label("Elements")
+    @Description("UI commands in the payload")
+    int elements;
+}
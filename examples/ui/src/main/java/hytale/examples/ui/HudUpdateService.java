@@ -0,0 +1,247 @@
+package hytale.examples.ui;
+
+import com.hypixel.hytale.component.Ref;
+import com.hypixel.hytale.component.Store;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Central entry point for pushing stat changes to players' {@link StatusHud}s.
+ *
+ * <p>Game systems call {@link #postHealth(UUID, int)}, {@link #postMana(UUID, int)} or
+ * {@link #postStats(UUID, int, int)} from any thread. Changes for the same player are
+ * coalesced - only the latest value per field survives - and the player is queued once,
+ * on the queue of the world they are in. Every world's {@link HudUpdateSystem} then calls
+ * {@link #drain(Store)} each tick, which flushes that world's queue until the per-tick
+ * time budget is spent and leaves the rest for later ticks.
+ *
+ * <p>Because each world only ever sees its own players, each {@link StatusHud} is only
+ * touched by the thread of the world its player is in, and the budget applies per world.
+ * A player who has moved on since being queued is routed to their new world's queue when
+ * reached; changes for a player who has no HUD or is in no world are dropped.
+ *
+ * <p>This keeps a login storm or a mass-damage event from turning into hundreds of HUD
+ * packets inside a single tick.
+ *
+ * @see HudUpdateSystem
+ * @see StatusHud#flush()
+ */
+public class HudUpdateService {
+
+    /** Default per-tick budget: half a millisecond of world-thread time. */
+    public static final long DEFAULT_TICK_BUDGET_NANOS = TimeUnit.MICROSECONDS.toNanos(500);
+
+    private static final int UNSET = Integer.MIN_VALUE;
+
+    private final Function<UUID, StatusHud> hudLookup;
+    private final Map<UUID, PendingStats> pending = new ConcurrentHashMap<>();
+    private final Map<Store<EntityStore>, Queue<PendingStats>> readyByWorld = new ConcurrentHashMap<>();
+    private final AtomicInteger backlog = new AtomicInteger();
+
+    private final LongAdder flushed = new LongAdder();
+    private final LongAdder deferredTicks = new LongAdder();
+
+    private volatile long tickBudgetNanos;
+
+    /**
+     * @param hudLookup resolves a player's active HUD, or null if they have none
+     * @param tickBudgetNanos maximum time {@link #drain(Store)} may spend per world per tick
+     */
+    public HudUpdateService(Function<UUID, StatusHud> hudLookup, long tickBudgetNanos) {
+        this.hudLookup = hudLookup;
+        setTickBudgetNanos(tickBudgetNanos);
+    }
+
+    public void postHealth(UUID playerId, int health) {
+        PendingStats stats = pendingFor(playerId);
+        stats.health.set(health);
+        enqueue(stats);
+    }
+
+    public void postMana(UUID playerId, int mana) {
+        PendingStats stats = pendingFor(playerId);
+        stats.mana.set(mana);
+        enqueue(stats);
+    }
+
+    public void postStats(UUID playerId, int health, int mana) {
+        PendingStats stats = pendingFor(playerId);
+        stats.health.set(health);
+        stats.mana.set(mana);
+        enqueue(stats);
+    }
+
+    /**
+     * Flushes players queued for {@code store}'s world, in FIFO order, until the queue is
+     * empty or the tick budget is spent. Called once per tick by each world's
+     * {@link HudUpdateSystem}, on that world's thread. The budget is checked after every
+     * entry, flushed or not, and at least one entry is taken per call, so the queue keeps
+     * moving even with a tiny budget.
+     *
+     * @return number of players processed
+     */
+    public int drain(Store<EntityStore> store) {
+        Queue<PendingStats> ready = readyByWorld.get(store);
+        if (ready == null) {
+            return 0;
+        }
+        EntityStore entities = store.getExternalData();
+        long deadline = System.nanoTime() + tickBudgetNanos;
+        int processed = 0;
+
+        PendingStats stats;
+        while ((stats = ready.poll()) != null) {
+            backlog.decrementAndGet();
+            if (pending.get(stats.playerId) == stats) {
+                Ref<EntityStore> ref = entities.getRefFromUUID(stats.playerId);
+                if (ref != null && ref.isValid()) {
+                    apply(stats);
+                    processed++;
+                } else {
+                    // Left this world since being queued: follow them, or drop the entry
+                    stats.queued.set(false);
+                    enqueue(stats);
+                }
+            }
+            // else forgotten while queued, e.g. the player left
+
+            if (System.nanoTime() - deadline >= 0) {
+                if (!ready.isEmpty()) {
+                    deferredTicks.increment();
+                }
+                break;
+            }
+        }
+        return processed;
+    }
+
+    /**
+     * Drops any pending changes for a player, e.g. when their HUD is removed.
+     */
+    public void forget(UUID playerId) {
+        pending.remove(playerId);
+    }
+
+    public long getTickBudgetNanos() {
+        return tickBudgetNanos;
+    }
+
+    public void setTickBudgetNanos(long tickBudgetNanos) {
+        if (tickBudgetNanos <= 0) {
+            throw new IllegalArgumentException("Tick budget must be positive: " + tickBudgetNanos);
+        }
+        this.tickBudgetNanos = tickBudgetNanos;
+    }
+
+    /**
+     * Players currently waiting for a flush.
+     */
+    public int getBacklog() {
+        return backlog.get();
+    }
+
+    /**
+     * Players with a pending-update entry, queued or not.
+     */
+    public int getPendingEntries() {
+        return pending.size();
+    }
+
+    /**
+     * Players processed by {@link #drain(Store)} since startup.
+     */
+    public long getFlushedCount() {
+        return flushed.sum();
+    }
+
+    /**
+     * Ticks that ran out of budget with players still queued.
+     */
+    public long getDeferredTicks() {
+        return deferredTicks.sum();
+    }
+
+    private PendingStats pendingFor(UUID playerId) {
+        return pending.computeIfAbsent(playerId, PendingStats::new);
+    }
+
+    private void enqueue(PendingStats stats) {
+        if (!stats.queued.compareAndSet(false, true)) {
+            return;
+        }
+        Store<EntityStore> world = worldOf(stats.playerId);
+        if (world == null) {
+            // No world would ever drain it
+            stats.queued.set(false);
+            pending.remove(stats.playerId, stats);
+            return;
+        }
+        backlog.incrementAndGet();
+        readyByWorld.computeIfAbsent(world, key -> new ConcurrentLinkedQueue<>()).add(stats);
+    }
+
+    /**
+     * Store of the world a player's HUD is in, or null if they have no HUD or are between
+     * worlds.
+     */
+    private Store<EntityStore> worldOf(UUID playerId) {
+        StatusHud hud = hudLookup.apply(playerId);
+        Ref<EntityStore> ref = hud != null ? hud.getPlayerRef().getReference() : null;
+        return ref != null && ref.isValid() ? ref.getStore() : null;
+    }
+
+    private void apply(PendingStats stats) {
+        StatusHud hud = hudLookup.apply(stats.playerId);
+        int health = stats.health.getAndSet(UNSET);
+        int mana = stats.mana.getAndSet(UNSET);
+
+        if (hud == null) {
+            // No HUD to update - drop the entry instead of keeping it around
+            pending.remove(stats.playerId, stats);
+        } else {
+            if (health != UNSET) {
+                hud.setHealth(health);
+            }
+            if (mana != UNSET) {
+                hud.setMana(mana);
+            }
+            hud.flush();
+        }
+        flushed.increment();
+
+        // 'queued' stays set while we flush so the player is never in the queue twice;
+        // anything posted meanwhile is re-queued here
+        stats.queued.set(false);
+        if (stats.hasPending()) {
+            enqueue(stats);
+        }
+    }
+
+    /**
+     * Latest unsent values for one player. Fields hold {@link #UNSET} when nothing is pending.
+     */
+    private static final class PendingStats {
+        final UUID playerId;
+        final AtomicInteger health = new AtomicInteger(UNSET);
+        final AtomicInteger mana = new AtomicInteger(UNSET);
+        final AtomicBoolean queued = new AtomicBoolean();
+
+        PendingStats(UUID playerId) {
+            this.playerId = playerId;
+        }
+
+        boolean hasPending() {
+            return health.get() != UNSET || mana.get() != UNSET;
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package hytale.examples.ui;
+
+import com.hypixel.hytale.component.Store;
+import com.hypixel.hytale.component.system.tick.TickingSystem;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+
+/**
+ * Drains the {@link HudUpdateService} once per world tick.
+ *
+ * <p>Every world runs its own copy of this system and only flushes the HUDs of players in
+ * its own store, so the service's tick budget is the most HUD work any single world thread
+ * will do per tick.
+ */
+public class HudUpdateSystem extends TickingSystem<EntityStore> {
+
+    private final HudUpdateService updates;
+
+    public HudUpdateSystem(HudUpdateService updates) {
+        this.updates = updates;
+    }
+
+    @Override
+    public void tick(float deltaTime, int systemIndex, Store<EntityStore> store) {
+        updates.drain(store);
+    }
+}
@@ -0,0 +1,166 @@
+package hytale.examples.ui;
+
+import com.hypixel.hytale.codec.Codec;
+import com.hypixel.hytale.codec.KeyedCodec;
+import com.hypixel.hytale.codec.builder.BuilderCodec;
+import com.hypixel.hytale.component.Component;
+import com.hypixel.hytale.component.ComponentType;
+import com.hypixel.hytale.protocol.packets.interface_.HudComponent;
+import com.hypixel.hytale.server.core.entity.entities.player.hud.HudManager;
+import com.hypixel.hytale.server.core.universe.PlayerRef;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+
+import java.util.Set;
+
+/**
+ * A player's native HUD layout, kept as an ECS component on the player entity.
+ *
+ * <p>Three things are tracked:
+ * <ul>
+ *   <li>the layout the player chose with {@code /hud show|hide}, saved with the player
+ *       through {@link #CODEC} so it is restored on their next session;</li>
+ *   <li>a layout imposed on the whole world by {@code /hud world}, e.g. for a cutscene,
+ *       which takes precedence until released and is never saved;</li>
+ *   <li>a bitmask of the components last sent to the client.</li>
+ * </ul>
+ *
+ * <p>{@link #apply} compares the wanted layout's mask against the sent mask and only calls
+ * {@code setVisibleHudComponents} when they differ, so repeating a command, or applying a
+ * layout to a world where most players already have it, sends no packets.
+ *
+ * <p>Only touched on the world thread that owns the entity.
+ */
+public class HudVisibility implements Component<EntityStore> {
+
+    /** Sent mask meaning "not known"; the next {@link #apply} always sends. */
+    private static final long UNKNOWN = -1L;
+
+    static final BuilderCodec<HudVisibility> CODEC = BuilderCodec.builder(HudVisibility.class, HudVisibility::new)
+        .append(new KeyedCodec<>("Layout", Codec.STRING),
+            (visibility, name) -> visibility.preferred = HudLayout.byName(name),
+            visibility -> visibility.preferred != null ? visibility.preferred.name() : null).add()
+        .build();
+
+    private static ComponentType<EntityStore, HudVisibility> componentType;
+
+    /** Chosen by the player; null until they choose, leaving the server's default HUD alone. */
+    private HudLayout preferred;
+    /** Imposed on the world; wins over {@link #preferred} while set. */
+    private HudLayout override;
+    /** What the client shows, as far as we know. */
+    private long sentMask = UNKNOWN;
+    /** What the client showed before the first override, to restore for players with no preference. */
+    private long baselineMask = UNKNOWN;
+
+    public HudVisibility() {
+    }
+
+    private HudVisibility(HudVisibility other) {
+        preferred = other.preferred;
+        override = other.override;
+        sentMask = other.sentMask;
+        baselineMask = other.baselineMask;
+    }
+
+    public static ComponentType<EntityStore, HudVisibility> getComponentType() {
+        return componentType;
+    }
+
+    static void setComponentType(ComponentType<EntityStore, HudVisibility> type) {
+        componentType = type;
+    }
+
+    /**
+     * One bit per component, at {@link HudComponent#getValue()}.
+     */
+    public static long maskOf(HudComponent... components) {
+        long mask = 0;
+        for (HudComponent component : components) {
+            mask |= bit(component);
+        }
+        return mask;
+    }
+
+    public HudLayout getPreferred() {
+        return preferred;
+    }
+
+    public void setPreferred(HudLayout layout) {
+        preferred = layout;
+    }
+
+    public HudLayout getOverride() {
+        return override;
+    }
+
+    public void setOverride(HudLayout layout) {
+        override = layout;
+    }
+
+    /**
+     * Forgets what the client shows, e.g. after a world change; the next {@link #apply} sends.
+     */
+    public void invalidate() {
+        sentMask = UNKNOWN;
+    }
+
+    /**
+     * Shows the override if set, else the player's preference, unless the client already
+     * shows exactly that. With neither, restores the components shown before the first
+     * override, if there was one.
+     *
+     * @return true if a packet was sent
+     */
+    public boolean apply(HudManager hud, PlayerRef playerRef) {
+        HudLayout layout = override != null ? override : preferred;
+        if (layout == null) {
+            if (baselineMask == UNKNOWN || baselineMask == sentMask) {
+                return false;
+            }
+            hud.setVisibleHudComponents(playerRef, componentsOf(baselineMask));
+            sentMask = baselineMask;
+            return true;
+        }
+        if (layout.getMask() == sentMask) {
+            return false;
+        }
+        if (preferred == null && baselineMask == UNKNOWN) {
+            baselineMask = maskOf(hud.getVisibleHudComponents());
+        }
+        hud.setVisibleHudComponents(playerRef, layout.components());
+        sentMask = layout.getMask();
+        return true;
+    }
+
+    @Override
+    public Component<EntityStore> clone() {
+        return new HudVisibility(this);
+    }
+
+    private static long maskOf(Set<HudComponent> components) {
+        long mask = 0;
+        for (HudComponent component : components) {
+            mask |= bit(component);
+        }
+        return mask;
+    }
+
+    private static HudComponent[] componentsOf(long mask) {
+        HudComponent[] components = new HudComponent[Long.bitCount(mask)];
+        int count = 0;
+        for (HudComponent component : HudComponent.values()) {
+            if ((mask & bit(component)) != 0) {
+                components[count++] = component;
+            }
+        }
+        return components;
+    }
+
+    private static long bit(HudComponent component) {
+        int value = component.getValue();
+        if (value < 0 || value >= Long.SIZE) {
+            throw new IllegalStateException("HudComponent." + component + " does not fit in a 64-bit mask");
+        }
+        return 1L << value;
+    }
+}
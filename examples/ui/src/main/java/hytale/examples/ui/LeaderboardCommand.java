@@ -0,0 +1,70 @@
+package hytale.examples.ui;
+
+import hytale.examples.shared.TimedPlayerCommand;
+import hytale.examples.ui.pages.LeaderboardPage;
+import com.hypixel.hytale.component.Ref;
+import com.hypixel.hytale.component.Store;
+import com.hypixel.hytale.server.core.command.system.CommandContext;
+import com.hypixel.hytale.server.core.command.system.arguments.system.DefaultArg;
+import com.hypixel.hytale.server.core.command.system.arguments.types.ArgTypes;
+import com.hypixel.hytale.server.core.entity.entities.Player;
+import com.hypixel.hytale.server.core.universe.PlayerRef;
+import com.hypixel.hytale.server.core.universe.world.World;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Opens a leaderboard of sample scores that only sends the rows in view.
+ * Usage: /leaderboard [entries]
+ * Examples:
+ *   /leaderboard - 5000 sample entries
+ *   /leaderboard 100000
+ *
+ * Every viewer of the same size shares one immutable entry list; see {@link LeaderboardPage}.
+ */
+public class LeaderboardCommand extends TimedPlayerCommand {
+
+    /** Largest sample list that can be requested. */
+    private static final int MAX_ENTRIES = 1_000_000;
+
+    private final DefaultArg<Integer> entriesArg;
+
+    private volatile List<LeaderboardPage.Entry> sample = List.of();
+
+    public LeaderboardCommand() {
+        super("leaderboard", "Opens a leaderboard with thousands of rows");
+        entriesArg = withDefaultArg("entries", "Number of sample entries", ArgTypes.INTEGER, 5000, "5000");
+    }
+
+    @Override
+    protected void executeTimed(CommandContext ctx, Store<EntityStore> store,
+                               Ref<EntityStore> ref, PlayerRef playerRef, World world) {
+        int entries = Math.max(0, Math.min(MAX_ENTRIES, ctx.get(entriesArg)));
+        Player player = store.getComponent(ref, Player.getComponentType());
+        player.getPageManager().openCustomPage(ref, store, new LeaderboardPage(playerRef, sample(entries)));
+    }
+
+    /**
+     * Sample entries, highest score first. The last list built is reused while the size
+     * stays the same, so concurrent viewers share it.
+     */
+    private List<LeaderboardPage.Entry> sample(int size) {
+        List<LeaderboardPage.Entry> current = sample;
+        if (current.size() == size) {
+            return current;
+        }
+        Random random = new Random(size);
+        List<LeaderboardPage.Entry> entries = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            entries.add(new LeaderboardPage.Entry(String.format("Player%06d", i), random.nextInt(1_000_000)));
+        }
+        entries.sort(Comparator.comparingLong(LeaderboardPage.Entry::score).reversed());
+        current = List.copyOf(entries);
+        sample = current;
+        return current;
+    }
+}
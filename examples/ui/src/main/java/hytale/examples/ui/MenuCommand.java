@@ -1,10 +1,10 @@
 package hytale.examples.ui;
 
+import hytale.examples.shared.TimedPlayerCommand;
 import hytale.examples.ui.pages.SimpleMenuPage;
 import com.hypixel.hytale.component.Ref;
 import com.hypixel.hytale.component.Store;
 import com.hypixel.hytale.server.core.command.system.CommandContext;
-import com.hypixel.hytale.server.core.command.system.basecommands.AbstractPlayerCommand;
 import com.hypixel.hytale.server.core.entity.entities.Player;
 import com.hypixel.hytale.server.core.universe.PlayerRef;
 import com.hypixel.hytale.server.core.universe.world.World;
@@ -14,15 +14,15 @@ import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
  * Opens a custom UI page for the player.
  * Usage: /menu
  */
-public class MenuCommand extends AbstractPlayerCommand {
+public class MenuCommand extends TimedPlayerCommand {
 
     public MenuCommand() {
         super("menu", "Opens a custom menu");
     }
 
     @Override
-    protected void execute(CommandContext ctx, Store<EntityStore> store,
-                          Ref<EntityStore> ref, PlayerRef playerRef, World world) {
+    protected void executeTimed(CommandContext ctx, Store<EntityStore> store,
+                               Ref<EntityStore> ref, PlayerRef playerRef, World world) {
         Player player = store.getComponent(ref, Player.getComponentType());
         SimpleMenuPage page = new SimpleMenuPage(playerRef);
         player.getPageManager().openCustomPage(ref, store, page);
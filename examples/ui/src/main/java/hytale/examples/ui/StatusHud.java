@@ -4,6 +4,8 @@ import com.hypixel.hytale.server.core.entity.entities.player.hud.CustomUIHud;
 import com.hypixel.hytale.server.core.ui.builder.UICommandBuilder;
 import com.hypixel.hytale.server.core.universe.PlayerRef;
 
+import java.util.concurrent.atomic.LongAdder;
+
 /**
  * A custom HUD overlay displaying player status information.
  * Demonstrates how to create persistent HUD elements with dynamic updates.
@@ -14,28 +16,147 @@ import com.hypixel.hytale.server.core.universe.PlayerRef;
  *   <li>Loading UI from .ui files in build()</li>
  *   <li>Dynamic updates using update(false, cmd)</li>
  *   <li>Element targeting with #ElementId.Property syntax</li>
+ *   <li>Dirty tracking so unchanged values are never re-sent</li>
+ *   <li>A shared {@link UITemplate}, so a rebuild only sends values that differ from the .ui file</li>
  * </ul>
  *
+ * <p>Values are staged with {@link #setHealth(int)} / {@link #setMana(int)} and sent
+ * together by {@link #flush()}, so any number of changes within a tick cost at most one
+ * {@code update} packet. A value equal to the one last sent to the client is dropped.
+ *
+ * <p>Every payload is emitted as a {@link HudUpdateEvent} when Flight Recorder has that
+ * event enabled.
+ *
+ * <p>Instances are not thread-safe; stage and flush from the player's world thread.
+ *
  * @see <a href="https://github.com/user/hytale-plugin-examples/blob/main/docs/ui-api.md#customuihud">CustomUIHud Documentation</a>
  */
 public class StatusHud extends CustomUIHud {
 
+    private static final UITemplate TEMPLATE = UITemplate.get("StatusHud.ui");
+
+    private static final String HEALTH_TEXT = "#HealthLabel.Text";
+    private static final String MANA_TEXT = "#ManaLabel.Text";
+
+    /** Values 0..LABEL_CACHE_SIZE-1 reuse pre-built label strings instead of concatenating. */
+    private static final int LABEL_CACHE_SIZE = 1024;
+    private static final String[] HEALTH_LABELS = buildLabels("Health: ");
+    private static final String[] MANA_LABELS = buildLabels("Mana: ");
+
+    /** Marks a field that has not been sent since the last build(). */
+    private static final int UNSENT = Integer.MIN_VALUE;
+
+    private static final LongAdder TOTAL_SENT = new LongAdder();
+    private static final LongAdder TOTAL_SUPPRESSED = new LongAdder();
+
+    private int sentHealth = UNSENT;
+    private int sentMana = UNSENT;
+    private int pendingHealth = UNSENT;
+    private int pendingMana = UNSENT;
+
+    private long sentUpdates;
+    private long suppressedUpdates;
+
     public StatusHud(PlayerRef playerRef) {
         super(playerRef);
     }
 
     @Override
     protected void build(UICommandBuilder cmd) {
+        HudUpdateEvent event = new HudUpdateEvent();
+        event.begin();
+
         // Load UI from .ui file (path relative to Common/UI/Custom/)
-        cmd.append("StatusHud.ui");
+        TEMPLATE.append(cmd);
+        int elements = 1;
+
+        // A rebuild resets the client to the .ui defaults, so re-apply the latest known values;
+        // a value equal to the template's own text needs no command
+        int health = pendingHealth != UNSENT ? pendingHealth : sentHealth;
+        int mana = pendingMana != UNSENT ? pendingMana : sentMana;
+        if (health != UNSENT && TEMPLATE.setText(cmd, HEALTH_TEXT, healthLabel(health))) {
+            elements++;
+        }
+        if (mana != UNSENT && TEMPLATE.setText(cmd, MANA_TEXT, manaLabel(mana))) {
+            elements++;
+        }
+        sentHealth = health;
+        sentMana = mana;
+        pendingHealth = UNSENT;
+        pendingMana = UNSENT;
+
+        emit(event, true, elements);
     }
 
     /**
-     * Updates the health and mana display values.
+     * Stages a health value to be sent on the next {@link #flush()}.
+     * Staging the value already shown on the client is counted as suppressed.
+     *
+     * @param health the current health value to display
+     */
+    public void setHealth(int health) {
+        pendingHealth = stage(health, sentHealth, pendingHealth);
+    }
+
+    /**
+     * Stages a mana value to be sent on the next {@link #flush()}.
+     * Staging the value already shown on the client is counted as suppressed.
+     *
+     * @param mana the current mana value to display
+     */
+    public void setMana(int mana) {
+        pendingMana = stage(mana, sentMana, pendingMana);
+    }
+
+    /**
+     * Returns whether any staged value differs from what the client currently shows.
+     */
+    public boolean isDirty() {
+        return pendingHealth != UNSENT || pendingMana != UNSENT;
+    }
+
+    /**
+     * Sends all dirty fields as a single incremental update.
      *
      * <p>This method demonstrates dynamic HUD updates using {@code update(false, cmd)}.
      * The {@code false} parameter means commands are applied incrementally without
-     * clearing existing content.
+     * clearing existing content. Nothing is sent when no field changed.
+     *
+     * @return true if an update was sent
+     */
+    public boolean flush() {
+        if (!isDirty()) {
+            return false;
+        }
+
+        HudUpdateEvent event = new HudUpdateEvent();
+        event.begin();
+
+        // UICommandBuilder has no reset, so one builder is allocated per packet actually sent
+        UICommandBuilder cmd = new UICommandBuilder();
+        int elements = 0;
+        if (pendingHealth != UNSENT) {
+            cmd.set(HEALTH_TEXT, healthLabel(pendingHealth));
+            sentHealth = pendingHealth;
+            pendingHealth = UNSENT;
+            elements++;
+        }
+        if (pendingMana != UNSENT) {
+            cmd.set(MANA_TEXT, manaLabel(pendingMana));
+            sentMana = pendingMana;
+            pendingMana = UNSENT;
+            elements++;
+        }
+        update(false, cmd);  // false = apply incrementally, don't clear existing content
+        emit(event, false, elements);
+
+        sentUpdates++;
+        TOTAL_SENT.increment();
+        return true;
+    }
+
+    /**
+     * Updates the health and mana display values.
      *
      * <p>Example usage:
      * <pre>{@code
@@ -49,10 +170,9 @@ public class StatusHud extends CustomUIHud {
      * @param mana the current mana value to display
      */
     public void updateStats(int health, int mana) {
-        UICommandBuilder cmd = new UICommandBuilder();
-        cmd.set("#HealthLabel.Text", "Health: " + health);
-        cmd.set("#ManaLabel.Text", "Mana: " + mana);
-        update(false, cmd);  // false = apply incrementally, don't clear existing content
+        setHealth(health);
+        setMana(mana);
+        flush();
     }
 
     /**
@@ -61,9 +181,8 @@ public class StatusHud extends CustomUIHud {
      * @param health the current health value to display
      */
     public void updateHealth(int health) {
-        UICommandBuilder cmd = new UICommandBuilder();
-        cmd.set("#HealthLabel.Text", "Health: " + health);
-        update(false, cmd);
+        setHealth(health);
+        flush();
     }
 
     /**
@@ -72,8 +191,76 @@ public class StatusHud extends CustomUIHud {
      * @param mana the current mana value to display
      */
     public void updateMana(int mana) {
-        UICommandBuilder cmd = new UICommandBuilder();
-        cmd.set("#ManaLabel.Text", "Mana: " + mana);
-        update(false, cmd);
+        setMana(mana);
+        flush();
+    }
+
+    /**
+     * Number of update packets this HUD has sent.
+     */
+    public long getSentUpdates() {
+        return sentUpdates;
+    }
+
+    /**
+     * Number of field changes this HUD dropped because the client already showed the value.
+     */
+    public long getSuppressedUpdates() {
+        return suppressedUpdates;
+    }
+
+    /**
+     * Update packets sent by all StatusHud instances since startup.
+     */
+    public static long getTotalSentUpdates() {
+        return TOTAL_SENT.sum();
+    }
+
+    /**
+     * Field changes suppressed by all StatusHud instances since startup.
+     */
+    public static long getTotalSuppressedUpdates() {
+        return TOTAL_SUPPRESSED.sum();
+    }
+
+    private int stage(int value, int sent, int pending) {
+        if (value == sent) {
+            // Back to what the client shows - drop any staged change for this field
+            suppressedUpdates++;
+            TOTAL_SUPPRESSED.increment();
+            return UNSENT;
+        }
+        if (value == pending) {
+            suppressedUpdates++;
+            TOTAL_SUPPRESSED.increment();
+        }
+        return value;
+    }
+
+    private void emit(HudUpdateEvent event, boolean rebuild, int elements) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.hud = "StatusHud";
+            event.player = getPlayerRef().getUsername();
+            event.rebuild = rebuild;
+            event.elements = elements;
+            event.commit();
+        }
+    }
+
+    private static String healthLabel(int health) {
+        return health >= 0 && health < LABEL_CACHE_SIZE ? HEALTH_LABELS[health] : "Health: " + health;
+    }
+
+    private static String manaLabel(int mana) {
+        return mana >= 0 && mana < LABEL_CACHE_SIZE ? MANA_LABELS[mana] : "Mana: " + mana;
+    }
+
+    private static String[] buildLabels(String prefix) {
+        String[] labels = new String[LABEL_CACHE_SIZE];
+        for (int i = 0; i < LABEL_CACHE_SIZE; i++) {
+            labels[i] = prefix + i;
+        }
+        return labels;
     }
 }
@@ -6,20 +6,23 @@ import com.hypixel.hytale.server.core.Message;
 import com.hypixel.hytale.server.core.command.system.CommandContext;
 import com.hypixel.hytale.server.core.command.system.arguments.system.RequiredArg;
 import com.hypixel.hytale.server.core.command.system.arguments.types.ArgTypes;
-import com.hypixel.hytale.server.core.command.system.basecommands.AbstractPlayerCommand;
 import com.hypixel.hytale.server.core.entity.entities.Player;
 import com.hypixel.hytale.server.core.universe.PlayerRef;
 import com.hypixel.hytale.server.core.universe.world.World;
 import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+import hytale.examples.shared.CommandRateLimiter;
+import hytale.examples.shared.TimedPlayerCommand;
+import hytale.examples.shared.Translations;
 
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * Toggles a custom status HUD overlay on/off with support for dynamic updates.
  *
- * <p>Usage: /statushud &lt;show|hide|update&gt;
+ * <p>Usage: /statushud &lt;show|hide|update|stats&gt;
  *
  * <p>This command demonstrates the recommended pattern for managing CustomUIHud instances:
  * <ul>
@@ -33,12 +36,39 @@ import java.util.concurrent.ConcurrentHashMap;
  *
  * @see StatusHud
  */
-public class StatusHudCommand extends AbstractPlayerCommand {
+public class StatusHudCommand extends TimedPlayerCommand {
 
-    private enum Mode { show, hide, update }
+    private enum Mode { show, hide, update, stats }
+
+    /** Rate limit name for {@code /statushud update}, registered in {@link UIPlugin}. */
+    public static final String UPDATE_LIMIT = "statushud update";
+
+    /** Permission required for the {@code stats} admin view. */
+    public static final String STATS_PERMISSION = "hytale.examples.ui.statushud.stats";
+
+    /**
+     * Rough retained size of one HUD entry: map node, UUID key and StatusHud instance.
+     * Used only for the approximate memory figure in {@code /statushud stats}.
+     */
+    private static final long APPROX_BYTES_PER_HUD = 160;
+
+    /** Rough retained size of one pending-update entry in the {@link HudUpdateService}. */
+    private static final long APPROX_BYTES_PER_PENDING = 120;
+
+    private static final Translations.Key ALREADY_VISIBLE = new Translations.Key("ui.statushud.already_visible");
+    private static final Translations.Key SHOWN = new Translations.Key("ui.statushud.shown");
+    private static final Translations.Key HIDDEN = new Translations.Key("ui.statushud.hidden");
+    private static final Translations.Key NO_ACTIVE_HUD = new Translations.Key("ui.statushud.no_active_hud");
+    private static final Translations.Key UPDATE_QUEUED = new Translations.Key("ui.statushud.update_queued",
+        Translations.Param.number("health"), Translations.Param.number("mana"),
+        Translations.Param.number("sent"), Translations.Param.number("suppressed"));
+    private static final Translations.Key NO_STATS_PERMISSION = new Translations.Key("ui.statushud.no_stats_permission");
 
     private final RequiredArg<Mode> modeArg;
 
+    private final LongAdder evicted = new LongAdder();
+    private final LongAdder swept = new LongAdder();
+
     /**
      * Stores active HUD references by player UUID.
      *
@@ -53,14 +83,20 @@ public class StatusHudCommand extends AbstractPlayerCommand {
      */
     private final Map<UUID, StatusHud> playerHuds = new ConcurrentHashMap<>();
 
+    /**
+     * Coalesces stat changes and flushes them to the HUDs above under a per-tick budget.
+     */
+    private final HudUpdateService updateService =
+        new HudUpdateService(playerHuds::get, HudUpdateService.DEFAULT_TICK_BUDGET_NANOS);
+
     public StatusHudCommand() {
         super("statushud", "Toggle custom status HUD overlay");
-        modeArg = withRequiredArg("mode", "show, hide, or update", ArgTypes.forEnum("mode", Mode.class));
+        modeArg = withRequiredArg("mode", "show, hide, update, or stats", ArgTypes.forEnum("mode", Mode.class));
     }
 
     @Override
-    protected void execute(CommandContext ctx, Store<EntityStore> store,
-                          Ref<EntityStore> ref, PlayerRef playerRef, World world) {
+    protected void executeTimed(CommandContext ctx, Store<EntityStore> store,
+                               Ref<EntityStore> ref, PlayerRef playerRef, World world) {
         Mode mode = ctx.get(modeArg);
         Player player = store.getComponent(ref, Player.getComponentType());
         UUID playerId = playerRef.getUuid();
@@ -69,13 +105,14 @@ public class StatusHudCommand extends AbstractPlayerCommand {
             case show -> showHud(player, playerRef, playerId);
             case hide -> hideHud(player, playerRef, playerId);
             case update -> updateHud(playerRef, playerId);
+            case stats -> showStats(player, playerRef);
         }
     }
 
     private void showHud(Player player, PlayerRef playerRef, UUID playerId) {
         // Check if player already has an active HUD
         if (playerHuds.containsKey(playerId)) {
-            playerRef.sendMessage(Message.raw("Status HUD is already visible"));
+            UIPlugin.get().getTranslations().format(playerRef, ALREADY_VISIBLE).send(playerRef);
             return;
         }
 
@@ -86,7 +123,7 @@ public class StatusHudCommand extends AbstractPlayerCommand {
         // Store reference for later updates
         playerHuds.put(playerId, statusHud);
 
-        playerRef.sendMessage(Message.raw("Custom status HUD shown"));
+        UIPlugin.get().getTranslations().format(playerRef, SHOWN).send(playerRef);
     }
 
     private void hideHud(Player player, PlayerRef playerRef, UUID playerId) {
@@ -95,15 +132,20 @@ public class StatusHudCommand extends AbstractPlayerCommand {
 
         // Clean up our reference
         playerHuds.remove(playerId);
+        updateService.forget(playerId);
 
-        playerRef.sendMessage(Message.raw("Custom status HUD hidden"));
+        UIPlugin.get().getTranslations().format(playerRef, HIDDEN).send(playerRef);
     }
 
     private void updateHud(PlayerRef playerRef, UUID playerId) {
+        if (!UIPlugin.get().getRateLimiter().tryAcquire(UPDATE_LIMIT, playerRef)) {
+            return;
+        }
+
         StatusHud hud = playerHuds.get(playerId);
 
         if (hud == null) {
-            playerRef.sendMessage(Message.raw("No active HUD. Use '/statushud show' first."));
+            UIPlugin.get().getTranslations().format(playerRef, NO_ACTIVE_HUD).send(playerRef);
             return;
         }
 
@@ -112,8 +154,41 @@ public class StatusHudCommand extends AbstractPlayerCommand {
         int sampleHealth = (int) (Math.random() * 100);
         int sampleMana = (int) (Math.random() * 100);
 
-        hud.updateStats(sampleHealth, sampleMana);
-        playerRef.sendMessage(Message.raw("HUD updated - Health: " + sampleHealth + ", Mana: " + sampleMana));
+        // Post through the update service - the HUD is flushed on an upcoming tick
+        updateService.postStats(playerId, sampleHealth, sampleMana);
+        UIPlugin.get().getTranslations().format(playerRef, UPDATE_QUEUED)
+            .arg(sampleHealth).arg(sampleMana).arg(hud.getSentUpdates()).arg(hud.getSuppressedUpdates())
+            .send(playerRef);
+    }
+
+    /**
+     * Admin diagnostics; left in English like the server's own console output.
+     */
+    private void showStats(Player player, PlayerRef playerRef) {
+        if (!player.hasPermission(STATS_PERMISSION)) {
+            UIPlugin.get().getTranslations().format(playerRef, NO_STATS_PERMISSION).send(playerRef);
+            return;
+        }
+
+        int entries = playerHuds.size();
+        int pendingEntries = updateService.getPendingEntries();
+        long approxBytes = entries * APPROX_BYTES_PER_HUD + pendingEntries * APPROX_BYTES_PER_PENDING;
+
+        playerRef.sendMessage(Message.raw("Active HUD entries: " + entries
+            + ", pending update entries: " + pendingEntries
+            + " (~" + (approxBytes + 1023) / 1024 + " KiB retained)"));
+        playerRef.sendMessage(Message.raw("Evicted: " + evicted.sum()
+            + " (disconnect/world change), " + swept.sum() + " (sweep)"));
+        playerRef.sendMessage(Message.raw("Updates sent: " + StatusHud.getTotalSentUpdates()
+            + ", suppressed: " + StatusHud.getTotalSuppressedUpdates()
+            + ", backlog: " + updateService.getBacklog()));
+        for (CommandRateLimiter.Stats limit : UIPlugin.get().getRateLimiter().stats()) {
+            playerRef.sendMessage(Message.raw("/" + limit.command() + " rate limit: " + limit.allowed()
+                + " allowed, " + limit.rejected() + " rejected, " + limit.trackedPlayers() + " player(s) tracked"));
+        }
+        for (CommandRateLimiter.Offender offender : UIPlugin.get().getRateLimiter().topOffenders(5)) {
+            playerRef.sendMessage(Message.raw("  " + offender.playerName() + ": " + offender.rejected() + " rejected"));
+        }
     }
 
     /**
@@ -129,14 +204,48 @@ public class StatusHudCommand extends AbstractPlayerCommand {
         return playerHuds.get(playerId);
     }
 
+    /**
+     * Gets the service other systems use to post stat changes to player HUDs.
+     *
+     * @return the shared HUD update service
+     */
+    public HudUpdateService getUpdateService() {
+        return updateService;
+    }
+
     /**
      * Removes a player's HUD reference.
      *
-     * <p>Call this when a player disconnects to prevent memory leaks.
+     * <p>{@link UIPlugin} calls this when a player disconnects or leaves a world,
+     * to prevent memory leaks.
      *
      * @param playerId the player's UUID
      */
     public void cleanupPlayer(UUID playerId) {
-        playerHuds.remove(playerId);
+        if (playerHuds.remove(playerId) != null) {
+            evicted.increment();
+        }
+        updateService.forget(playerId);
+    }
+
+    /**
+     * Removes HUD entries whose player reference is no longer valid.
+     *
+     * <p>This is a safety net for entries missed by the disconnect and world change
+     * handlers; {@link UIPlugin} runs it periodically.
+     *
+     * @return the number of entries removed
+     */
+    public int sweepInvalid() {
+        int removed = 0;
+        for (Map.Entry<UUID, StatusHud> entry : playerHuds.entrySet()) {
+            if (!entry.getValue().getPlayerRef().isValid()
+                    && playerHuds.remove(entry.getKey(), entry.getValue())) {
+                updateService.forget(entry.getKey());
+                removed++;
+            }
+        }
+        swept.add(removed);
+        return removed;
     }
 }
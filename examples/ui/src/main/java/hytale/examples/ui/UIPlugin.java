@@ -1,20 +1,143 @@
 package hytale.examples.ui;
 
+import com.hypixel.hytale.component.Ref;
+import com.hypixel.hytale.server.core.entity.entities.Player;
+import com.hypixel.hytale.server.core.event.events.player.DrainPlayerFromWorldEvent;
+import com.hypixel.hytale.server.core.event.events.player.PlayerDisconnectEvent;
+import com.hypixel.hytale.server.core.event.events.player.PlayerReadyEvent;
 import com.hypixel.hytale.server.core.plugin.JavaPlugin;
 import com.hypixel.hytale.server.core.plugin.JavaPluginInit;
+import com.hypixel.hytale.server.core.universe.PlayerRef;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+import hytale.examples.shared.CommandRateLimiter;
+import hytale.examples.shared.PerfCommand;
+import hytale.examples.shared.Translations;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 
 public class UIPlugin extends JavaPlugin {
 
+    /** How often stale status HUD entries are swept, in seconds. */
+    private static final long HUD_SWEEP_INTERVAL_SECONDS = 60;
+
+    /** Classpath folder holding the {@code <locale>.lang} message files. */
+    private static final String LANG_RESOURCE_ROOT = "hytale/examples/ui/lang/";
+
+    private static UIPlugin instance;
+
+    private final CommandRateLimiter rateLimiter = new CommandRateLimiter();
+    private final Translations translations = new Translations(UIPlugin.class.getClassLoader(),
+        LANG_RESOURCE_ROOT, Translations.DEFAULT_MAX_LOCALES, Translations.DEFAULT_IDLE_NANOS);
+    private StatusHudCommand statusHudCommand;
+    private ScheduledExecutorService scheduler;
+
     public UIPlugin(JavaPluginInit init) {
         super(init);
+        instance = this;
     }
 
     @Override
     protected void setup() {
+        // Each /statushud update queues HUD work: bursts of 4, then 1 per second
+        rateLimiter.limit(StatusHudCommand.UPDATE_LIMIT, 4, 1.0);
+
+        // Per-player HUD layout, saved with the player so /hud show|hide survives a relog
+        HudVisibility.setComponentType(getEntityStoreRegistry().registerComponent(
+            HudVisibility.class, "HudVisibility", HudVisibility.CODEC));
+
+        statusHudCommand = new StatusHudCommand();
+
         getCommandRegistry().registerCommand(new MenuCommand());
+        getCommandRegistry().registerCommand(new LeaderboardCommand());
         getCommandRegistry().registerCommand(new HudCommand());
-        getCommandRegistry().registerCommand(new StatusHudCommand());
+        getCommandRegistry().registerCommand(statusHudCommand);
+        getCommandRegistry().registerCommand(new PerfCommand("ui", "ui-perf"));
+
+        // Flush queued HUD stat changes every tick, within the service's time budget
+        getEntityStoreRegistry().registerSystem(new HudUpdateSystem(statusHudCommand.getUpdateService()));
+
+        // Track every player's HUD layout, and restore the one they saved
+        getEventRegistry().registerGlobal(PlayerReadyEvent.class, event -> {
+            Player player = event.getPlayer();
+            PlayerRef playerRef = player.getPlayerRef();
+            Ref<EntityStore> ref = playerRef.getReference();
+            HudVisibility visibility = ref.getStore().ensureAndGetComponent(ref, HudVisibility.getComponentType());
+            visibility.apply(player.getHudManager(), playerRef);
+        });
+
+        // Drop HUD references when the player leaves - the client-side HUD is gone either way
+        getEventRegistry().register(PlayerDisconnectEvent.class, event ->
+            statusHudCommand.cleanupPlayer(event.getPlayerRef().getUuid()));
+        getEventRegistry().register(DrainPlayerFromWorldEvent.class, event -> {
+            PlayerRef playerRef = event.getHolder().getComponent(PlayerRef.getComponentType());
+            if (playerRef != null) {
+                statusHudCommand.cleanupPlayer(playerRef.getUuid());
+            }
+            // A world's /hud layout ends when the player leaves it
+            HudVisibility visibility = event.getHolder().getComponent(HudVisibility.getComponentType());
+            if (visibility != null) {
+                visibility.setOverride(null);
+                visibility.invalidate();
+            }
+        });
+
+        // Periodically sweep anything the handlers above missed, idle rate-limit buckets and
+        // locales nobody is using
+        scheduler = Executors.newSingleThreadScheduledExecutor();
+        @SuppressWarnings("unchecked")
+        ScheduledFuture<Void> sweep = (ScheduledFuture<Void>) scheduler.scheduleWithFixedDelay(this::sweep,
+            HUD_SWEEP_INTERVAL_SECONDS, HUD_SWEEP_INTERVAL_SECONDS, TimeUnit.SECONDS);
+        getTaskRegistry().registerTask(sweep);
 
         getLogger().atInfo().log("UIExample plugin loaded!");
     }
+
+    @Override
+    protected void shutdown() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    private void sweep() {
+        // An exception escaping a scheduleWithFixedDelay task cancels every later run
+        try {
+            int removed = statusHudCommand.sweepInvalid();
+            if (removed > 0) {
+                getLogger().atInfo().log("Swept " + removed + " stale status HUD entries");
+            }
+            rateLimiter.evictIdle();
+            translations.evictIdle();
+        } catch (RuntimeException e) {
+            getLogger().atSevere().withCause(e).log("Periodic sweep failed");
+        }
+    }
+
+    public static UIPlugin get() {
+        return instance;
+    }
+
+    /**
+     * Per-player rate limits for HUD commands.
+     */
+    public CommandRateLimiter getRateLimiter() {
+        return rateLimiter;
+    }
+
+    /**
+     * Localized feedback for /hud and /statushud.
+     */
+    public Translations getTranslations() {
+        return translations;
+    }
+
+    /**
+     * Service for posting health/mana changes to players' status HUDs from other systems.
+     */
+    public HudUpdateService getHudUpdateService() {
+        return statusHudCommand.getUpdateService();
+    }
 }
@@ -0,0 +1,127 @@
+package hytale.examples.ui;
+
+import com.hypixel.hytale.server.core.ui.builder.UICommandBuilder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A .ui file as compiled by the {@code compileUi} build step, shared by every player who
+ * is shown it.
+ *
+ * <p>Appending a template sends only its path; the client already has the compiled file
+ * from the asset pack. What the server can save is the per-player part: the build step
+ * records the literal {@code Text} of every named element in
+ * {@value #INDEX_RESOURCE}, and {@link #setText} leaves out any value that equals that
+ * default, because a freshly appended template already shows it. A build then carries only
+ * the player's differences from the template.
+ *
+ * <p>Templates are created once per path, on first use, and never change afterwards, so a
+ * single instance is shared read-only across players and threads. When the index is not on
+ * the classpath (e.g. a build without the compile step), templates have no defaults and
+ * every value is sent.
+ */
+public final class UITemplate {
+
+    /** Classpath location of the index written by {@code compileUi}. */
+    public static final String INDEX_RESOURCE = "hytale/examples/ui/ui-templates.index";
+
+    private static final Properties INDEX = loadIndex();
+    private static final Map<String, UITemplate> TEMPLATES = new ConcurrentHashMap<>();
+
+    private final String path;
+    private final Map<String, String> elementTypes = new HashMap<>();
+    private final Map<String, String> defaultTexts = new HashMap<>();
+
+    private UITemplate(String path) {
+        this.path = path;
+        String prefix = path + "#";
+        for (String key : INDEX.stringPropertyNames()) {
+            if (!key.startsWith(prefix)) {
+                continue;
+            }
+            String selector = key.substring(path.length());
+            if (selector.endsWith(".Text")) {
+                defaultTexts.put(selector, INDEX.getProperty(key));
+            } else {
+                elementTypes.put(selector, INDEX.getProperty(key));
+            }
+        }
+    }
+
+    /**
+     * Returns the shared template for a .ui file.
+     *
+     * @param path path relative to {@code Common/UI/Custom/}, e.g. {@code "StatusHud.ui"}
+     */
+    public static UITemplate get(String path) {
+        return TEMPLATES.computeIfAbsent(path, UITemplate::new);
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    /**
+     * Appends this template as the root of the page or HUD.
+     */
+    public void append(UICommandBuilder cmd) {
+        cmd.append(path);
+    }
+
+    /**
+     * Appends a copy of this template as the last child of {@code selector}.
+     */
+    public void append(UICommandBuilder cmd, String selector) {
+        cmd.append(selector, path);
+    }
+
+    /**
+     * Whether the compiled template has an element with this ID, e.g. {@code "#Title"}.
+     */
+    public boolean has(String elementId) {
+        return elementTypes.containsKey(elementId);
+    }
+
+    /**
+     * The {@code Text} the template gives an element, or null if it sets none or the
+     * template was not compiled.
+     *
+     * @param selector e.g. {@code "#Title.Text"}
+     */
+    public String getDefaultText(String selector) {
+        return defaultTexts.get(selector);
+    }
+
+    /**
+     * Sets an element's text unless a freshly appended copy of this template already
+     * shows it. Only valid while building, before anything else has changed the element.
+     *
+     * @param selector e.g. {@code "#Title.Text"}
+     * @return true if a command was added
+     */
+    public boolean setText(UICommandBuilder cmd, String selector, String text) {
+        if (text.equals(defaultTexts.get(selector))) {
+            return false;
+        }
+        cmd.set(selector, text);
+        return true;
+    }
+
+    private static Properties loadIndex() {
+        Properties index = new Properties();
+        try (InputStream in = UITemplate.class.getClassLoader().getResourceAsStream(INDEX_RESOURCE)) {
+            if (in != null) {
+                index.load(in);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read " + INDEX_RESOURCE, e);
+        }
+        return index;
+    }
+}
@@ -0,0 +1,30 @@
+package hytale.examples.ui.pages;
+
+import com.hypixel.hytale.server.core.universe.PlayerRef;
+
+import java.util.List;
+
+/**
+ * Ranked list of player scores, built on {@link VirtualListPage}.
+ * Columns: rank, player, score.
+ */
+public class LeaderboardPage extends VirtualListPage<LeaderboardPage.Entry> {
+
+    /** One ranked score. Immutable, so lists of entries can be shared between viewers. */
+    public record Entry(String playerName, long score) {
+    }
+
+    /** Row slots on the page. */
+    public static final int VISIBLE_ROWS = 20;
+
+    public LeaderboardPage(PlayerRef playerRef, List<Entry> entries) {
+        super(playerRef, "Leaderboard", entries, VISIBLE_ROWS);
+    }
+
+    @Override
+    protected void renderRow(Entry entry, int index, String[] cells) {
+        cells[0] = "#" + (index + 1);
+        cells[1] = entry.playerName();
+        cells[2] = Long.toString(entry.score());
+    }
+}
@@ -4,20 +4,45 @@ import com.hypixel.hytale.protocol.packets.interface_.CustomPageLifetime;
 import com.hypixel.hytale.server.core.entity.entities.player.pages.BasicCustomUIPage;
 import com.hypixel.hytale.server.core.ui.builder.UICommandBuilder;
 import com.hypixel.hytale.server.core.universe.PlayerRef;
+import hytale.examples.ui.UITemplate;
 
 /**
  * A simple custom UI page loaded from a .ui file.
  * This is a display-only page - press ESC to dismiss.
+ *
+ * <p>The title and subtitle can be overridden per player; values equal to the texts in
+ * {@code SimpleMenuPage.ui} are not sent.
  */
 public class SimpleMenuPage extends BasicCustomUIPage {
 
+    private static final UITemplate TEMPLATE = UITemplate.get("SimpleMenuPage.ui");
+
+    private final String title;
+    private final String subtitle;
+
     public SimpleMenuPage(PlayerRef playerRef) {
+        this(playerRef, null, null);
+    }
+
+    /**
+     * @param title text for {@code #Title}, or null to keep the template's
+     * @param subtitle text for {@code #Subtitle}, or null to keep the template's
+     */
+    public SimpleMenuPage(PlayerRef playerRef, String title, String subtitle) {
         super(playerRef, CustomPageLifetime.CanDismiss);
+        this.title = title;
+        this.subtitle = subtitle;
     }
 
     @Override
     public void build(UICommandBuilder cmd) {
         // Load UI from .ui file (path relative to Common/UI/Custom/)
-        cmd.append("SimpleMenuPage.ui");
+        TEMPLATE.append(cmd);
+        if (title != null) {
+            TEMPLATE.setText(cmd, "#Title.Text", title);
+        }
+        if (subtitle != null) {
+            TEMPLATE.setText(cmd, "#Subtitle.Text", subtitle);
+        }
     }
 }
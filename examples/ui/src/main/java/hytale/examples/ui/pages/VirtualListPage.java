@@ -0,0 +1,231 @@
+package hytale.examples.ui.pages;
+
+import com.hypixel.hytale.component.Ref;
+import com.hypixel.hytale.component.Store;
+import com.hypixel.hytale.protocol.packets.interface_.CustomPageLifetime;
+import com.hypixel.hytale.protocol.packets.interface_.CustomUIEventBindingType;
+import com.hypixel.hytale.server.core.entity.entities.player.pages.BasicCustomUIPage;
+import com.hypixel.hytale.server.core.ui.builder.UICommandBuilder;
+import com.hypixel.hytale.server.core.ui.builder.UIEventBuilder;
+import com.hypixel.hytale.server.core.universe.PlayerRef;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+import hytale.examples.ui.UITemplate;
+
+import java.util.List;
+
+/**
+ * A page for large lists that only ever sends the rows in view.
+ *
+ * <p>{@code VirtualListPage.ui} holds a fixed number of row slots, each a copy of
+ * {@code VirtualListRow.ui} appended into {@code #Rows} once, when the page opens. Scrolling
+ * and paging never add or remove elements: the rows coming into view are written into the
+ * existing slots, addressed as {@code #Rows[slot] #CellN}, and only cells whose text
+ * differs from what the slot already shows go out, in one incremental update. On the first
+ * build, cells matching the compiled row template's text are left out too.
+ *
+ * <p>Rows come from an immutable {@code List} that any number of viewers can share. To
+ * change the data, give each page a new list with {@link #setRows(List)}. Because lists
+ * are never changed in place, what a slot shows now can be re-derived from the previous
+ * list and offset, so per-viewer state is an offset, a list reference and two scratch
+ * arrays of {@link #COLUMNS} cells - the same few dozen bytes whether the list holds ten
+ * rows or a million.
+ *
+ * <p>Events and updates arrive on the world thread; a page is not thread-safe.
+ *
+ * @param <T> the row type
+ */
+public abstract class VirtualListPage<T> extends BasicCustomUIPage {
+
+    /** Cells per row in {@code VirtualListRow.ui}. */
+    public static final int COLUMNS = 3;
+
+    private static final UITemplate LAYOUT = UITemplate.get("VirtualListPage.ui");
+    private static final UITemplate ROW = UITemplate.get("VirtualListRow.ui");
+    private static final String[] CELL_DEFAULTS = cellDefaults();
+
+    private static final String UP = "Up";
+    private static final String DOWN = "Down";
+    private static final String PREV_PAGE = "PrevPage";
+    private static final String NEXT_PAGE = "NextPage";
+
+    private final String title;
+    private final int visibleRows;
+    private final String[] cells = new String[COLUMNS];
+    private final String[] previousCells = new String[COLUMNS];
+
+    private List<T> rows;
+    private int offset;
+
+    /**
+     * @param rows the shared, immutable rows to list
+     * @param visibleRows number of row slots on the page
+     */
+    protected VirtualListPage(PlayerRef playerRef, String title, List<T> rows, int visibleRows) {
+        super(playerRef, CustomPageLifetime.CanDismiss);
+        if (visibleRows < 1) {
+            throw new IllegalArgumentException("A list page needs at least one row: " + visibleRows);
+        }
+        this.title = title;
+        this.rows = rows;
+        this.visibleRows = visibleRows;
+    }
+
+    /**
+     * Writes the text of one row into {@code cells}, which arrive filled with empty strings.
+     * Must give the same text for the same row and index every time.
+     *
+     * @param row the row
+     * @param index the row's position in the list
+     * @param cells one entry per column
+     */
+    protected abstract void renderRow(T row, int index, String[] cells);
+
+    @Override
+    public void build(UICommandBuilder cmd) {
+        LAYOUT.append(cmd);
+        LAYOUT.setText(cmd, "#Title.Text", title);
+        for (int slot = 0; slot < visibleRows; slot++) {
+            ROW.append(cmd, "#Rows");
+        }
+        render(cmd, null, 0);
+    }
+
+    @Override
+    public void build(Ref<EntityStore> ref, UICommandBuilder cmdBuilder,
+                      UIEventBuilder eventBuilder, Store<EntityStore> store) {
+        build(cmdBuilder);
+        eventBuilder.addEventBinding(CustomUIEventBindingType.Activating, UP);
+        eventBuilder.addEventBinding(CustomUIEventBindingType.Activating, DOWN);
+        eventBuilder.addEventBinding(CustomUIEventBindingType.Activating, PREV_PAGE);
+        eventBuilder.addEventBinding(CustomUIEventBindingType.Activating, NEXT_PAGE);
+    }
+
+    @Override
+    public void handleDataEvent(Ref<EntityStore> ref, Store<EntityStore> store, String data) {
+        switch (data) {
+            case UP -> scrollTo(offset - 1);
+            case DOWN -> scrollTo(offset + 1);
+            case PREV_PAGE -> scrollTo(offset - visibleRows);
+            case NEXT_PAGE -> scrollTo(offset + visibleRows);
+            default -> {
+            }
+        }
+    }
+
+    /**
+     * Scrolls so that {@code index} is the first visible row, as far as the list allows.
+     */
+    public void scrollTo(int index) {
+        int target = clamp(index, rows.size());
+        if (target != offset) {
+            show(rows, target);
+        }
+    }
+
+    /**
+     * Replaces the listed rows, keeping the scroll position where possible, and sends
+     * the cells that changed.
+     */
+    public void setRows(List<T> newRows) {
+        show(newRows, clamp(offset, newRows.size()));
+    }
+
+    public int getOffset() {
+        return offset;
+    }
+
+    public int getVisibleRows() {
+        return visibleRows;
+    }
+
+    private void show(List<T> newRows, int newOffset) {
+        List<T> previousRows = rows;
+        int previousOffset = offset;
+        rows = newRows;
+        offset = newOffset;
+
+        UICommandBuilder cmd = new UICommandBuilder();
+        if (render(cmd, previousRows, previousOffset)) {
+            sendUpdate(cmd, false);
+        }
+    }
+
+    /**
+     * Writes the current window into the row slots. Given what was shown before, only
+     * the differences are written; with {@code previousRows == null}, everything is.
+     *
+     * @return true if anything was written
+     */
+    private boolean render(UICommandBuilder cmd, List<T> previousRows, int previousOffset) {
+        boolean full = previousRows == null;
+        boolean changed = full;
+
+        for (int slot = 0; slot < visibleRows; slot++) {
+            String selector = "#Rows[" + slot + "]";
+            int index = offset + slot;
+            int previousIndex = previousOffset + slot;
+            boolean shown = index < rows.size();
+            boolean wasShown = !full && previousIndex < previousRows.size();
+
+            if (shown != wasShown || full) {
+                cmd.set(selector + ".Visible", shown);
+                changed = true;
+            }
+            if (!shown) {
+                continue;
+            }
+            T row = rows.get(index);
+            if (wasShown && index == previousIndex && row == previousRows.get(previousIndex)) {
+                continue;
+            }
+
+            fill(cells, row, index);
+            if (wasShown) {
+                fill(previousCells, previousRows.get(previousIndex), previousIndex);
+            }
+            // A freshly appended slot already shows the row template's text
+            String[] shownCells = wasShown ? previousCells : full ? CELL_DEFAULTS : null;
+            for (int column = 0; column < COLUMNS; column++) {
+                if (shownCells == null || !cells[column].equals(shownCells[column])) {
+                    cmd.set(selector + " #Cell" + column + ".Text", cells[column]);
+                    changed = true;
+                }
+            }
+        }
+
+        String position = position(rows.size(), offset);
+        String previousPosition = full ? LAYOUT.getDefaultText("#Position.Text")
+            : position(previousRows.size(), previousOffset);
+        if (!position.equals(previousPosition)) {
+            cmd.set("#Position.Text", position);
+            changed = true;
+        }
+        return changed;
+    }
+
+    private void fill(String[] target, T row, int index) {
+        for (int column = 0; column < COLUMNS; column++) {
+            target[column] = "";
+        }
+        renderRow(row, index, target);
+    }
+
+    private String position(int size, int first) {
+        if (size == 0) {
+            return "No entries";
+        }
+        return "Rows " + (first + 1) + "-" + Math.min(size, first + visibleRows) + " of " + size;
+    }
+
+    private static String[] cellDefaults() {
+        String[] defaults = new String[COLUMNS];
+        for (int column = 0; column < COLUMNS; column++) {
+            defaults[column] = ROW.getDefaultText("#Cell" + column + ".Text");
+        }
+        return defaults;
+    }
+
+    private int clamp(int index, int size) {
+        return Math.max(0, Math.min(index, size - visibleRows));
+    }
+}